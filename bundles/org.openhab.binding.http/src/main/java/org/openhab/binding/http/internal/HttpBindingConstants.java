@@ -32,4 +32,8 @@ public class HttpBindingConstants {
             "request-date-time");
     public static final String CHANNEL_LAST_SUCCESS = "last-success";
     public static final String CHANNEL_LAST_FAILURE = "last-failure";
+    public static final ChannelTypeUID REQUEST_DURATION_CHANNELTYPE_UID = new ChannelTypeUID(BINDING_ID,
+            "request-duration");
+    public static final String CHANNEL_QUEUE_WAIT_TIME = "queue-wait-time";
+    public static final String CHANNEL_REQUEST_LATENCY = "request-latency";
 }
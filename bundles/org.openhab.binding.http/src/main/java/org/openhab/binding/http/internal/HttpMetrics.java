@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.io.metrics.spi.MetricsRecorder;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Reports metrics of HTTP requests to the metrics service.
+ *
+ * The component is only activated while the metrics service provides a {@link MetricsRecorder}, and the handler factory
+ * references it optionally, so the binding does not load the metrics SPI when the metrics service is not installed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = HttpMetrics.class)
+@NonNullByDefault
+public class HttpMetrics {
+
+    private final MetricsRecorder recorder;
+
+    @Activate
+    public HttpMetrics(final @Reference MetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Record a completed request
+     *
+     * @param thing UID of the thing the request was sent for
+     * @param host the requested host
+     * @param method the request method
+     * @param latencyNanos time from sending the request until the response was complete
+     * @param failed whether the request failed or returned an error status
+     */
+    public void requestCompleted(ThingUID thing, String host, String method, long latencyNanos, boolean failed) {
+        String thingUID = thing.getAsString();
+        recorder.recordTime("openhab.http.request", latencyNanos, "thing", thingUID, "host", host, "method", method);
+        if (failed) {
+            recorder.increment("openhab.http.request.errors", "thing", thingUID, "host", host, "method", method);
+        }
+    }
+
+    /**
+     * Remove the meters of a thing whose handler is disposed
+     *
+     * @param thing UID of the thing
+     */
+    public void thingDisposed(ThingUID thing) {
+        recorder.removeMeters("thing", thing.getAsString());
+    }
+}
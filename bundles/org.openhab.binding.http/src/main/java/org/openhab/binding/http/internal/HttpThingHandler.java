@@ -14,11 +14,15 @@ package org.openhab.binding.http.internal;
 
 import static org.openhab.binding.http.internal.HttpBindingConstants.CHANNEL_LAST_FAILURE;
 import static org.openhab.binding.http.internal.HttpBindingConstants.CHANNEL_LAST_SUCCESS;
+import static org.openhab.binding.http.internal.HttpBindingConstants.CHANNEL_QUEUE_WAIT_TIME;
+import static org.openhab.binding.http.internal.HttpBindingConstants.CHANNEL_REQUEST_LATENCY;
 import static org.openhab.binding.http.internal.HttpBindingConstants.REQUEST_DATE_TIME_CHANNELTYPE_UID;
+import static org.openhab.binding.http.internal.HttpBindingConstants.REQUEST_DURATION_CHANNELTYPE_UID;
 
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -30,6 +34,10 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.measure.Unit;
+import javax.measure.quantity.Time;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -44,10 +52,14 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.MetricPrefix;
+import org.openhab.core.library.unit.Units;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -84,12 +96,15 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class HttpThingHandler extends BaseThingHandler implements HttpStatusListener {
     private static final Set<Character> URL_PART_DELIMITER = Set.of('/', '?', '&');
+    private static final Unit<Time> MILLISECOND = MetricPrefix.MILLI(Units.SECOND);
 
     private final Logger logger = LoggerFactory.getLogger(HttpThingHandler.class);
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
+    private final RefreshingUrlCacheRegistry urlCacheRegistry;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
+    private final Supplier<@Nullable HttpMetrics> metrics;
 
     private HttpThingConfig config = new HttpThingConfig();
     private final Map<String, RefreshingUrlCache> urlHandlers = new HashMap<>();
@@ -97,11 +112,14 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
     public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
+            RefreshingUrlCacheRegistry urlCacheRegistry,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
-            TimeZoneProvider timeZoneProvider) {
+            TimeZoneProvider timeZoneProvider, Supplier<@Nullable HttpMetrics> metrics) {
         super(thing);
+        this.metrics = metrics;
         this.httpClientProvider = httpClientProvider;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
+        this.urlCacheRegistry = urlCacheRegistry;
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
     }
@@ -167,6 +185,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             rateLimitedHttpClient.setHttpClient(httpClientProvider.getSecureClient());
         }
         rateLimitedHttpClient.setDelay(config.delay);
+        rateLimitedHttpClient.setBurstSize(Math.max(1, config.burstSize));
+        rateLimitedHttpClient.setMaxConcurrentRequests(Math.max(0, config.maxConcurrentRequests));
 
         // remove empty headers
         config.headers.removeIf(String::isBlank);
@@ -236,7 +256,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
                     urlHandlerCount, thing.getUID(), config.delay, config.refresh);
         }
 
-        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, config.refresh));
+        urlHandlers.values().forEach(urlHandler -> urlHandler.start(scheduler, this, config.refresh));
 
         updateStatus(ThingStatus.UNKNOWN);
     }
@@ -244,7 +264,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     @Override
     public void dispose() {
         // stop update tasks
-        urlHandlers.values().forEach(RefreshingUrlCache::stop);
+        urlHandlers.values().forEach(urlHandler -> urlCacheRegistry.unsubscribe(urlHandler, this));
         rateLimitedHttpClient.shutdown();
 
         // clear lists
@@ -255,6 +275,11 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         // remove state descriptions
         httpDynamicStateDescriptionProvider.removeDescriptionsForThing(thing.getUID());
 
+        HttpMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.thingDisposed(thing.getUID());
+        }
+
         super.dispose();
     }
 
@@ -264,8 +289,9 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
      * @param channel a thing channel
      */
     private void createChannel(Channel channel) {
-        if (REQUEST_DATE_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())) {
-            // do not generate refreshUrls for lastSuccess / lastFailure channels
+        if (REQUEST_DATE_TIME_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())
+                || REQUEST_DURATION_CHANNELTYPE_UID.equals(channel.getChannelTypeUID())) {
+            // do not generate refreshUrls for the request status channels
             return;
         }
         ChannelUID channelUID = channel.getUID();
@@ -333,10 +359,8 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             String key = channelConfig.stateContent + "$" + stateUrl;
             channelUrls.put(channelUID, key);
             Objects.requireNonNull(
-                    urlHandlers.computeIfAbsent(key,
-                            k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config,
-                                    channelConfig.stateContent, config.contentType, this)))
-                    .addConsumer(itemValueConverter::process);
+                    urlHandlers.computeIfAbsent(key, k -> createUrlCache(stateUrl, channelConfig.stateContent)))
+                    .addConsumer(this, itemValueConverter::process);
         }
 
         StateDescription stateDescription = StateDescriptionFragmentBuilder.create()
@@ -347,6 +371,14 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         }
     }
 
+    private RefreshingUrlCache createUrlCache(String stateUrl, String stateContent) {
+        if (config.delay == 0 && config.maxConcurrentRequests == 0) {
+            // requests without rate limit can be shared with other things polling the same URL
+            return urlCacheRegistry.subscribe(stateUrl, config, stateContent, config.contentType, this);
+        }
+        return new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, stateContent, config.contentType, this);
+    }
+
     @Override
     public void onHttpError(@Nullable String message) {
         updateState(CHANNEL_LAST_FAILURE, new DateTimeType(Instant.now().atZone(timeZoneProvider.getTimeZone())));
@@ -362,6 +394,20 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
         updateStatus(ThingStatus.ONLINE);
     }
 
+    @Override
+    public void onHttpTiming(Duration queueWait, Duration latency) {
+        updateState(CHANNEL_QUEUE_WAIT_TIME, new QuantityType<>(queueWait.toMillis(), MILLISECOND));
+        updateState(CHANNEL_REQUEST_LATENCY, new QuantityType<>(latency.toMillis(), MILLISECOND));
+    }
+
+    @Override
+    public void onHttpRequestCompleted(String host, String method, long latencyNanos, boolean failed) {
+        HttpMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.requestCompleted(thing.getUID(), host, method, latencyNanos, failed);
+        }
+    }
+
     private void sendHttpValue(String commandUrl, String command) {
         sendHttpValue(commandUrl, command, false);
     }
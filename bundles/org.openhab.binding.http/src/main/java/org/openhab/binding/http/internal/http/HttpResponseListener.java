@@ -13,6 +13,7 @@
 package org.openhab.binding.http.internal.http;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -35,10 +36,17 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class HttpResponseListener extends BufferingResponseListener {
+    /**
+     * The content the future is completed with if a conditional request returned "304 Not Modified"
+     */
+    public static final ChannelHandlerContent NOT_MODIFIED = new ChannelHandlerContent(new byte[0],
+            StandardCharsets.UTF_8.name(), null);
+
     private final Logger logger = LoggerFactory.getLogger(HttpResponseListener.class);
     private final CompletableFuture<@Nullable ChannelHandlerContent> future;
     private final HttpStatusListener httpStatusListener;
     private final String fallbackEncoding;
+    private final long startNanos = System.nanoTime();
 
     /**
      * the HttpResponseListener is responsible
@@ -62,6 +70,11 @@ public class HttpResponseListener extends BufferingResponseListener {
             logger.trace("Received from '{}': {}", result.getRequest().getURI(), responseToLogString(response));
         }
         Request request = result.getRequest();
+        if (response != null && !result.isFailed()) {
+            reportTiming(request);
+        }
+        reportCompletion(request, response == null || result.isFailed() || (!HttpStatus.isSuccess(response.getStatus())
+                && response.getStatus() != HttpStatus.NOT_MODIFIED_304));
         if (response == null || (result.isFailed() && response.getStatus() != HttpStatus.UNAUTHORIZED_401)) {
             logger.debug("Requesting '{}' (method='{}', content='{}') failed: {}", request.getURI(),
                     request.getMethod(), request.getContent(), result.getFailure().getMessage());
@@ -87,6 +100,10 @@ public class HttpResponseListener extends BufferingResponseListener {
                     }
                     httpStatusListener.onHttpSuccess();
                     break;
+                case HttpStatus.NOT_MODIFIED_304:
+                    future.complete(NOT_MODIFIED);
+                    httpStatusListener.onHttpSuccess();
+                    break;
                 case HttpStatus.UNAUTHORIZED_401:
                     logger.debug("Requesting '{}' (method='{}', content='{}') failed: Authorization error",
                             request.getURI(), request.getMethod(), request.getContent());
@@ -101,6 +118,18 @@ public class HttpResponseListener extends BufferingResponseListener {
         }
     }
 
+    private void reportTiming(Request request) {
+        Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+        Object queueWait = request.getAttributes().get(RateLimitedHttpClient.QUEUE_WAIT_ATTRIBUTE);
+        httpStatusListener.onHttpTiming(queueWait instanceof Duration duration ? duration : Duration.ZERO, latency);
+    }
+
+    private void reportCompletion(Request request, boolean failed) {
+        String host = request.getHost();
+        httpStatusListener.onHttpRequestCompleted(host != null ? host : "", request.getMethod(),
+                System.nanoTime() - startNanos, failed);
+    }
+
     private String responseToLogString(Response response) {
         String logString = "Code = {" + response.getStatus() + "}, Headers = {"
                 + response.getHeaders().stream().map(HttpField::toString).collect(Collectors.joining(", "))
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.http.internal.http;
 
+import java.time.Duration;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -33,4 +35,24 @@ public interface HttpStatusListener {
      * report a successful request
      */
     void onHttpSuccess();
+
+    /**
+     * report the timing of a request which received a response
+     *
+     * @param queueWait the time the request waited for the rate limit
+     * @param latency the time from sending the request until the response was complete
+     */
+    default void onHttpTiming(Duration queueWait, Duration latency) {
+    }
+
+    /**
+     * report a completed request for metrics, including failed requests
+     *
+     * @param host the requested host
+     * @param method the request method
+     * @param latencyNanos the time from sending the request until the response was complete or the request failed
+     * @param failed whether the request failed or returned an error status
+     */
+    default void onHttpRequestCompleted(String host, String method, long latencyNanos, boolean failed) {
+    }
 }
@@ -13,9 +13,15 @@
 package org.openhab.binding.http.internal.http;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -27,30 +33,51 @@ import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
 import org.eclipse.jetty.client.api.AuthenticationStore;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
 import org.eclipse.jetty.client.util.StringContentProvider;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link RateLimitedHttpClient} is a wrapper for a Jetty HTTP client that limits the number of requests by delaying
  * the request creation
+ * <p>
+ * Requests are limited per host by a token bucket: a token is added every <code>delay</code> ms, up to
+ * <code>burstSize</code> tokens, and every request takes one. The number of requests in progress can be limited, too.
+ * If the host answers with 429 (Too Many Requests) or 503 (Service Unavailable), or its latency increases strongly,
+ * the client backs off: the time between two requests is increased and fewer requests are sent in parallel until the
+ * host answers normally again.
+ * <p>
+ * The created requests need to be sent, as the limits are released when a request completes.
  *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class RateLimitedHttpClient {
-    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size
+    /**
+     * Request attribute holding the time the request waited in the queue as {@link Duration}
+     */
+    public static final String QUEUE_WAIT_ATTRIBUTE = RateLimitedHttpClient.class.getName() + ".queueWait";
+
+    private static final int MAX_QUEUE_SIZE = 1000; // maximum queue size per host
+    private static final long INITIAL_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60000;
+    private static final int MAX_ADAPTIVE_CONCURRENCY = 16; // above this, the adaptive limit is lifted again
+    private static final int OVERLOAD_LATENCY_FACTOR = 4; // latency above this multiple of the usual latency
+    private static final long MIN_OVERLOAD_LATENCY_NS = TimeUnit.MILLISECONDS.toNanos(100);
+
     private final Logger logger = LoggerFactory.getLogger(RateLimitedHttpClient.class);
 
     private HttpClient httpClient;
-    private int delay = 0; // in ms
+    private volatile int delay = 0; // in ms
+    private volatile int burstSize = 1;
+    private volatile int maxConcurrentRequests = 0; // 0 = no limit
     private final ScheduledExecutorService scheduler;
-    private final LinkedBlockingQueue<RequestQueueEntry> requestQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
-    private final LinkedBlockingQueue<RequestQueueEntry> priorityRequestQueue = new LinkedBlockingQueue<>(
-            MAX_QUEUE_SIZE);
-
-    private @Nullable ScheduledFuture<?> processJob;
+    private final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
 
     public RateLimitedHttpClient(HttpClient httpClient, ScheduledExecutorService scheduler) {
         this.httpClient = httpClient;
@@ -61,8 +88,8 @@ public class RateLimitedHttpClient {
      * Stop processing the queue and clear it
      */
     public void shutdown() {
-        stopProcessJob();
-        requestQueue.forEach(RequestQueueEntry::cancel);
+        hostLimiters.values().forEach(HostLimiter::cancel);
+        hostLimiters.clear();
     }
 
     /**
@@ -75,10 +102,32 @@ public class RateLimitedHttpClient {
             throw new IllegalArgumentException("Delay needs to be larger or equal to zero");
         }
         this.delay = delay;
-        stopProcessJob();
-        if (delay != 0) {
-            processJob = scheduler.scheduleWithFixedDelay(this::processQueue, 0, delay, TimeUnit.MILLISECONDS);
+        hostLimiters.values().forEach(HostLimiter::dispatch);
+    }
+
+    /**
+     * Set the number of requests which may be sent without delay after a pause
+     *
+     * @param burstSize maximum number of requests sent at once (1 = always wait the delay between two requests)
+     */
+    public void setBurstSize(int burstSize) {
+        if (burstSize < 1) {
+            throw new IllegalArgumentException("Burst size needs to be larger or equal to one");
+        }
+        this.burstSize = burstSize;
+    }
+
+    /**
+     * Set the maximum number of requests in progress per host
+     *
+     * @param maxConcurrentRequests the maximum number of requests in progress (0 = no limit)
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Maximum concurrent requests need to be larger or equal to zero");
         }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        hostLimiters.values().forEach(HostLimiter::dispatch);
     }
 
     /**
@@ -100,7 +149,7 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, requestQueue);
+        return queueRequest(finalUrl, method, content, contentType, false);
     }
 
     /**
@@ -113,21 +162,20 @@ public class RateLimitedHttpClient {
      */
     public CompletableFuture<Request> newPriorityRequest(URI finalUrl, HttpMethod method, String content,
             @Nullable String contentType) {
-        return queueRequest(finalUrl, method, content, contentType, priorityRequestQueue);
+        return queueRequest(finalUrl, method, content, contentType, true);
     }
 
     private CompletableFuture<Request> queueRequest(URI finalUrl, HttpMethod method, String content,
-            @Nullable String contentType, LinkedBlockingQueue<RequestQueueEntry> queue) {
-        // if no delay is set, return a completed CompletableFuture
+            @Nullable String contentType, boolean priority) {
         CompletableFuture<Request> future = new CompletableFuture<>();
         RequestQueueEntry queueEntry = new RequestQueueEntry(finalUrl, method, content, contentType, future);
-        if (delay == 0) {
-            queueEntry.completeFuture(httpClient);
+        HostLimiter hostLimiter = hostLimiters.computeIfAbsent(finalUrl.getScheme() + "://" + finalUrl.getAuthority(),
+                HostLimiter::new);
+        if (hostLimiter.offer(queueEntry, priority)) {
+            // if no limit applies, the future is completed immediately
+            hostLimiter.dispatch();
         } else {
-            if (!queue.offer(queueEntry)) {
-                future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
-            }
-
+            future.completeExceptionally(new RejectedExecutionException("Maximum queue size exceeded."));
         }
         return future;
     }
@@ -160,26 +208,175 @@ public class RateLimitedHttpClient {
         }
     }
 
-    private void stopProcessJob() {
-        ScheduledFuture<?> processJob = this.processJob;
-        if (processJob != null) {
-            processJob.cancel(false);
-            this.processJob = null;
-        }
-    }
-
     /**
-     * Gets a request from either the priority queue or tge regular queue and creates the request
+     * The queues and limits of a single host
      */
-    private void processQueue() {
-        RequestQueueEntry queueEntry = priorityRequestQueue.poll();
-        if (queueEntry == null) {
-            // no entry in priorityRequestQueue, try the regular queue
-            queueEntry = requestQueue.poll();
+    private class HostLimiter {
+        private final String host;
+        private final Queue<RequestQueueEntry> requestQueue = new ArrayDeque<>();
+        private final Queue<RequestQueueEntry> priorityRequestQueue = new ArrayDeque<>();
+        private @Nullable ScheduledFuture<?> dispatchJob;
+
+        private double tokens = burstSize;
+        private long lastRefillNanos = System.nanoTime();
+        private int requestsInProgress;
+        private int adaptiveConcurrency; // 0 = no adaptive limit
+        private long backoffMs;
+        private long usualLatencyNanos;
+
+        HostLimiter(String host) {
+            this.host = host;
         }
-        if (queueEntry != null) {
-            queueEntry.completeFuture(httpClient);
+
+        synchronized boolean offer(RequestQueueEntry queueEntry, boolean priority) {
+            Queue<RequestQueueEntry> queue = priority ? priorityRequestQueue : requestQueue;
+            if (queue.size() >= MAX_QUEUE_SIZE) {
+                return false;
+            }
+            return queue.add(queueEntry);
+        }
+
+        /**
+         * Create the requests allowed by the limits. If the rate limit prevents this, a later dispatch is scheduled.
+         */
+        void dispatch() {
+            List<RequestQueueEntry> dispatched = new ArrayList<>();
+            synchronized (this) {
+                long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(delay, backoffMs));
+                refill(intervalNanos);
+                int concurrencyLimit = getConcurrencyLimit();
+                while (!(priorityRequestQueue.isEmpty() && requestQueue.isEmpty())
+                        && (concurrencyLimit == 0 || requestsInProgress < concurrencyLimit)) {
+                    if (intervalNanos > 0 && tokens < 1) {
+                        scheduleDispatch((long) Math.ceil((1 - tokens) * intervalNanos));
+                        break;
+                    }
+                    RequestQueueEntry queueEntry = priorityRequestQueue.poll();
+                    if (queueEntry == null) {
+                        // no entry in priorityRequestQueue, try the regular queue
+                        queueEntry = requestQueue.remove();
+                    }
+                    if (intervalNanos > 0) {
+                        tokens--;
+                    }
+                    requestsInProgress++;
+                    dispatched.add(queueEntry);
+                }
+            }
+            // completing the futures sends the requests, so this is done without holding the lock
+            dispatched.forEach(queueEntry -> queueEntry.completeFuture(httpClient, this::requestCompleted));
         }
+
+        private void refill(long intervalNanos) {
+            long now = System.nanoTime();
+            // no bursts while backing off
+            int capacity = backoffMs > 0 ? 1 : burstSize;
+            if (intervalNanos == 0) {
+                tokens = capacity;
+            } else {
+                tokens = Math.min(capacity, tokens + (double) (now - lastRefillNanos) / intervalNanos);
+            }
+            lastRefillNanos = now;
+        }
+
+        private int getConcurrencyLimit() {
+            int maxConcurrentRequests = RateLimitedHttpClient.this.maxConcurrentRequests;
+            if (adaptiveConcurrency == 0) {
+                return maxConcurrentRequests;
+            }
+            return maxConcurrentRequests == 0 ? adaptiveConcurrency
+                    : Math.min(adaptiveConcurrency, maxConcurrentRequests);
+        }
+
+        private void scheduleDispatch(long delayNanos) {
+            if (dispatchJob == null) {
+                dispatchJob = scheduler.schedule(() -> {
+                    synchronized (this) {
+                        dispatchJob = null;
+                    }
+                    dispatch();
+                }, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private void requestCompleted(Result result, long latencyNanos) {
+            Response response = result.getResponse();
+            synchronized (this) {
+                requestsInProgress--;
+                if (response != null && (response.getStatus() == HttpStatus.TOO_MANY_REQUESTS_429
+                        || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE_503)) {
+                    backOff(getRetryAfterMs(response), response.getStatus() + " " + response.getReason());
+                } else if (!result.isFailed()) {
+                    if (usualLatencyNanos > 0 && latencyNanos > MIN_OVERLOAD_LATENCY_NS
+                            && latencyNanos > OVERLOAD_LATENCY_FACTOR * usualLatencyNanos) {
+                        backOff(0, "latency " + TimeUnit.NANOSECONDS.toMillis(latencyNanos) + " ms");
+                    } else {
+                        // moving average of the latency while the host is not overloaded
+                        usualLatencyNanos = usualLatencyNanos == 0 ? latencyNanos
+                                : (7 * usualLatencyNanos + latencyNanos) / 8;
+                        recover();
+                    }
+                }
+            }
+            dispatch();
+        }
+
+        private void backOff(long retryAfterMs, String reason) {
+            backoffMs = Math.min(MAX_BACKOFF_MS,
+                    Math.max(retryAfterMs, backoffMs == 0 ? INITIAL_BACKOFF_MS : 2 * backoffMs));
+            int concurrency = adaptiveConcurrency == 0 ? requestsInProgress + 1
+                    : Math.min(adaptiveConcurrency, requestsInProgress + 1);
+            adaptiveConcurrency = Math.max(1, concurrency / 2);
+            tokens = Math.min(tokens, 0);
+            logger.debug("Host '{}' is overloaded ({}), waiting {} ms between requests, at most {} in progress", host,
+                    reason, backoffMs, adaptiveConcurrency);
+        }
+
+        private void recover() {
+            if (backoffMs > 0) {
+                backoffMs = backoffMs / 2 < INITIAL_BACKOFF_MS ? 0 : backoffMs / 2;
+            }
+            if (adaptiveConcurrency > 0) {
+                adaptiveConcurrency++;
+                int maxConcurrentRequests = RateLimitedHttpClient.this.maxConcurrentRequests;
+                if (adaptiveConcurrency > (maxConcurrentRequests == 0 ? MAX_ADAPTIVE_CONCURRENCY
+                        : maxConcurrentRequests)) {
+                    adaptiveConcurrency = 0;
+                }
+            }
+            if (backoffMs == 0 && adaptiveConcurrency == 0) {
+                logger.debug("Host '{}' recovered", host);
+            }
+        }
+
+        private long getRetryAfterMs(Response response) {
+            String retryAfter = response.getHeaders().get(HttpHeader.RETRY_AFTER);
+            if (retryAfter != null) {
+                try {
+                    return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+                } catch (NumberFormatException e) {
+                    // HTTP dates are not supported, the backoff is used instead
+                }
+            }
+            return 0;
+        }
+
+        synchronized void cancel() {
+            ScheduledFuture<?> dispatchJob = this.dispatchJob;
+            if (dispatchJob != null) {
+                dispatchJob.cancel(false);
+                this.dispatchJob = null;
+            }
+            priorityRequestQueue.forEach(RequestQueueEntry::cancel);
+            priorityRequestQueue.clear();
+            requestQueue.forEach(RequestQueueEntry::cancel);
+            requestQueue.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface CompletionListener {
+        void requestCompleted(Result result, long latencyNanos);
     }
 
     private static class RequestQueueEntry {
@@ -188,6 +385,7 @@ public class RateLimitedHttpClient {
         private final String content;
         private final @Nullable String contentType;
         private final CompletableFuture<Request> future;
+        private final long queuedNanos = System.nanoTime();
 
         public RequestQueueEntry(URI finalUrl, HttpMethod method, String content, @Nullable String contentType,
                 CompletableFuture<Request> future) {
@@ -202,8 +400,10 @@ public class RateLimitedHttpClient {
          * complete the future with a request
          *
          * @param httpClient the client to create the request
+         * @param completionListener notified when the request is complete
          */
-        public void completeFuture(HttpClient httpClient) {
+        public void completeFuture(HttpClient httpClient, CompletionListener completionListener) {
+            long dispatchNanos = System.nanoTime();
             Request request = httpClient.newRequest(finalUrl).method(method);
             if ((method == HttpMethod.POST || method == HttpMethod.PUT) && !content.isEmpty()) {
                 if (contentType == null) {
@@ -212,6 +412,9 @@ public class RateLimitedHttpClient {
                     request.content(new StringContentProvider(content), contentType);
                 }
             }
+            request.attribute(QUEUE_WAIT_ATTRIBUTE, Duration.ofNanos(dispatchNanos - queuedNanos));
+            request.onComplete(
+                    result -> completionListener.requestCompleted(result, System.nanoTime() - dispatchNanos));
             future.complete(request);
         }
 
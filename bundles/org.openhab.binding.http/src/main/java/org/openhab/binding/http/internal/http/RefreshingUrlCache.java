@@ -15,8 +15,11 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -29,7 +32,11 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
@@ -39,6 +46,10 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link RefreshingUrlCache} is responsible for requesting from a single URL and passing the content to the
  * channels
+ * <p>
+ * A cache can be shared by several things (subscribers), it is refreshed with the shortest refresh time of them.
+ * GET requests are made conditional once the server provided an <code>ETag</code> or <code>Last-Modified</code>
+ * header. The content is only passed to the channels if it changed since the last request.
  *
  * @author Jan N. Klug - Initial contribution
  */
@@ -52,16 +63,46 @@ public class RefreshingUrlCache {
     private final int timeout;
     private final int bufferSize;
     private final @Nullable String fallbackEncoding;
-    private final Set<Consumer<@Nullable ChannelHandlerContent>> consumers = ConcurrentHashMap.newKeySet();
+    private final Map<HttpStatusListener, Set<Consumer<@Nullable ChannelHandlerContent>>> subscribers = //
+            new ConcurrentHashMap<>();
+    private final Map<HttpStatusListener, Integer> refreshTimes = new ConcurrentHashMap<>();
     private final Map<String, String> headers;
     private final HttpMethod httpMethod;
     private final String httpContent;
     private final @Nullable String httpContentType;
-    private final HttpStatusListener httpStatusListener;
+    private final HttpStatusListener httpStatusListener = new HttpStatusListener() {
+        @Override
+        public void onHttpError(@Nullable String message) {
+            subscribers.keySet().forEach(listener -> listener.onHttpError(message));
+        }
+
+        @Override
+        public void onHttpSuccess() {
+            subscribers.keySet().forEach(HttpStatusListener::onHttpSuccess);
+        }
+
+        @Override
+        public void onHttpTiming(Duration queueWait, Duration latency) {
+            subscribers.keySet().forEach(listener -> listener.onHttpTiming(queueWait, latency));
+        }
+
+        @Override
+        public void onHttpRequestCompleted(String host, String method, long latencyNanos, boolean failed) {
+            subscribers.keySet()
+                    .forEach(listener -> listener.onHttpRequestCompleted(host, method, latencyNanos, failed));
+        }
+    };
 
+    private @Nullable ScheduledExecutorService executor;
     private @Nullable ScheduledFuture<?> future;
+    private int refreshTime;
     private @Nullable ChannelHandlerContent lastContent;
 
+    // validators of the last response, only valid for the URI they were received from
+    private @Nullable URI validatorUri;
+    private @Nullable String eTag;
+    private @Nullable String lastModified;
+
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
         this.httpClient = httpClient;
@@ -73,25 +114,94 @@ public class RefreshingUrlCache {
         this.headers = thingConfig.getHeaders();
         this.httpContent = httpContent;
         this.httpContentType = httpContentType;
-        this.httpStatusListener = httpStatusListener;
         fallbackEncoding = thingConfig.encoding;
+        subscribe(httpStatusListener);
     }
 
-    public void start(ScheduledExecutorService executor, int refreshTime) {
-        if (future != null) {
-            logger.warn("Starting refresh task requested but it is already started. This is bug.");
+    /**
+     * Add a subscriber to this cache. Subscribing twice has no effect.
+     *
+     * @param subscriber the subscriber, which is informed about the result of every request
+     */
+    public void subscribe(HttpStatusListener subscriber) {
+        subscribers.computeIfAbsent(subscriber, s -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Start refreshing for the given subscriber. The content is refreshed with the shortest refresh time of all
+     * started subscribers. If there already is content, it is passed to the consumers of the subscriber.
+     *
+     * @param executor the executor for the refresh task
+     * @param subscriber the subscriber
+     * @param refreshTime the refresh time of the subscriber in s
+     */
+    public synchronized void start(ScheduledExecutorService executor, HttpStatusListener subscriber,
+            int refreshTime) {
+        Set<Consumer<@Nullable ChannelHandlerContent>> consumers = subscribers.get(subscriber);
+        if (consumers == null) {
+            logger.warn("Starting refresh task requested for URL '{}' without subscribing. This is bug.", url);
             return;
         }
-        future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
-        logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
+        if (refreshTimes.put(subscriber, refreshTime) != null) {
+            logger.warn("Starting refresh task requested but it is already started. This is bug.");
+        }
+        this.executor = executor;
+        reschedule();
+
+        ChannelHandlerContent content = lastContent;
+        if (content != null) {
+            // the content is only passed on when it changes, so a new subscriber needs the current content
+            executor.execute(() -> consumers.forEach(consumer -> processResult(consumer, content)));
+        }
+    }
+
+    /**
+     * Remove a subscriber. The refresh task is stopped once the last subscriber is removed.
+     *
+     * @param subscriber the subscriber
+     * @return true if there are no subscribers left
+     */
+    public synchronized boolean stop(HttpStatusListener subscriber) {
+        subscribers.remove(subscriber);
+        refreshTimes.remove(subscriber);
+        if (subscribers.isEmpty()) {
+            stop();
+            return true;
+        }
+        reschedule();
+        return false;
     }
 
-    public void stop() {
+    /**
+     * Remove all subscribers and stop the refresh task
+     */
+    public synchronized void stop() {
         // clearing all listeners to prevent further updates
-        consumers.clear();
+        subscribers.clear();
+        refreshTimes.clear();
+        cancelRefreshTask();
+    }
+
+    private void reschedule() {
+        int refreshTime = refreshTimes.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+        ScheduledExecutorService executor = this.executor;
+        if ((refreshTime == this.refreshTime && future != null) || executor == null) {
+            return;
+        }
+        cancelRefreshTask();
+        if (refreshTime > 0) {
+            future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
+            this.refreshTime = refreshTime;
+            logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
+        }
+    }
+
+    private void cancelRefreshTask() {
         ScheduledFuture<?> future = this.future;
         if (future != null) {
             future.cancel(true);
+            this.future = null;
+            this.refreshTime = 0;
             logger.trace("Stopped refresh task for URL '{}'", url);
         }
     }
@@ -101,7 +211,7 @@ public class RefreshingUrlCache {
     }
 
     private void refresh(boolean isRetry) {
-        if (consumers.isEmpty()) {
+        if (subscribers.values().stream().allMatch(Set::isEmpty)) {
             // do not refresh if we don't have listeners
             return;
         }
@@ -114,6 +224,7 @@ public class RefreshingUrlCache {
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
+                addConditionalHeaders(request, uri);
 
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
                 responseContentFuture.exceptionally(t -> {
@@ -147,8 +258,50 @@ public class RefreshingUrlCache {
         }
     }
 
-    public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
-        consumers.add(consumer);
+    private void addConditionalHeaders(Request request, URI uri) {
+        if (httpMethod != HttpMethod.GET) {
+            // conditional headers are preconditions for other methods
+            return;
+        }
+        synchronized (this) {
+            if (uri.equals(validatorUri)) {
+                String eTag = this.eTag;
+                if (eTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                }
+                String lastModified = this.lastModified;
+                if (lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                }
+            }
+        }
+        request.onResponseHeaders(response -> updateValidators(response, uri));
+    }
+
+    private synchronized void updateValidators(Response response, URI uri) {
+        if (response.getStatus() == HttpStatus.OK_200) {
+            validatorUri = uri;
+            eTag = response.getHeaders().get(HttpHeader.ETAG);
+            lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+        } else if (response.getStatus() != HttpStatus.NOT_MODIFIED_304) {
+            validatorUri = null;
+        }
+    }
+
+    private synchronized void clearValidators() {
+        validatorUri = null;
+        eTag = null;
+        lastModified = null;
+    }
+
+    /**
+     * Add a consumer for the content of the given subscriber
+     *
+     * @param subscriber the subscriber
+     * @param consumer the consumer
+     */
+    public void addConsumer(HttpStatusListener subscriber, Consumer<@Nullable ChannelHandlerContent> consumer) {
+        subscribers.computeIfAbsent(subscriber, s -> ConcurrentHashMap.newKeySet()).add(consumer);
     }
 
     public Optional<ChannelHandlerContent> get() {
@@ -156,15 +309,40 @@ public class RefreshingUrlCache {
     }
 
     private void processResult(@Nullable ChannelHandlerContent content) {
+        if (content == HttpResponseListener.NOT_MODIFIED) {
+            logger.trace("Content of URL {} not modified", url);
+            return;
+        }
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (content != null && lastContent != null && isEqual(content, lastContent)) {
+            logger.trace("Content of URL {} unchanged", url);
+            return;
+        }
+        if (content == null && strictErrorHandling) {
+            // the channels are reset, so the next response must carry the content again instead of 304 Not Modified
+            clearValidators();
+        }
         if (content != null || strictErrorHandling) {
-            for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
-                try {
-                    consumer.accept(content);
-                } catch (IllegalArgumentException | IllegalStateException e) {
-                    logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+            for (Set<Consumer<@Nullable ChannelHandlerContent>> consumers : subscribers.values()) {
+                for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
+                    processResult(consumer, content);
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
+    }
+
+    private void processResult(Consumer<@Nullable ChannelHandlerContent> consumer,
+            @Nullable ChannelHandlerContent content) {
+        try {
+            consumer.accept(content);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            logger.warn("Failed processing result for URL {}: {}", url, e.getMessage());
+        }
+    }
+
+    private static boolean isEqual(ChannelHandlerContent content, ChannelHandlerContent other) {
+        return Arrays.equals(content.getRawContent(), other.getRawContent())
+                && Objects.equals(content.getMediaType(), other.getMediaType());
     }
 }
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpMethod;
+import org.openhab.binding.http.internal.config.HttpAuthMode;
+import org.openhab.binding.http.internal.config.HttpThingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RefreshingUrlCacheRegistry} shares {@link RefreshingUrlCache}s between things, so a URL which is polled
+ * by several things with the same request is only requested once per refresh.
+ * <p>
+ * Only requests which are not rate-limited can be shared, as the rate limit is configured per thing.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class RefreshingUrlCacheRegistry {
+    private final Logger logger = LoggerFactory.getLogger(RefreshingUrlCacheRegistry.class);
+
+    private final RateLimitedHttpClient secureClient;
+    private final RateLimitedHttpClient insecureClient;
+    private final Map<CacheKey, RefreshingUrlCache> caches = new HashMap<>();
+
+    /**
+     * Everything a request and the processing of its response depends on
+     */
+    private record CacheKey(String url, HttpMethod method, Map<String, String> headers, String content,
+            @Nullable String contentType, boolean ignoreSSLErrors, HttpAuthMode authMode, String username,
+            String password, int timeout, int bufferSize, @Nullable String encoding, boolean strictErrorHandling) {
+    }
+
+    /**
+     * @param secureClient the client for things checking SSL certificates, without delay
+     * @param insecureClient the client for things ignoring SSL errors, without delay
+     */
+    public RefreshingUrlCacheRegistry(RateLimitedHttpClient secureClient, RateLimitedHttpClient insecureClient) {
+        this.secureClient = secureClient;
+        this.insecureClient = insecureClient;
+    }
+
+    /**
+     * Get the cache for the given request and subscribe to it
+     *
+     * @param url the URL
+     * @param thingConfig the configuration of the subscribing thing, the delay needs to be 0
+     * @param httpContent the content of the request
+     * @param httpContentType the content type of the request
+     * @param subscriber the subscriber
+     * @return the cache
+     */
+    public synchronized RefreshingUrlCache subscribe(String url, HttpThingConfig thingConfig, String httpContent,
+            @Nullable String httpContentType, HttpStatusListener subscriber) {
+        CacheKey key = new CacheKey(url, thingConfig.stateMethod, thingConfig.getHeaders(), httpContent,
+                httpContentType, thingConfig.ignoreSSLErrors, thingConfig.authMode, thingConfig.username,
+                thingConfig.password, thingConfig.timeout, thingConfig.bufferSize, thingConfig.encoding,
+                thingConfig.strictErrorHandling);
+        RefreshingUrlCache cache = caches.get(key);
+        if (cache == null) {
+            cache = new RefreshingUrlCache(thingConfig.ignoreSSLErrors ? insecureClient : secureClient, url,
+                    thingConfig, httpContent, httpContentType, subscriber);
+            caches.put(key, cache);
+        } else {
+            logger.debug("Sharing the requests to URL '{}'", url);
+            cache.subscribe(subscriber);
+        }
+        return cache;
+    }
+
+    /**
+     * Unsubscribe from a cache. The cache is stopped if there are no subscribers left.
+     *
+     * @param cache the cache
+     * @param subscriber the subscriber
+     */
+    public synchronized void unsubscribe(RefreshingUrlCache cache, HttpStatusListener subscriber) {
+        if (cache.stop(subscriber)) {
+            caches.values().remove(cache);
+        }
+    }
+
+    /**
+     * Shut down the clients of the shared caches, stopping the processing of their request queues
+     */
+    public synchronized void dispose() {
+        caches.clear();
+        secureClient.shutdown();
+        insecureClient.shutdown();
+    }
+}
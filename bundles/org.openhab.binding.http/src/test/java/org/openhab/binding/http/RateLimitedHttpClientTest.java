@@ -24,8 +24,10 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -99,6 +101,86 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         assertThat((int) msBetween, allOf(greaterThanOrEqualTo(1000), lessThan(1100)));
     }
 
+    @Test
+    public void testWithLimitAndBurst() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setDelay(500);
+        rateLimitedHttpClient.setBurstSize(2);
+
+        for (int i = 0; i < 3; i++) {
+            sendAsync(rateLimitedHttpClient, i);
+        }
+        waitForAssert(() -> assertEquals(3, responses.size()));
+        rateLimitedHttpClient.shutdown();
+
+        // we expect the first two requests without delay and the third one 500ms later
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(0), lessThan(100)));
+        msBetween = responses.get(2).time - responses.get(0).time;
+        assertThat((int) msBetween, allOf(greaterThanOrEqualTo(450), lessThan(700)));
+    }
+
+    @Test
+    public void testWithMaxConcurrentRequests() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withFixedDelay(300).withBody(TEST_CONTENT)));
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setMaxConcurrentRequests(1);
+
+        sendAsync(rateLimitedHttpClient, 0);
+        sendAsync(rateLimitedHttpClient, 1);
+        waitForAssert(() -> assertEquals(2, responses.size()));
+        rateLimitedHttpClient.shutdown();
+
+        // the second request is only sent after the first one is complete
+        assertEquals(0, responses.get(0).seqNumber);
+        long msBetween = responses.get(1).time - responses.get(0).time;
+        assertThat((int) msBetween, greaterThanOrEqualTo(300));
+    }
+
+    @Test
+    public void testBackoffOnServiceUnavailable() {
+        stubFor(get(urlEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "1")));
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+
+        sendAsync(rateLimitedHttpClient, 0);
+        waitForAssert(() -> assertEquals(1, responses.size()));
+
+        // the next request is delayed by the time requested by the server
+        long start = System.currentTimeMillis();
+        CompletableFuture<Request> requestFuture = rateLimitedHttpClient.newRequest(getUrl(), HttpMethod.GET, "",
+                null);
+        waitForAssert(() -> assertTrue(requestFuture.isDone()));
+        rateLimitedHttpClient.shutdown();
+
+        assertThat((int) (System.currentTimeMillis() - start), greaterThanOrEqualTo(900));
+    }
+
+    @Test
+    public void testQueueWaitIsAddedToRequest() {
+        RateLimitedHttpClient rateLimitedHttpClient = new RateLimitedHttpClient(httpClient, scheduler);
+        rateLimitedHttpClient.setDelay(500);
+
+        rateLimitedHttpClient.newRequest(getUrl(), HttpMethod.GET, "", null);
+        CompletableFuture<Request> requestFuture = rateLimitedHttpClient.newRequest(getUrl(), HttpMethod.GET, "",
+                null);
+        waitForAssert(() -> assertTrue(requestFuture.isDone()));
+        rateLimitedHttpClient.shutdown();
+
+        Object queueWait = requestFuture.join().getAttributes().get(RateLimitedHttpClient.QUEUE_WAIT_ATTRIBUTE);
+        assertTrue(queueWait instanceof Duration duration && duration.toMillis() >= 450);
+    }
+
+    private URI getUrl() {
+        return URI.create("http://localhost:" + port + TEST_LOCATION);
+    }
+
+    private void sendAsync(RateLimitedHttpClient rateLimitedHttpClient, int seqNumber) {
+        rateLimitedHttpClient.newRequest(getUrl(), HttpMethod.GET, "", null).thenAccept(request -> request.send(
+                result -> responses.add(new Response(seqNumber, String.valueOf(result.getResponse().getStatus())))));
+    }
+
     private void doLimitTest(int setDelay, List<Boolean> config) {
         stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
 
@@ -137,8 +219,12 @@ public class RateLimitedHttpClientTest extends AbstractWireMockTest {
         public final String content;
 
         public Response(int seqNumber, ContentResponse contentResponse) {
+            this(seqNumber, contentResponse.getContentAsString());
+        }
+
+        public Response(int seqNumber, String content) {
             this.seqNumber = seqNumber;
-            this.content = contentResponse.getContentAsString();
+            this.content = content;
         }
     }
 }
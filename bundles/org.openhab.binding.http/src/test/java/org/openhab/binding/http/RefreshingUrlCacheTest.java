@@ -13,20 +13,24 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.moreThanOrExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
@@ -46,8 +50,11 @@ import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.RefreshingUrlCacheRegistry;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
 /**
  * The {@link RefreshingUrlCacheTest} implements tests for the {@link RefreshingUrlCache}
  *
@@ -98,17 +105,118 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
 
         RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
 
-        // wait until we got at least four results or timeout (after 10s)
-        waitForAssert(() -> assertEquals(4, contentWrappers.size()));
+        // wait until we got at least four successful requests or timeout (after 10s)
+        verify(statusListener, timeout(10000).atLeast(4)).onHttpSuccess();
         urlCache.stop();
 
-        // verify we did not have errors and the number of responses matches the number of success calls
+        // verify we did not have errors and the unchanged content was only passed on once
         verify(statusListener, never()).onHttpError(any());
-        verify(statusListener, times(contentWrappers.size())).onHttpSuccess();
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
 
-        // assert all content equals the correct value
-        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
-                .allMatch(TEST_CONTENT::equals));
+    @Test
+    public void testUpdateOnChangedContent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).inScenario("change").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withBody(TEST_CONTENT)).willSetStateTo("changed"));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).inScenario("change").whenScenarioStateIs("changed")
+                .willReturn(aResponse().withBody("CHANGEDCONTENT")));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // wait until we got at least three successful requests or timeout (after 10s)
+        verify(statusListener, timeout(10000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(2, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+        assertEquals("CHANGEDCONTENT", Objects.requireNonNull(contentWrappers.get(1)).getAsString());
+    }
+
+    @Test
+    public void testConditionalRequestWithETag() {
+        String eTag = "\"etag-1\"";
+        String location = TEST_LOCATION + "/etag";
+        stubFor(get(urlEqualTo(location)).atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(location)).atPriority(1).withHeader("If-None-Match", equalTo(eTag))
+                .willReturn(aResponse().withStatus(304)));
+        url = thingConfig.baseURL + location;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        // a not modified response is a successful request
+        verify(statusListener, timeout(10000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        verify(statusListener, never()).onHttpError(any());
+        wireMockServer.verify(moreThanOrExactly(2),
+                getRequestedFor(urlEqualTo(location)).withHeader("If-None-Match", equalTo(eTag)));
+        assertEquals(1, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+    }
+
+    @Test
+    public void testContentIsDeliveredAgainAfterTimeoutInStrictMode() {
+        String eTag = "\"etag-1\"";
+        String location = TEST_LOCATION + "/etag";
+        stubFor(get(urlEqualTo(location)).inScenario("error").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)).willSetStateTo("failing"));
+        stubFor(get(urlEqualTo(location)).inScenario("error").whenScenarioStateIs("failing")
+                .willReturn(aResponse().withFixedDelay(1000).withStatus(200)).willSetStateTo("recovered"));
+        stubFor(get(urlEqualTo(location)).inScenario("error").whenScenarioStateIs("recovered").atPriority(2)
+                .willReturn(aResponse().withHeader("ETag", eTag).withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(location)).inScenario("error").whenScenarioStateIs("recovered").atPriority(1)
+                .withHeader("If-None-Match", equalTo(eTag)).willReturn(aResponse().withStatus(304)));
+        url = thingConfig.baseURL + location;
+        thingConfig.strictErrorHandling = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        verify(statusListener, timeout(10000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        // the content reset by the error is delivered again, although it did not change in between
+        assertEquals(3, contentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(0)).getAsString());
+        assertNull(contentWrappers.get(1));
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(contentWrappers.get(2)).getAsString());
+    }
+
+    @Test
+    public void testCacheIsSharedBetweenSubscribers() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        RefreshingUrlCacheRegistry registry = new RefreshingUrlCacheRegistry(rateLimitedHttpClient,
+                rateLimitedHttpClient);
+        HttpStatusListener otherStatusListener = mock(HttpStatusListener.class);
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+
+        RefreshingUrlCache urlCache = registry.subscribe(url, thingConfig, TEST_CONTENT, null, statusListener);
+        urlCache.addConsumer(statusListener, contentWrappers::add);
+        urlCache.start(scheduler, statusListener, thingConfig.refresh);
+        waitForAssert(() -> assertFalse(contentWrappers.isEmpty()));
+
+        RefreshingUrlCache otherUrlCache = registry.subscribe(url, thingConfig, TEST_CONTENT, null,
+                otherStatusListener);
+        assertSame(urlCache, otherUrlCache);
+        otherUrlCache.addConsumer(otherStatusListener, otherContentWrappers::add);
+        otherUrlCache.start(scheduler, otherStatusListener, thingConfig.refresh);
+
+        // the new subscriber gets the current content and the results of the shared requests
+        waitForAssert(() -> assertFalse(otherContentWrappers.isEmpty()));
+        verify(otherStatusListener, timeout(10000).atLeast(2)).onHttpSuccess();
+
+        registry.unsubscribe(urlCache, statusListener);
+        registry.unsubscribe(otherUrlCache, otherStatusListener);
+
+        assertEquals(1, contentWrappers.size());
+        assertEquals(1, otherContentWrappers.size());
+        assertEquals(TEST_CONTENT, Objects.requireNonNull(otherContentWrappers.get(0)).getAsString());
+
+        // a cache without subscribers is not used again
+        RefreshingUrlCache newUrlCache = registry.subscribe(url, thingConfig, TEST_CONTENT, null, statusListener);
+        assertFalse(urlCache == newUrlCache);
+        newUrlCache.stop();
     }
 
     @Test
@@ -254,8 +362,8 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
     private RefreshingUrlCache getUrlCache(String content) {
         RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, content, null,
                 statusListener);
-        urlCache.addConsumer(contentWrappers::add);
-        urlCache.start(scheduler, thingConfig.refresh);
+        urlCache.addConsumer(statusListener, contentWrappers::add);
+        urlCache.start(scheduler, statusListener, thingConfig.refresh);
         return urlCache;
     }
 }
@@ -124,6 +124,9 @@ public class HueBindingConstants {
     public static final String PROPERTY_DIMMING_RANGE = "dimmingRange";
     public static final String PROPERTY_COLOR_TEMP_RANGE = "colorTemperatureRange";
     public static final String PROPERTY_COLOR_GAMUT = "colorGamut";
+    public static final String PROPERTY_PUT_QUEUE_DEPTH = "putQueueDepth";
+    public static final String PROPERTY_PUT_MERGE_COUNT = "putMergeCount";
+    public static final String PROPERTY_PUT_LATENCY = "putLatency";
 
     public static final String NORMALIZE_ID_REGEX = "[^a-zA-Z0-9_]";
 
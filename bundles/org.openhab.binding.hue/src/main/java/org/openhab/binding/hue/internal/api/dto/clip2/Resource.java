@@ -433,6 +433,10 @@ public class Resource {
         return UnDefType.NULL;
     }
 
+    public @Nullable Dynamics getDynamics() {
+        return dynamics;
+    }
+
     public @Nullable Effects getFixedEffects() {
         return effects;
     }
@@ -837,7 +841,7 @@ public class Resource {
         return this;
     }
 
-    public Resource setColorTemperature(ColorTemperature colorTemperature) {
+    public Resource setColorTemperature(@Nullable ColorTemperature colorTemperature) {
         this.colorTemperature = colorTemperature;
         return this;
     }
@@ -862,6 +866,11 @@ public class Resource {
         return this;
     }
 
+    public Resource setDynamics(@Nullable Dynamics dynamics) {
+        this.dynamics = dynamics;
+        return this;
+    }
+
     public Resource setDynamicsDuration(Duration duration) {
         dynamics = new Dynamics().setDuration(duration);
         return this;
@@ -395,4 +395,46 @@ public class Setters {
 
         return resources;
     }
+
+    /**
+     * Merge a light or grouped light resource which is to be sent to the bridge into another one which is still waiting
+     * to be sent, so that just one request with the latest values is sent. Only on/dimming/color/color temperature
+     * resources are merged, since other fields (e.g. alerts, effects, scene recalls) are actions which must not be
+     * dropped. The dynamics of the source resource replace those of the target.
+     *
+     * @param target the resource that is waiting to be sent, to be updated with the values of the source.
+     * @param source the newer resource.
+     * @return true if the source has been merged into the target, or false if they cannot be merged.
+     */
+    public static boolean mergePutResources(Resource target, Resource source) {
+        if (!LIGHT_TYPES.contains(source.getType()) || target.getType() != source.getType()
+                || !target.getId().equals(source.getId()) || !isLightStateOnly(target) || !isLightStateOnly(source)) {
+            return false;
+        }
+        OnState onState = source.getOnState();
+        if (Objects.nonNull(onState)) {
+            target.setOnState(onState);
+        }
+        Dimming dimming = source.getDimming();
+        if (Objects.nonNull(dimming)) {
+            target.setDimming(dimming);
+        }
+        // color and color temperature are mutually exclusive, so the latest one wins
+        ColorXy colorXy = source.getColorXy();
+        if (Objects.nonNull(colorXy)) {
+            target.setColorXy(colorXy).setColorTemperature(null);
+        }
+        ColorTemperature colorTemperature = source.getColorTemperature();
+        if (Objects.nonNull(colorTemperature)) {
+            target.setColorTemperature(colorTemperature).setColorXy(null);
+        }
+        target.setDynamics(source.getDynamics());
+        return true;
+    }
+
+    private static boolean isLightStateOnly(Resource resource) {
+        return Objects.isNull(resource.getAlerts()) && Objects.isNull(resource.getFixedEffects())
+                && Objects.isNull(resource.getTimedEffects()) && Objects.isNull(resource.getRecall())
+                && Objects.isNull(resource.getEnabled());
+    }
 }
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.openhab.binding.hue.internal.exceptions.AssetNotLoadedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbound queue for resources which are to be sent to the bridge via HTTP PUT.
+ * <p>
+ * There is one queue per resource, which is sent in order, one request at a time. When a light or grouped light
+ * resource is added to a queue whose last request has not been sent yet, it is merged into that request so that the
+ * latest values win, and the superseded request is cancelled. This prevents stale requests from piling up when e.g. a
+ * dimmer or color wheel is dragged, which sends many commands in quick succession.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2PutQueue {
+
+    /**
+     * Function which sends a resource to the bridge.
+     */
+    @FunctionalInterface
+    public interface Sender {
+        Resources put(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException;
+    }
+
+    /**
+     * A request which is waiting to be sent.
+     */
+    private static class PendingPut {
+        private final Resource resource;
+        private final Instant queueTime = Instant.now();
+        private CompletableFuture<Resources> future = new CompletableFuture<>();
+
+        private PendingPut(Resource resource) {
+            this.resource = resource;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2PutQueue.class);
+
+    private final Executor executor;
+    private final Sender sender;
+    private final Runnable drainedListener;
+    private final Map<String, Deque<PendingPut>> queues = new HashMap<>(); // guarded by itself
+
+    private int queueDepth;
+    private long mergeCount;
+    private Duration lastLatency = Duration.ZERO;
+    private boolean disposed;
+
+    /**
+     * Constructor.
+     *
+     * @param executor the executor which sends the requests.
+     * @param sender the function which sends a resource to the bridge.
+     * @param drainedListener called when the queue of a resource has been sent completely.
+     */
+    public Clip2PutQueue(Executor executor, Sender sender, Runnable drainedListener) {
+        this.executor = executor;
+        this.sender = sender;
+        this.drainedListener = drainedListener;
+    }
+
+    /**
+     * Add a resource to the queue of its resource id.
+     *
+     * @param resource the resource to put.
+     * @return a future which completes with the response of the bridge, completes exceptionally if the request failed,
+     *         or is cancelled if the request has been superseded by a later one.
+     */
+    public CompletableFuture<Resources> submit(Resource resource) {
+        CompletableFuture<Resources> future;
+        CompletableFuture<Resources> superseded = null;
+        String key = resource.getType().name() + "/" + resource.getId();
+        boolean created = false;
+        synchronized (queues) {
+            if (disposed) {
+                return CompletableFuture.failedFuture(new AssetNotLoadedException("Put queue disposed"));
+            }
+            Deque<PendingPut> queue = queues.get(key);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queues.put(key, queue);
+                created = true;
+            }
+            PendingPut last = queue.peekLast();
+            if (last != null && Setters.mergePutResources(last.resource, resource)) {
+                superseded = last.future;
+                last.future = new CompletableFuture<>();
+                future = last.future;
+                mergeCount++;
+            } else {
+                PendingPut put = new PendingPut(resource);
+                queue.addLast(put);
+                future = put.future;
+                queueDepth++;
+            }
+        }
+        if (superseded != null) {
+            logger.debug("submit() merged {} into pending request", resource);
+            superseded.cancel(false);
+        }
+        if (created) {
+            try {
+                executor.execute(() -> drain(key));
+            } catch (RejectedExecutionException e) {
+                logger.debug("submit() could not send {}: {}", key, e.getMessage());
+                cancel(key);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Send the requests of the queue of one resource id, until the queue is empty.
+     */
+    private void drain(String key) {
+        while (true) {
+            PendingPut put;
+            int depth;
+            synchronized (queues) {
+                Deque<PendingPut> queue = queues.get(key);
+                put = queue == null ? null : queue.pollFirst();
+                if (put == null) {
+                    queues.remove(key);
+                    break;
+                }
+                depth = --queueDepth;
+            }
+            try {
+                Resources resources = sender.put(put.resource);
+                Duration latency = Duration.between(put.queueTime, Instant.now());
+                synchronized (queues) {
+                    lastLatency = latency;
+                }
+                logger.debug("drain() sent {} latency:{}ms, queue depth:{}", key, latency.toMillis(), depth);
+                put.future.complete(resources);
+            } catch (ApiException | AssetNotLoadedException | RuntimeException e) {
+                put.future.completeExceptionally(e);
+            } catch (InterruptedException e) {
+                put.future.cancel(false);
+                cancel(key);
+                return;
+            }
+        }
+        drainedListener.run();
+    }
+
+    /**
+     * Cancel the requests of the queue of one resource id that have not been sent yet.
+     */
+    private void cancel(String key) {
+        Deque<PendingPut> queue;
+        synchronized (queues) {
+            queue = queues.remove(key);
+            queueDepth -= queue == null ? 0 : queue.size();
+        }
+        if (queue != null) {
+            queue.forEach(put -> put.future.cancel(false));
+        }
+    }
+
+    /**
+     * Cancel all requests that have not been sent yet, and refuse any further requests.
+     */
+    public void dispose() {
+        List<PendingPut> cancelled = new ArrayList<>();
+        synchronized (queues) {
+            disposed = true;
+            queues.values().forEach(cancelled::addAll);
+            queues.clear();
+            queueDepth = 0;
+        }
+        cancelled.forEach(put -> put.future.cancel(false));
+    }
+
+    /**
+     * @return the number of requests which are waiting to be sent.
+     */
+    public int getQueueDepth() {
+        synchronized (queues) {
+            return queueDepth;
+        }
+    }
+
+    /**
+     * @return the number of requests which have been merged into an earlier request.
+     */
+    public long getMergeCount() {
+        synchronized (queues) {
+            return mergeCount;
+        }
+    }
+
+    /**
+     * @return the time between queueing and completion of the last request that was sent.
+     */
+    public Duration getLastLatency() {
+        synchronized (queues) {
+            return lastLatency;
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -22,7 +23,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -43,11 +47,13 @@ import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
 import org.openhab.binding.hue.internal.config.Clip2BridgeConfig;
 import org.openhab.binding.hue.internal.connection.Clip2Bridge;
+import org.openhab.binding.hue.internal.connection.Clip2PutQueue;
 import org.openhab.binding.hue.internal.connection.HueTlsTrustManagerProvider;
 import org.openhab.binding.hue.internal.discovery.Clip2ThingDiscoveryService;
 import org.openhab.binding.hue.internal.exceptions.ApiException;
 import org.openhab.binding.hue.internal.exceptions.AssetNotLoadedException;
 import org.openhab.binding.hue.internal.exceptions.HttpUnauthorizedException;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.i18n.LocaleProvider;
 import org.openhab.core.i18n.TranslationProvider;
@@ -92,6 +98,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private static final int APPLICATION_KEY_MAX_TRIES = 600; // i.e. 300 seconds, 5 minutes
     private static final int RECONNECT_DELAY_SECONDS = 10;
     private static final int RECONNECT_MAX_TRIES = 5;
+    private static final int RESOURCES_EVENT_MERGE_MILLI_SECONDS = 50;
+    private static final int PUT_QUEUE_THREADS = 3; // i.e. the number of concurrent HTTP 2 streams of the bridge
 
     private static final ResourceReference DEVICE = new ResourceReference().setType(ResourceType.DEVICE);
     private static final ResourceReference ROOM = new ResourceReference().setType(ResourceType.ROOM);
@@ -124,6 +132,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private final ChannelGroupUID automationChannelGroupUID;
 
     private @Nullable Clip2Bridge clip2Bridge;
+    private @Nullable Clip2PutQueue putQueue;
+    private @Nullable ExecutorService putExecutor;
     private @Nullable ServiceRegistration<?> trustManagerRegistration;
     private @Nullable Clip2ThingDiscoveryService discoveryService;
 
@@ -131,7 +141,11 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable Future<?> checkConnectionTask;
     private @Nullable Future<?> updateOnlineStateTask;
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
-    private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
+    private @Nullable Future<?> resourcesEventTask;
+
+    private final List<Resource> pendingEventResources = new ArrayList<>();
+    private final Object resourceIndexLock = new Object();
+    private @Nullable Clip2ResourceIndex<Clip2ThingHandler> resourceIndex;
 
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
@@ -258,6 +272,16 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        invalidateResourceIndex();
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        invalidateResourceIndex();
+    }
+
     /**
      * If a child thing has been added, and the bridge is online, update the child's data.
      */
@@ -290,15 +314,27 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
             checkConnectionTask = null;
             updateOnlineStateTask = null;
             scheduledUpdateTask = null;
-            synchronized (resourcesEventTasks) {
-                resourcesEventTasks.values().forEach(task -> cancelTask(task, true));
-                resourcesEventTasks.clear();
+            synchronized (pendingEventResources) {
+                cancelTask(resourcesEventTask, true);
+                resourcesEventTask = null;
+                pendingEventResources.clear();
             }
+            invalidateResourceIndex();
             ServiceRegistration<?> registration = trustManagerRegistration;
             if (Objects.nonNull(registration)) {
                 registration.unregister();
                 trustManagerRegistration = null;
             }
+            Clip2PutQueue queue = putQueue;
+            if (Objects.nonNull(queue)) {
+                queue.dispose();
+                putQueue = null;
+            }
+            ExecutorService executor = putExecutor;
+            if (Objects.nonNull(executor)) {
+                executor.shutdownNow();
+                putExecutor = null;
+            }
             Clip2Bridge bridge = clip2Bridge;
             if (Objects.nonNull(bridge)) {
                 bridge.close();
@@ -516,6 +552,11 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
                 setStatusOfflineWithCommunicationError(e);
                 return;
             }
+            ExecutorService executor = Executors.newFixedThreadPool(PUT_QUEUE_THREADS,
+                    new NamedThreadFactory(BINDING_ID + "-put-" + thing.getUID().getId(), true));
+            putExecutor = executor;
+            putQueue = new Clip2PutQueue(executor, resource -> getClip2Bridge().putResource(resource),
+                    () -> updatePutQueueProperties());
 
             assetsLoaded = true;
         }
@@ -543,24 +584,34 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. The resources are collected for a short
+     * time, so that the resources of events which come in quick succession are merged and processed together.
      *
      * @param resources a list of incoming resource objects.
      */
     public void onResourcesEvent(List<Resource> resources) {
         if (assetsLoaded) {
-            synchronized (resourcesEventTasks) {
-                int index = resourcesEventTasks.size();
-                resourcesEventTasks.put(index, scheduler.submit(() -> {
-                    onResourcesEventTask(resources);
-                    resourcesEventTasks.remove(index);
-                }));
+            synchronized (pendingEventResources) {
+                pendingEventResources.addAll(resources);
+                if (Objects.isNull(resourcesEventTask)) {
+                    resourcesEventTask = scheduler.schedule(() -> onResourcesEventTask(),
+                            RESOURCES_EVENT_MERGE_MILLI_SECONDS, TimeUnit.MILLISECONDS);
+                }
             }
         }
     }
 
-    private void onResourcesEventTask(List<Resource> resources) {
+    /**
+     * Process the collected resources. Merge the resources, and inform each child thing handler with just those
+     * resources that it consumes.
+     */
+    private void onResourcesEventTask() {
+        List<Resource> resources;
+        synchronized (pendingEventResources) {
+            resources = new ArrayList<>(pendingEventResources);
+            pendingEventResources.clear();
+            resourcesEventTask = null;
+        }
         int numberOfResources = resources.size();
         logger.debug("onResourcesEventTask() resource count {}", numberOfResources);
         Setters.mergeLightResources(resources);
@@ -570,11 +621,43 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (onResources(resources)) {
             updateAutomationChannelsNow();
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
+        getResourceIndex().route(resources)
+                .forEach((clip2ThingHandler, thingResources) -> clip2ThingHandler.onResources(thingResources));
+    }
+
+    /**
+     * Get the index of resource ids consumed by the child thing handlers. The index is created again if it has been
+     * invalidated.
+     *
+     * @return the resource index.
+     */
+    private Clip2ResourceIndex<Clip2ThingHandler> getResourceIndex() {
+        synchronized (resourceIndexLock) {
+            Clip2ResourceIndex<Clip2ThingHandler> index = resourceIndex;
+            if (Objects.isNull(index)) {
+                List<Clip2ThingHandler> handlers = new ArrayList<>();
+                getThing().getThings().forEach(thing -> {
+                    if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
+                        handlers.add(clip2ThingHandler);
+                    }
+                });
+                index = new Clip2ResourceIndex<>(handlers, Clip2ThingHandler::getResourceIds);
+                logger.debug("getResourceIndex() indexed {} resource ids for {} things", index.size(),
+                        handlers.size());
+                resourceIndex = index;
             }
-        });
+            return index;
+        }
+    }
+
+    /**
+     * Invalidate the index of resource ids consumed by the child thing handlers. Called when a child thing handler is
+     * initialized or disposed, or when the set of resources that it consumes has changed.
+     */
+    public void invalidateResourceIndex() {
+        synchronized (resourceIndexLock) {
+            resourceIndex = null;
+        }
     }
 
     /**
@@ -592,6 +675,40 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         return getClip2Bridge().putResource(resource);
     }
 
+    /**
+     * Queue a Resource object to be sent to the server with an HTTP PUT. Light and grouped light resources are merged
+     * with a request for the same resource that is still waiting to be sent, so that only the latest values are sent.
+     *
+     * @param resource the resource to put.
+     * @return a future which completes with the resource, which may contain errors. It completes exceptionally if the
+     *         request failed, and it is cancelled if the request has been superseded by a later one.
+     * @throws AssetNotLoadedException if one of the assets is not loaded.
+     */
+    public CompletableFuture<Resources> putResourceQueued(Resource resource) throws AssetNotLoadedException {
+        logger.debug("putResourceQueued() {}", resource);
+        checkAssetsLoaded();
+        Clip2PutQueue queue = putQueue;
+        if (Objects.isNull(queue)) {
+            throw new AssetNotLoadedException("Clip2PutQueue is null");
+        }
+        return queue.submit(resource);
+    }
+
+    /**
+     * Update the thing properties which show the state of the put queue. Called when the queue of a resource has been
+     * sent completely, rather than for every request, so that the thing is not updated too often.
+     */
+    private void updatePutQueueProperties() {
+        Clip2PutQueue queue = putQueue;
+        if (Objects.nonNull(queue)) {
+            Map<String, String> properties = editProperties();
+            properties.put(PROPERTY_PUT_QUEUE_DEPTH, String.valueOf(queue.getQueueDepth()));
+            properties.put(PROPERTY_PUT_MERGE_COUNT, String.valueOf(queue.getMergeCount()));
+            properties.put(PROPERTY_PUT_LATENCY, queue.getLastLatency().toMillis() + " ms");
+            updateProperties(properties);
+        }
+    }
+
     /**
      * Register the application key with the hub. If the current application key is empty it will create a new one.
      *
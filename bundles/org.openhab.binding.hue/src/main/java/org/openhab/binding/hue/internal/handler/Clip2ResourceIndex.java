@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
+
+/**
+ * Immutable index of the resource ids that each consumer is interested in. It is used to route the resources of an SSE
+ * event only to the thing handlers that consume them, rather than offering every resource to every thing handler.
+ *
+ * @param <T> the type of the consumers.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2ResourceIndex<T> {
+
+    private final Map<String, List<T>> consumersById = new HashMap<>();
+
+    /**
+     * Create an index.
+     *
+     * @param consumers the consumers to be indexed.
+     * @param resourceIds a function returning the ids of the resources that a consumer is interested in.
+     */
+    public Clip2ResourceIndex(Collection<T> consumers, Function<T, Collection<String>> resourceIds) {
+        for (T consumer : consumers) {
+            for (String id : resourceIds.apply(consumer)) {
+                List<T> list = consumersById.computeIfAbsent(id, k -> new ArrayList<>());
+                if (!list.contains(consumer)) {
+                    list.add(consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Route the given resources to the consumers that are interested in them. A resource is routed to a consumer if its
+     * id is indexed for the consumer. Newly added resources (e.g. scenes) are also routed to the consumers of the
+     * group they belong to, and so are any later resources in the list with the same id.
+     *
+     * @param resources the list of resources.
+     * @return a map of consumers and the resources for each of them, in their original order.
+     */
+    public Map<T, List<Resource>> route(List<Resource> resources) {
+        Map<T, List<Resource>> routes = new LinkedHashMap<>();
+        Map<String, List<T>> addedConsumersById = new HashMap<>();
+        for (Resource resource : resources) {
+            String id = resource.getId();
+            List<T> consumers = consumersById.get(id);
+            List<T> addedConsumers = addedConsumersById.get(id);
+            ResourceReference group = resource.getGroup();
+            String groupId = group != null ? group.getId() : null;
+            if (ContentType.ADD == resource.getContentType() && groupId != null) {
+                List<T> groupConsumers = consumersById.get(groupId);
+                if (groupConsumers != null) {
+                    addedConsumers = addedConsumersById.computeIfAbsent(id, k -> new ArrayList<>());
+                    addedConsumers.addAll(groupConsumers);
+                }
+            }
+            Set<T> routed = new HashSet<>();
+            addRoutes(routes, routed, consumers, resource);
+            addRoutes(routes, routed, addedConsumers, resource);
+        }
+        return routes;
+    }
+
+    private void addRoutes(Map<T, List<Resource>> routes, Set<T> routed, @Nullable List<T> consumers,
+            Resource resource) {
+        if (consumers != null) {
+            for (T consumer : consumers) {
+                if (routed.add(consumer)) {
+                    routes.computeIfAbsent(consumer, k -> new ArrayList<>()).add(resource);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of indexed resource ids.
+     */
+    public int size() {
+        return consumersById.size();
+    }
+}
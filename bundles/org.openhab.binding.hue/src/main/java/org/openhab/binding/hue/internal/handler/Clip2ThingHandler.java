@@ -27,6 +27,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
@@ -293,6 +295,30 @@ public class Clip2ThingHandler extends BaseThingHandler {
         throw new AssetNotLoadedException("Bridge handler missing");
     }
 
+    /**
+     * Get the ids of the resources that this thing consumes. These are the thing's own resource, the resources that
+     * contribute to its state, and its scenes.
+     *
+     * @return a set of resource ids.
+     */
+    public Set<String> getResourceIds() {
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        return resourceIds;
+    }
+
+    /**
+     * Inform the bridge handler that the set of resources that this thing consumes has changed.
+     */
+    private void invalidateResourceIndex() {
+        try {
+            getBridgeHandler().invalidateResourceIndex();
+        } catch (AssetNotLoadedException e) {
+            // the bridge handler is gone, so it does not route any resources either
+        }
+    }
+
     /**
      * Do a double lookup to get the cached resource that matches the given ResourceType.
      *
@@ -526,19 +552,36 @@ public class Clip2ThingHandler extends BaseThingHandler {
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
+            getBridgeHandler().putResourceQueued(putResource)
+                    .whenComplete((resources, e) -> onPutResourceComplete(channelUID, command, resources, e));
+        } catch (AssetNotLoadedException e) {
+            onPutResourceComplete(channelUID, command, null, e);
+        }
+    }
+
+    /**
+     * Log the outcome of a resource put by handleCommand().
+     *
+     * @param channelUID the channel of the command.
+     * @param command the command.
+     * @param resources the resources returned by the bridge, or null if the put failed.
+     * @param e the exception if the put failed, or null.
+     */
+    private void onPutResourceComplete(ChannelUID channelUID, Command command, @Nullable Resources resources,
+            @Nullable Throwable e) {
+        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+        if (cause instanceof CancellationException) {
+            logger.debug("{} -> handleCommand() command:{} superseded by a later command", resourceId, command);
+        } else if (Objects.nonNull(cause)) {
             if (logger.isDebugEnabled()) {
-                logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+                logger.debug("{} -> handleCommand() error {}", resourceId, cause.getMessage(), cause);
             } else {
                 logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
-                        thing.getUID(), channelUID, e.getMessage());
+                        thing.getUID(), channelUID, cause.getMessage());
             }
-        } catch (InterruptedException e) {
+        } else if (Objects.nonNull(resources) && resources.hasErrors()) {
+            logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
+                    thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
         }
     }
 
@@ -725,6 +768,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     sceneResource.setContentType(ContentType.FULL_STATE);
                     sceneContributorsCache.put(sceneResource.getId(), sceneResource);
                     sceneResourceEntries.put(sceneResource.getName(), sceneResource);
+                    invalidateResourceIndex();
                     updateSceneChannelStateDescription();
                     return FLAG_SCENE_ADD;
                 }
@@ -733,6 +777,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 Resource deletedScene = sceneContributorsCache.remove(sceneResource.getId());
                 if (Objects.nonNull(deletedScene)) {
                     sceneResourceEntries.remove(deletedScene.getName());
+                    invalidateResourceIndex();
                     updateSceneChannelStateDescription();
                     return FLAG_SCENE_DELETE;
                 }
@@ -1151,6 +1196,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
             serviceContributorsCache.clear();
             serviceContributorsCache.putAll(services.stream()
                     .collect(Collectors.toMap(ResourceReference::getId, r -> new Resource(r.getType()))));
+            invalidateResourceIndex();
 
             // add supported services to commandResourceIds
             commandResourceIds.clear();
@@ -1306,6 +1352,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 logger.debug("{} -> updateSceneContributors() found {} normal resp. smart scenes", resourceId,
                         scenes.size());
             }
+            invalidateResourceIndex();
             updateSceneContributorsDone = true;
         }
         return updateSceneContributorsDone;
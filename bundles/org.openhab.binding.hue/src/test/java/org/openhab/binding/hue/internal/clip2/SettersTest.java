@@ -25,11 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Alerts;
 import org.openhab.binding.hue.internal.api.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorXy;
 import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
 import org.openhab.binding.hue.internal.api.dto.clip2.Effects;
 import org.openhab.binding.hue.internal.api.dto.clip2.OnState;
 import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
 import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
 import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
@@ -408,6 +411,70 @@ public class SettersTest {
         assertThat(firstResource.getType(), is(equalTo(ResourceType.MOTION)));
     }
 
+    /**
+     * Tests merging of a light resource to be sent into a pending one where the latest values win.
+     *
+     * Input:
+     * - Pending: type=light, id=1, on=false, dimming=49
+     * - Newer: type=light, id=1, dimming=50, color temperature=153
+     *
+     * Expected output:
+     * - Pending: type=light, id=1, on=false, dimming=50, color temperature=153
+     *
+     * @throws DTOPresentButEmptyException
+     */
+    @Test
+    void mergePutResourcesLatestValueWins() throws DTOPresentButEmptyException {
+        Resource pending = createResource(ResourceType.LIGHT, "1");
+        pending.setOnState(createOnState(false));
+        pending.setDimming(createDimming(49));
+        pending.setColorXy(new ColorXy().setXY(new double[] { 0.3, 0.3 }));
+
+        Resource newer = createResource(ResourceType.LIGHT, "1");
+        newer.setDimming(createDimming(50));
+        newer.setColorTemperature(createColorTemperature(153));
+
+        assertThat(Setters.mergePutResources(pending, newer), is(true));
+
+        OnState onState = pending.getOnState();
+        assertThat(onState, is(notNullValue()));
+        if (onState != null) {
+            assertThat(onState.isOn(), is(false));
+        }
+        Dimming dimming = pending.getDimming();
+        assertThat(dimming, is(notNullValue()));
+        if (dimming != null) {
+            assertThat(dimming.getBrightness(), is(equalTo(50.0)));
+        }
+        ColorTemperature colorTemperature = pending.getColorTemperature();
+        assertThat(colorTemperature, is(notNullValue()));
+        if (colorTemperature != null) {
+            assertThat(colorTemperature.getMirek(), is(equalTo(153L)));
+        }
+        // color and color temperature are mutually exclusive
+        assertThat(pending.getColorXy(), is(nullValue()));
+    }
+
+    /**
+     * Tests that resources with actions, or for different resources, are not merged.
+     */
+    @Test
+    void mergePutResourcesDoesNotMergeActionsOrDifferentResources() {
+        Resource pending = createResource(ResourceType.LIGHT, "1");
+        pending.setDimming(createDimming(49));
+
+        Resource alert = createResource(ResourceType.LIGHT, "1");
+        alert.setAlerts(new Alerts().setAction(ActionType.BREATHE));
+        assertThat(Setters.mergePutResources(pending, alert), is(false));
+
+        Resource otherLight = createResource(ResourceType.LIGHT, "2");
+        otherLight.setDimming(createDimming(50));
+        assertThat(Setters.mergePutResources(pending, otherLight), is(false));
+
+        Resource motion = createResource(ResourceType.MOTION, "1");
+        assertThat(Setters.mergePutResources(pending, motion), is(false));
+    }
+
     private OnState createOnState(boolean on) {
         OnState onState = new OnState();
         onState.setOn(on);
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Alerts;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.DTOPresentButEmptyException;
+
+/**
+ * JUnit test for {@link Clip2PutQueue}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class Clip2PutQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final List<Resource> sent = new ArrayList<>();
+    private int drainedCount;
+    private final Clip2PutQueue queue = new Clip2PutQueue(tasks::add, resource -> {
+        sent.add(resource);
+        return new Resources();
+    }, () -> drainedCount++);
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private Resource createDimming(String id, double brightness) {
+        Dimming dimming = new Dimming();
+        dimming.setBrightness(brightness);
+        return new Resource(ResourceType.LIGHT).setId(id).setDimming(dimming);
+    }
+
+    @Test
+    void testLatestValueWins() throws DTOPresentButEmptyException {
+        List<CompletableFuture<Resources>> futures = new ArrayList<>();
+        for (int brightness = 10; brightness <= 50; brightness += 10) {
+            futures.add(queue.submit(createDimming("1", brightness)));
+        }
+        assertEquals(1, queue.getQueueDepth());
+        assertEquals(4, queue.getMergeCount());
+
+        runTasks();
+
+        assertEquals(1, sent.size());
+        Dimming dimming = sent.get(0).getDimming();
+        assertNotNull(dimming);
+        assertEquals(50.0, dimming.getBrightness());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(futures.get(i).isCancelled());
+        }
+        assertTrue(futures.get(4).isDone());
+        assertFalse(futures.get(4).isCompletedExceptionally());
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void testQueuesPerResourceInOrder() {
+        queue.submit(createDimming("1", 10));
+        queue.submit(createDimming("2", 20));
+        queue.submit(new Resource(ResourceType.LIGHT).setId("1").setAlerts(new Alerts().setAction(ActionType.BREATHE)));
+        queue.submit(createDimming("1", 30));
+        assertEquals(4, queue.getQueueDepth());
+        assertEquals(0, queue.getMergeCount());
+
+        runTasks();
+
+        assertEquals(List.of("1", "1", "1", "2"), sent.stream().map(Resource::getId).toList());
+        assertNotNull(sent.get(1).getAlerts());
+        assertEquals(0, queue.getQueueDepth());
+        assertEquals(2, drainedCount);
+    }
+
+    @Test
+    void testDisposeCancelsPendingRequests() {
+        CompletableFuture<Resources> future = queue.submit(createDimming("1", 10));
+        queue.dispose();
+        assertTrue(future.isCancelled());
+        assertTrue(queue.submit(createDimming("1", 20)).isCompletedExceptionally());
+
+        runTasks();
+
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    void testRejectedExecutionCancelsRequests() {
+        Clip2PutQueue rejectingQueue = new Clip2PutQueue(task -> {
+            throw new RejectedExecutionException();
+        }, resource -> {
+            sent.add(resource);
+            return new Resources();
+        }, () -> drainedCount++);
+        assertTrue(rejectingQueue.submit(createDimming("1", 10)).isCancelled());
+        assertEquals(0, rejectingQueue.getQueueDepth());
+
+        // the resource is not stuck, a later request is tried again
+        assertTrue(rejectingQueue.submit(createDimming("1", 20)).isCancelled());
+        assertEquals(0, rejectingQueue.getQueueDepth());
+        assertTrue(sent.isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Event;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ContentType;
+import org.openhab.binding.hue.internal.api.dto.clip2.helper.Setters;
+import org.openhab.binding.hue.internal.api.serialization.InstantDeserializer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * JUnit test for {@link Clip2ResourceIndex}, which replays the resources of recorded SSE events.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class Clip2ResourceIndexTest {
+
+    private static final Gson GSON = new GsonBuilder().registerTypeAdapter(Instant.class, new InstantDeserializer())
+            .create();
+
+    private static final String LIGHT_ID = "09837085-7c06-45e1-92de-a2fa76dbbccb";
+    private static final String GROUPED_LIGHT_ID = "6e2fee8d-c25f-4468-8ac8-5ed75c6f3cf1";
+    private static final String SCENE_ID = "fc344d9a-4c63-4e38-8082-d23b48b2152c";
+    private static final String ROOM_ID = "5ea4a1ab-3c6e-4b4b-a6c4-9e3fd6e4ac52";
+
+    /**
+     * Replay the recorded events in the same way as the bridge handler does, i.e. set the content type of each
+     * resource from its event.
+     */
+    private List<Resource> replay() {
+        List<Resource> resources = new ArrayList<>();
+        try {
+            List<Event> events = GSON.fromJson(Files.readString(Path.of("src/test/resources/event.json")),
+                    Event.EVENT_LIST_TYPE);
+            assertNotNull(events);
+            events.forEach(event -> {
+                List<Resource> eventResources = event.getData();
+                eventResources.forEach(resource -> resource.setContentType(event.getContentType()));
+                resources.addAll(eventResources);
+            });
+        } catch (IOException e) {
+            fail(e.getMessage());
+        }
+        return resources;
+    }
+
+    @Test
+    void testRouteOnlyToInterestedConsumers() {
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(List.of("light", "zone", "scene", "none"),
+                consumer -> switch (consumer) {
+                    case "light" -> Set.of(LIGHT_ID);
+                    case "zone" -> Set.of(GROUPED_LIGHT_ID);
+                    case "scene" -> Set.of(LIGHT_ID, SCENE_ID);
+                    default -> Set.of();
+                });
+        assertEquals(2, index.size());
+
+        Map<String, List<Resource>> routes = index.route(replay());
+        assertEquals(Set.of("light", "zone", "scene"), routes.keySet());
+
+        List<Resource> lightResources = routes.get("light");
+        assertNotNull(lightResources);
+        assertEquals(1, lightResources.size());
+        assertEquals(LIGHT_ID, lightResources.get(0).getId());
+
+        List<Resource> zoneResources = routes.get("zone");
+        assertNotNull(zoneResources);
+        assertEquals(2, zoneResources.size());
+        assertTrue(zoneResources.stream().allMatch(r -> GROUPED_LIGHT_ID.equals(r.getId())));
+
+        List<Resource> sceneResources = routes.get("scene");
+        assertNotNull(sceneResources);
+        assertEquals(List.of(LIGHT_ID, SCENE_ID), sceneResources.stream().map(Resource::getId).toList());
+    }
+
+    @Test
+    void testRouteEachResourceOnce() {
+        List<Resource> resources = replay();
+        List<String> ids = resources.stream().map(Resource::getId).distinct().toList();
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(ids, id -> Set.of(id));
+        assertEquals(ids.size(), index.size());
+
+        Map<String, List<Resource>> routes = index.route(resources);
+        assertEquals(ids.size(), routes.size());
+        assertEquals(resources.size(), routes.values().stream().mapToInt(List::size).sum());
+        routes.forEach(
+                (id, routedResources) -> assertTrue(routedResources.stream().allMatch(r -> id.equals(r.getId()))));
+    }
+
+    @Test
+    void testMergeResourcesOfSeveralEvents() {
+        List<Resource> resources = replay();
+        resources.addAll(replay());
+        assertEquals(32, resources.size());
+
+        Setters.mergeLightResources(resources);
+
+        // the button and scene resources are not merged, all (grouped) light resources are merged per id
+        assertEquals(13, resources.size());
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(List.of("zone"),
+                consumer -> Set.of(GROUPED_LIGHT_ID));
+        List<Resource> zoneResources = index.route(resources).get("zone");
+        assertNotNull(zoneResources);
+        assertEquals(1, zoneResources.size());
+        assertNotNull(zoneResources.get(0).getOnState());
+        assertNotNull(zoneResources.get(0).getDimming());
+    }
+
+    @Test
+    void testRouteAddedSceneToGroupConsumer() {
+        Resource added = GSON.fromJson("{\"id\":\"" + SCENE_ID + "\",\"type\":\"scene\",\"group\":{\"rid\":\""
+                + ROOM_ID + "\",\"rtype\":\"room\"}}", Resource.class);
+        Resource update = GSON.fromJson("{\"id\":\"" + SCENE_ID + "\",\"type\":\"scene\",\"status\":{\"active\":"
+                + "\"static\"}}", Resource.class);
+        assertNotNull(added);
+        assertNotNull(update);
+        added.setContentType(ContentType.ADD);
+        update.setContentType(ContentType.UPDATE);
+
+        Clip2ResourceIndex<String> index = new Clip2ResourceIndex<>(List.of("room"), consumer -> Set.of(ROOM_ID));
+        List<Resource> roomResources = index.route(List.of(added, update)).get("room");
+        assertNotNull(roomResources);
+        assertEquals(List.of(added, update), roomResources);
+    }
+}
@@ -54,20 +54,18 @@ public class Ffmpeg {
     private int keepAlive = 8;
     private String password;
     private Boolean notFrozen = true;
+    private String exclusiveInputArguments = "";
+    private String outputArguments = "";
+    private @Nullable FfmpegSupervisor supervisor;
+    private int countOfMotions;
 
     public Ffmpeg(IpCameraHandler handle, FFmpegFormat format, String ffmpegLocation, String inputArguments,
             String input, String outArguments, String output, String username, String password) {
         this.format = format;
-        this.password = URLEncoder.encode(password, StandardCharsets.UTF_8);
+        this.password = encodePassword(password);
 
         ipCameraHandler = handle;
-        String altInput = input;
-        // Input can be snapshots not just rtsp or http
-        if (!password.isEmpty() && !input.contains("@") && input.contains("rtsp")) {
-            String credentials = username + ":" + this.password + "@";
-            // will not work for https: but currently binding does not use https
-            altInput = input.substring(0, 7) + credentials + input.substring(7);
-        }
+        String altInput = addCredentials(input, username, password);
         if (inputArguments.isEmpty()) {
             ffmpegCommand = "-i " + altInput + " " + outArguments + " " + output;
         } else {
@@ -78,6 +76,45 @@ public class Ffmpeg {
         commandArrayList.add(0, ffmpegLocation);
     }
 
+    /**
+     * Create an output of the ffmpeg process shared by the camera, which reads the stream from the camera only once.
+     *
+     * @param exclusiveInputArguments input options that are only used while this is the only output, as they would
+     *            affect the other outputs
+     */
+    public Ffmpeg(IpCameraHandler handle, FFmpegFormat format, FfmpegSupervisor supervisor,
+            String exclusiveInputArguments, String outArguments, String output) {
+        this.format = format;
+        this.password = "";
+        this.supervisor = supervisor;
+        this.exclusiveInputArguments = exclusiveInputArguments;
+        ipCameraHandler = handle;
+        outputArguments = outArguments + " " + output;
+        ffmpegCommand = outputArguments;
+    }
+
+    static String encodePassword(String password) {
+        return URLEncoder.encode(password, StandardCharsets.UTF_8);
+    }
+
+    static String addCredentials(String input, String username, String password) {
+        // Input can be snapshots not just rtsp or http
+        if (!password.isEmpty() && !input.contains("@") && input.contains("rtsp")) {
+            String credentials = username + ":" + encodePassword(password) + "@";
+            // will not work for https: but currently binding does not use https
+            return input.substring(0, 7) + credentials + input.substring(7);
+        }
+        return input;
+    }
+
+    String getExclusiveInputArguments() {
+        return exclusiveInputArguments;
+    }
+
+    String getOutputArguments() {
+        return outputArguments;
+    }
+
     public void setKeepAlive(int numberOfEightSeconds) {
         // We poll every 8 seconds due to mjpeg stream requirement.
         if (keepAlive == -1 && numberOfEightSeconds > 1) {
@@ -98,9 +135,73 @@ public class Ffmpeg {
         }
     }
 
+    /**
+     * Process a line of the error output of ffmpeg
+     */
+    void processLine(String line) {
+        switch (format) {
+            case RTSP_ALARMS:
+                if (line.contains("lavfi.")) {
+                    // When the number of pixels that change are below the noise floor we need to look
+                    // across frames to confirm it is motion and not noise.
+                    if (countOfMotions < 10) { // Stop increasing otherwise it takes too long to go OFF
+                        countOfMotions++;
+                    }
+                    if (countOfMotions > 9) {
+                        ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                    } else if (countOfMotions > 4 && ipCameraHandler.motionThreshold.intValue() > 10) {
+                        ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                    } else if (countOfMotions > 3 && ipCameraHandler.motionThreshold.intValue() > 15) {
+                        ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                    } else if (countOfMotions > 2 && ipCameraHandler.motionThreshold.intValue() > 30) {
+                        ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                    } else if (countOfMotions > 0 && ipCameraHandler.motionThreshold.intValue() > 89) {
+                        ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                        countOfMotions = 4; // Used to debounce the Alarm.
+                    }
+                } else if (line.contains("speed=")) {
+                    if (countOfMotions > 0) {
+                        if (ipCameraHandler.motionThreshold.intValue() > 89) {
+                            countOfMotions--;
+                        }
+                        if (ipCameraHandler.motionThreshold.intValue() > 10) {
+                            countOfMotions -= 2;
+                        } else {
+                            countOfMotions -= 4;
+                        }
+                        if (countOfMotions <= 0) {
+                            ipCameraHandler.noMotionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
+                            countOfMotions = 0;
+                        }
+                    }
+                } else if (line.contains("silence_start")) {
+                    ipCameraHandler.noAudioDetected();
+                } else if (line.contains("silence_end")) {
+                    ipCameraHandler.audioDetected();
+                }
+                notFrozen = true;
+                break;
+            case MJPEG:
+            case SNAPSHOT:
+                // The progress of a shared process does not tell if this output works, see frameReceived()
+                if (supervisor == null) {
+                    notFrozen = true;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Called when a frame of this output arrives at the servlet, which shows that the output is not frozen.
+     */
+    public void frameReceived() {
+        notFrozen = true;
+    }
+
     private class IpCameraFfmpegThread extends Thread {
         private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(1);
-        public int countOfMotions;
 
         IpCameraFfmpegThread() {
             setDaemon(true);
@@ -130,53 +231,7 @@ public class Ffmpeg {
                 String line = null;
                 while ((line = bufferedReader.readLine()) != null) {
                     logger.trace("{}", line);
-                    switch (format) {
-                        case RTSP_ALARMS:
-                            if (line.contains("lavfi.")) {
-                                // When the number of pixels that change are below the noise floor we need to look
-                                // across frames to confirm it is motion and not noise.
-                                if (countOfMotions < 10) { // Stop increasing otherwise it takes too long to go OFF
-                                    countOfMotions++;
-                                }
-                                if (countOfMotions > 9) {
-                                    ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                } else if (countOfMotions > 4 && ipCameraHandler.motionThreshold.intValue() > 10) {
-                                    ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                } else if (countOfMotions > 3 && ipCameraHandler.motionThreshold.intValue() > 15) {
-                                    ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                } else if (countOfMotions > 2 && ipCameraHandler.motionThreshold.intValue() > 30) {
-                                    ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                } else if (countOfMotions > 0 && ipCameraHandler.motionThreshold.intValue() > 89) {
-                                    ipCameraHandler.motionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                    countOfMotions = 4; // Used to debounce the Alarm.
-                                }
-                            } else if (line.contains("speed=")) {
-                                if (countOfMotions > 0) {
-                                    if (ipCameraHandler.motionThreshold.intValue() > 89) {
-                                        countOfMotions--;
-                                    }
-                                    if (ipCameraHandler.motionThreshold.intValue() > 10) {
-                                        countOfMotions -= 2;
-                                    } else {
-                                        countOfMotions -= 4;
-                                    }
-                                    if (countOfMotions <= 0) {
-                                        ipCameraHandler.noMotionDetected(CHANNEL_FFMPEG_MOTION_ALARM);
-                                        countOfMotions = 0;
-                                    }
-                                }
-                            } else if (line.contains("silence_start")) {
-                                ipCameraHandler.noAudioDetected();
-                            } else if (line.contains("silence_end")) {
-                                ipCameraHandler.audioDetected();
-                            }
-                        case MJPEG:
-                        case SNAPSHOT:
-                            notFrozen = true; // RTSP_ALARMS, MJPEG and SNAPSHOT all set this to true, no break.
-                            break;
-                        default:
-                            break;
-                    }
+                    processLine(line);
                 }
             } catch (IOException e) {
                 logger.warn("An IO error occurred trying to start FFmpeg: {}", e.getMessage());
@@ -196,7 +251,12 @@ public class Ffmpeg {
     }
 
     public void startConverting() {
-        if (!ipCameraFfmpegThread.isAlive()) {
+        FfmpegSupervisor localSupervisor = supervisor;
+        if (localSupervisor != null) {
+            if (localSupervisor.start(this)) {
+                logger.debug("Adding ffmpeg {} output: {}", format, outputArguments);
+            }
+        } else if (!ipCameraFfmpegThread.isAlive()) {
             ipCameraFfmpegThread = new IpCameraFfmpegThread();
             if (!password.isEmpty()) {
                 logger.debug("Starting ffmpeg with this command now: {}",
@@ -215,18 +275,24 @@ public class Ffmpeg {
     }
 
     public boolean isAlive() {
+        FfmpegSupervisor localSupervisor = supervisor;
         Process localProcess = process;
-        if (localProcess != null) {
-            if (localProcess.isAlive() && notFrozen) {
-                notFrozen = false; // Any process output will set this back to true before next check.
-                return true;
-            }
+        boolean running = localSupervisor != null ? localSupervisor.isRunning()
+                : localProcess != null && localProcess.isAlive();
+        if (running && notFrozen) {
+            notFrozen = false; // Any process output will set this back to true before next check.
+            return true;
         }
         return false;
     }
 
     public void stopConverting() {
-        if (ipCameraFfmpegThread.isAlive()) {
+        FfmpegSupervisor localSupervisor = supervisor;
+        if (localSupervisor != null) {
+            if (localSupervisor.stop(this)) {
+                logger.debug("Removing ffmpeg {} output now when keepalive is: {}", format, keepAlive);
+            }
+        } else if (ipCameraFfmpegThread.isAlive()) {
             logger.debug("Stopping ffmpeg {} now when keepalive is: {}", format, keepAlive);
             Process localProcess = process;
             if (localProcess != null) {
@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link FfmpegSupervisor} runs a single FFmpeg process per camera which pulls the stream from the camera once and
+ * creates the MJPEG and snapshot outputs that are currently needed, instead of one process and one connection to the
+ * camera per output.
+ * <p>
+ * Outputs are added and removed on demand, which restarts the process with the new set of outputs. If the process exits
+ * while outputs are still needed, it is restarted with an increasing delay. Only outputs that are started and stopped
+ * on demand should share the process, as long running outputs like HLS and the alarms would be interrupted by every
+ * restart. The error output of the process is passed to its own outputs only.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class FfmpegSupervisor {
+    // collects changes of the outputs that happen at the same time into a single restart
+    private static final long CHANGE_DELAY_MS = 500;
+    private static final long MIN_BACKOFF_MS = 1000;
+    private static final long MAX_BACKOFF_MS = 60000;
+    // a process that ran at least this long is considered stable again
+    private static final long STABLE_RUN_MS = 60000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+    private final ScheduledExecutorService scheduler;
+    private final String ffmpegLocation;
+    private final String inputArguments;
+    private final String input;
+    private final String password;
+    private final Set<Ffmpeg> outputs = new LinkedHashSet<>();
+    private @Nullable Process process;
+    private @Nullable ScheduledFuture<?> restartJob;
+    private long backoff = MIN_BACKOFF_MS;
+    // increased whenever a process is replaced, so its exit is not taken as a failure
+    private int generation = 0;
+    private boolean disposed = false;
+
+    public FfmpegSupervisor(ScheduledExecutorService scheduler, String ffmpegLocation, String inputArguments,
+            String input, String username, String password) {
+        this.scheduler = scheduler;
+        this.ffmpegLocation = ffmpegLocation;
+        this.inputArguments = inputArguments;
+        this.input = Ffmpeg.addCredentials(input, username, password);
+        this.password = Ffmpeg.encodePassword(password);
+    }
+
+    /**
+     * Add an output to the process
+     *
+     * @param output the output
+     * @return true if the output was not created before
+     */
+    public synchronized boolean start(Ffmpeg output) {
+        if (disposed) {
+            return false;
+        }
+        boolean added = outputs.add(output);
+        if (added || !isRunning()) {
+            scheduleRestart(CHANGE_DELAY_MS);
+        }
+        return added;
+    }
+
+    /**
+     * Remove an output from the process. The process is stopped when no outputs are left.
+     *
+     * @param output the output
+     * @return true if the output was created before
+     */
+    public synchronized boolean stop(Ffmpeg output) {
+        if (!outputs.remove(output)) {
+            return false;
+        }
+        if (outputs.isEmpty()) {
+            cancelRestart();
+            stopProcess();
+        } else {
+            scheduleRestart(CHANGE_DELAY_MS);
+        }
+        return true;
+    }
+
+    public synchronized boolean isRunning() {
+        Process localProcess = process;
+        return localProcess != null && localProcess.isAlive();
+    }
+
+    public synchronized void dispose() {
+        disposed = true;
+        outputs.clear();
+        cancelRestart();
+        stopProcess();
+    }
+
+    private void scheduleRestart(long delay) {
+        ScheduledFuture<?> localJob = restartJob;
+        if (localJob != null && !localJob.isDone()) {
+            return; // the pending restart picks up the current outputs
+        }
+        restartJob = scheduler.schedule(this::restart, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelRestart() {
+        ScheduledFuture<?> localJob = restartJob;
+        if (localJob != null) {
+            localJob.cancel(false);
+            restartJob = null;
+        }
+    }
+
+    private void stopProcess() {
+        generation++;
+        Process localProcess = process;
+        if (localProcess != null) {
+            logger.debug("Stopping the shared ffmpeg process now");
+            localProcess.destroyForcibly();
+            process = null;
+        }
+    }
+
+    private synchronized void restart() {
+        restartJob = null;
+        stopProcess();
+        if (disposed || outputs.isEmpty()) {
+            return;
+        }
+        List<String> command = buildCommand();
+        if (logger.isDebugEnabled()) {
+            String commandString = String.join(" ", command);
+            logger.debug("Starting shared ffmpeg with this command now: {}",
+                    password.isEmpty() ? commandString : commandString.replace(password, "********"));
+        }
+        try {
+            Process localProcess = Runtime.getRuntime().exec(command.toArray(new String[command.size()]));
+            process = localProcess;
+            int processGeneration = generation;
+            long startTime = System.currentTimeMillis();
+            Thread thread = new Thread(() -> readOutput(localProcess, processGeneration, startTime),
+                    "OH-binding-ipcamera-ffmpeg");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            logger.warn("An IO error occurred trying to start FFmpeg: {}", e.getMessage());
+            scheduleBackoff();
+        }
+    }
+
+    private List<String> buildCommand() {
+        List<String> command = new ArrayList<>();
+        command.add(ffmpegLocation); // ffmpegLocation may have a space in its folder
+        addArguments(command, inputArguments);
+        if (outputs.size() == 1) {
+            addArguments(command, outputs.iterator().next().getExclusiveInputArguments());
+        }
+        command.add("-i");
+        command.add(input);
+        for (Ffmpeg output : outputs) {
+            addArguments(command, output.getOutputArguments());
+        }
+        return command;
+    }
+
+    private static void addArguments(List<String> command, String arguments) {
+        if (!arguments.isBlank()) {
+            Collections.addAll(command, arguments.trim().split("\\s+"));
+        }
+    }
+
+    private void readOutput(Process localProcess, int processGeneration, long startTime) {
+        try (BufferedReader bufferedReader = new BufferedReader(
+                new InputStreamReader(localProcess.getErrorStream()))) {
+            String line = null;
+            while ((line = bufferedReader.readLine()) != null) {
+                logger.trace("{}", line);
+                List<Ffmpeg> currentOutputs;
+                synchronized (this) {
+                    if (processGeneration != generation) {
+                        return;
+                    }
+                    currentOutputs = new ArrayList<>(outputs);
+                }
+                for (Ffmpeg output : currentOutputs) {
+                    output.processLine(line);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Reading the output of ffmpeg failed: {}", e.getMessage());
+        }
+        synchronized (this) {
+            if (processGeneration != generation || disposed || outputs.isEmpty()) {
+                return;
+            }
+            process = null;
+            if (System.currentTimeMillis() - startTime >= STABLE_RUN_MS) {
+                backoff = MIN_BACKOFF_MS;
+            }
+            logger.debug("The shared ffmpeg process stopped unexpectedly, restarting it in {}ms", backoff);
+            scheduleBackoff();
+        }
+    }
+
+    private void scheduleBackoff() {
+        cancelRestart();
+        restartJob = scheduler.schedule(this::restart, backoff, TimeUnit.MILLISECONDS);
+        backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+    }
+}
@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -49,6 +50,7 @@ import org.openhab.binding.ipcamera.internal.ChannelTracking;
 import org.openhab.binding.ipcamera.internal.DahuaHandler;
 import org.openhab.binding.ipcamera.internal.DoorBirdHandler;
 import org.openhab.binding.ipcamera.internal.Ffmpeg;
+import org.openhab.binding.ipcamera.internal.FfmpegSupervisor;
 import org.openhab.binding.ipcamera.internal.FoscamHandler;
 import org.openhab.binding.ipcamera.internal.GroupTracker;
 import org.openhab.binding.ipcamera.internal.Helper;
@@ -144,6 +146,8 @@ public class IpCameraHandler extends BaseThingHandler {
     public @Nullable Ffmpeg ffmpegRtspHelper = null;
     public @Nullable Ffmpeg ffmpegMjpeg = null;
     public @Nullable Ffmpeg ffmpegSnapshot = null;
+    // keyed by the input options, outputs with different input options can't share a process
+    private final Map<String, FfmpegSupervisor> ffmpegSupervisors = new ConcurrentHashMap<>();
     public boolean streamingAutoFps = false;
     public boolean motionDetected = false;
     public Instant lastSnapshotRequest = Instant.now();
@@ -277,11 +281,18 @@ public class IpCameraHandler extends BaseThingHandler {
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
                         if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
+                            ByteBuf buffer = content.content();
+                            int length = buffer.readableBytes();
+                            if (bytesAlreadyRecieved + length > incomingJpeg.length) {
+                                // Content-Length was missing or wrong
+                                incomingJpeg = Arrays.copyOf(incomingJpeg,
+                                        Math.max(bytesAlreadyRecieved + length, 2 * incomingJpeg.length));
                             }
+                            buffer.getBytes(buffer.readerIndex(), incomingJpeg, bytesAlreadyRecieved, length);
+                            bytesAlreadyRecieved += length;
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                processSnapshot(bytesAlreadyRecieved == incomingJpeg.length ? incomingJpeg
+                                        : Arrays.copyOf(incomingJpeg, bytesAlreadyRecieved));
                                 ctx.close();
                             }
                         } else { // incomingMessage that is not an IMAGE
@@ -933,15 +944,9 @@ public class IpCameraHandler extends BaseThingHandler {
                 break;
             case MJPEG:
                 if (ffmpegMjpeg == null) {
-                    if (inputOptions.isEmpty()) {
-                        inputOptions = "-hide_banner";
-                    } else {
-                        inputOptions += " -hide_banner";
-                    }
-                    ffmpegMjpeg = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(), inputOptions, rtspUri,
+                    ffmpegMjpeg = new Ffmpeg(this, format, getFfmpegSupervisor(inputOptions), "",
                             cameraConfig.getMjpegOptions(), "http://127.0.0.1:" + SERVLET_PORT + "/ipcamera/"
-                                    + getThing().getUID().getId() + "/ipcamera.jpg",
-                            cameraConfig.getUser(), cameraConfig.getPassword());
+                                    + getThing().getUID().getId() + "/ipcamera.jpg");
                 }
                 Ffmpeg localMjpeg = ffmpegMjpeg;
                 if (localMjpeg != null) {
@@ -951,16 +956,11 @@ public class IpCameraHandler extends BaseThingHandler {
             case SNAPSHOT:
                 // if mjpeg stream you can use 'ffmpeg -i input -codec:v copy -bsf:v mjpeg2jpeg output.jpg'
                 if (ffmpegSnapshot == null) {
-                    if (inputOptions.isEmpty()) {
-                        // iFrames only
-                        inputOptions = "-threads 1 -skip_frame nokey -hide_banner";
-                    } else {
-                        inputOptions += " -threads 1 -skip_frame nokey -hide_banner";
-                    }
-                    ffmpegSnapshot = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(), inputOptions, rtspUri,
-                            cameraConfig.getSnapshotOptions(), "http://127.0.0.1:" + SERVLET_PORT + "/ipcamera/"
-                                    + getThing().getUID().getId() + "/snapshot.jpg",
-                            cameraConfig.getUser(), cameraConfig.getPassword());
+                    // iFrames only, as long as no other output needs every frame
+                    ffmpegSnapshot = new Ffmpeg(this, format, getFfmpegSupervisor(inputOptions),
+                            "-threads 1 -skip_frame nokey", cameraConfig.getSnapshotOptions(),
+                            "http://127.0.0.1:" + SERVLET_PORT + "/ipcamera/" + getThing().getUID().getId()
+                                    + "/snapshot.jpg");
                 }
                 Ffmpeg localSnaps = ffmpegSnapshot;
                 if (localSnaps != null) {
@@ -970,6 +970,17 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Get the ffmpeg process which reads the stream from the camera once for the MJPEG and snapshot outputs with the
+     * given input options
+     */
+    private FfmpegSupervisor getFfmpegSupervisor(String inputOptions) {
+        return ffmpegSupervisors.computeIfAbsent(inputOptions,
+                options -> new FfmpegSupervisor(threadPool, cameraConfig.getFfmpegLocation(),
+                        options.isEmpty() ? "-hide_banner" : options + " -hide_banner", rtspUri,
+                        cameraConfig.getUser(), cameraConfig.getPassword()));
+    }
+
     public void noMotionDetected(String thisAlarmsChannel) {
         setChannelState(thisAlarmsChannel, OnOffType.OFF);
         firstMotionAlarm = false;
@@ -1834,6 +1845,8 @@ public class IpCameraHandler extends BaseThingHandler {
             localFfmpeg.stopConverting();
             ffmpegSnapshot = null;
         }
+        ffmpegSupervisors.values().forEach(FfmpegSupervisor::dispose);
+        ffmpegSupervisors.clear();
         if (!thing.getThingTypeUID().getId().equals(GENERIC_THING)) { // generic cameras do not have ONVIF support
             onvifCamera.disconnect();
         }
@@ -72,11 +72,19 @@ public class CameraServlet extends IpCameraServlet {
                 ServletInputStream snapshotData = req.getInputStream();
                 openStreams.queueFrame(snapshotData.readAllBytes());
                 snapshotData.close();
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.frameReceived();
+                }
                 break;
             case "/snapshot.jpg":
                 snapshotData = req.getInputStream();
                 handler.processSnapshot(snapshotData.readAllBytes());
                 snapshotData.close();
+                Ffmpeg localSnapshot = handler.ffmpegSnapshot;
+                if (localSnapshot != null) {
+                    localSnapshot.frameReceived();
+                }
                 break;
             case "/OnvifEvent":
                 handler.onvifCamera.eventRecieved(req.getReader().toString());
@@ -199,31 +207,11 @@ public class CameraServlet extends IpCameraServlet {
                     }
                     output = new StreamOutput(resp, handler.mjpegContentType);
                 }
-                openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                // frames are written asynchronously, the stream is removed once the browser stops it
+                final StreamOutput mjpegOutput = output;
+                mjpegOutput.startAsync(req.startAsync(req, resp), () -> mjpegStreamClosed(mjpegOutput));
+                openStreams.addStream(mjpegOutput);
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
@@ -270,6 +258,25 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    private void mjpegStreamClosed(StreamOutput output) {
+        openStreams.removeStream(output);
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped.");
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
@@ -12,22 +12,26 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all streams to allow
+ * 1 to many streams without needing to open more than 1 source stream. The byte[] is shared by all streams and not
+ * copied.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    // iterated over for every frame, a stream that fails while being written to removes itself during the iteration
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
     public String boundary = "thisMjpegStream";
+    private volatile byte[] boundaryMarker = toBoundaryMarker(boundary);
 
     public synchronized void addStream(StreamOutput stream) {
         openStreams.add(stream);
@@ -47,21 +51,32 @@ public class OpenStreams {
 
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
+        this.boundaryMarker = toBoundaryMarker(boundary);
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    public void queueFrame(byte[] frame) {
+        byte[] boundaryMarker = this.boundaryMarker;
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.queueFrame(frame, boundaryMarker);
         }
     }
 
-    public synchronized void closeAllStreams() {
-        for (StreamOutput stream : openStreams) {
+    public void closeAllStreams() {
+        List<StreamOutput> streams;
+        synchronized (this) {
+            streams = new ArrayList<>(openStreams);
+            openStreams.clear();
+        }
+        // closing a stream removes it, so this is done without holding the lock
+        for (StreamOutput stream : streams) {
             stream.close();
         }
-        openStreams.clear();
+    }
+
+    private static byte[] toBoundaryMarker(String boundary) {
+        return ("--" + boundary).getBytes(StandardCharsets.US_ASCII);
     }
 }
@@ -13,42 +13,75 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
+ * <p>
+ * Streams fed by {@link OpenStreams} are written asynchronously, so no servlet thread is held per client. A client
+ * which can not keep up misses frames: snapshot based streams only keep the latest frame, and native streams skip data
+ * up to the next multipart boundary once too much is waiting.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
-public class StreamOutput {
+public class StreamOutput implements WriteListener {
+    private static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] SNAPSHOT_HEADER_START = ("--" + SNAPSHOT_BOUNDARY
+            + "\r\nContent-Type: image/jpeg\r\nContent-Length: ").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SNAPSHOT_HEADER_END = "\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    // data of a native stream waiting for a slow client before it is skipped
+    private static final int MAX_QUEUED_BYTES = 2 * 1024 * 1024;
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
-    private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
+    // asynchronous output, guarded by this
+    private final Deque<Part[]> queuedFrames = new ArrayDeque<>();
+    private int queuedBytes = 0;
+    private Part @Nullable [] currentFrame;
+    private int currentPart;
+    private boolean skipToBoundary = false;
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable Runnable closeListener;
+    private boolean closed = false;
+
+    /**
+     * A part of a frame, referencing the data of a frame which is shared by all clients
+     */
+    private record Part(byte[] data, int offset, int length) {
+        Part(byte[] data) {
+            this(data, 0, data.length);
+        }
+    }
+
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
-        contentType = "multipart/x-mixed-replace; boundary=" + boundary;
+        contentType = "multipart/x-mixed-replace; boundary=" + SNAPSHOT_BOUNDARY;
         this.response = response;
         output = response.getOutputStream();
         isSnapshotBased = true;
     }
 
     public StreamOutput(HttpServletResponse response, String contentType) throws IOException {
-        boundary = "";
         this.contentType = contentType;
         this.response = response;
         output = response.getOutputStream();
@@ -58,33 +91,145 @@ public class StreamOutput {
         }
     }
 
+    /**
+     * Write frames asynchronously from now on. Frames are passed with {@link #queueFrame} and written whenever the
+     * client is ready.
+     *
+     * @param asyncContext the context of the request, which is completed when the stream closes
+     * @param closeListener called once when the stream closes
+     */
+    public synchronized void startAsync(AsyncContext asyncContext, Runnable closeListener) {
+        this.asyncContext = asyncContext;
+        this.closeListener = closeListener;
+        asyncContext.setTimeout(0);
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onTimeout(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onError(@Nullable AsyncEvent event) {
+                close();
+            }
+
+            @Override
+            public void onStartAsync(@Nullable AsyncEvent event) {
+            }
+        });
+        output.setWriteListener(this);
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        byte[] header = snapshotHeader(currentSnapshot.length);
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
+            output.write(header);
             output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(CRLF);
             connected = true;
         }
-        output.write(header.getBytes());
+        output.write(header);
         output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.write(CRLF);
+    }
+
+    /**
+     * Queue a frame for the client. The frame is not copied, so it must not be modified afterwards.
+     *
+     * @param frame a JPEG for snapshot based streams, or data of the native stream from the camera
+     * @param boundary the multipart boundary of the native stream, including the leading "--"
+     */
+    public void queueFrame(byte[] frame, byte[] boundary) {
+        synchronized (this) {
+            if (closed || asyncContext == null || !queue(frame, boundary)) {
+                return;
+            }
+        }
+        writeQueuedFrames();
+    }
+
+    private boolean queue(byte[] frame, byte[] boundary) {
+        if (isSnapshotBased) {
+            Part[] parts = new Part[] { new Part(snapshotHeader(frame.length)), new Part(frame), new Part(CRLF) };
+            if (!connected) {
+                sendInitialHeaders();
+                // iOS needs to have two jpgs sent for the picture to appear instantly.
+                queuedFrames.add(parts);
+                connected = true;
+            } else {
+                // only the latest frame is of interest for a client that can not keep up
+                queuedFrames.clear();
+            }
+            queuedFrames.add(parts);
+            return true;
+        } else if (connected) {
+            if (queuedBytes + frame.length > MAX_QUEUED_BYTES) {
+                logger.debug("Client can not keep up with the stream, skipping to the next frame");
+                queuedFrames.clear();
+                queuedBytes = 0;
+                skipToBoundary = true;
+            }
+            int offset = 0;
+            if (skipToBoundary) {
+                offset = indexOf(frame, boundary);
+                if (offset < 0) {
+                    return false;
+                }
+                skipToBoundary = false;
+            }
+            queuedFrames.add(new Part[] { new Part(frame, offset, frame.length - offset) });
+            queuedBytes += frame.length - offset;
+            return true;
+        }
+        return false;
     }
 
-    public void queueFrame(byte[] frame) {
+    @Override
+    public void onWritePossible() {
+        writeQueuedFrames();
+    }
+
+    @Override
+    public void onError(@Nullable Throwable t) {
+        // Occurs when browser stops the stream.
+        close();
+    }
+
+    private void writeQueuedFrames() {
         try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+            synchronized (this) {
+                while (!closed && output.isReady()) {
+                    Part[] frame = currentFrame;
+                    if (frame == null || currentPart >= frame.length) {
+                        frame = queuedFrames.poll();
+                        if (frame == null) {
+                            currentFrame = null;
+                            return;
+                        }
+                        currentFrame = frame;
+                        currentPart = 0;
+                    }
+                    Part part = frame[currentPart++];
+                    if (!isSnapshotBased) {
+                        queuedBytes -= part.length();
+                    }
+                    output.write(part.data(), part.offset(), part.length());
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // closing informs the servlet, which must not happen while holding the lock
+            close();
         }
     }
 
-    public void updateContentType(String contentType) {
+    public synchronized void updateContentType(String contentType) {
         this.contentType = contentType;
         if (!connected) {
             sendInitialHeaders();
@@ -92,24 +237,64 @@ public class StreamOutput {
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
-        }
-    }
-
     private void sendInitialHeaders() {
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
+    private static byte[] snapshotHeader(int contentLength) {
+        byte[] length = Integer.toString(contentLength).getBytes(StandardCharsets.US_ASCII);
+        byte[] header = new byte[SNAPSHOT_HEADER_START.length + length.length + SNAPSHOT_HEADER_END.length];
+        System.arraycopy(SNAPSHOT_HEADER_START, 0, header, 0, SNAPSHOT_HEADER_START.length);
+        System.arraycopy(length, 0, header, SNAPSHOT_HEADER_START.length, length.length);
+        System.arraycopy(SNAPSHOT_HEADER_END, 0, header, SNAPSHOT_HEADER_START.length + length.length,
+                SNAPSHOT_HEADER_END.length);
+        return header;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        if (pattern.length == 0) {
+            return 0;
+        }
+        outer: for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
     public void close() {
-        try {
-            output.close();
-        } catch (IOException e) {
+        Runnable closeListener;
+        AsyncContext asyncContext;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queuedFrames.clear();
+            currentFrame = null;
+            closeListener = this.closeListener;
+            asyncContext = this.asyncContext;
+        }
+        if (asyncContext != null) {
+            try {
+                asyncContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed
+            }
+        } else {
+            try {
+                output.close();
+            } catch (IOException e) {
+            }
+        }
+        if (closeListener != null) {
+            closeListener.run();
         }
     }
 }
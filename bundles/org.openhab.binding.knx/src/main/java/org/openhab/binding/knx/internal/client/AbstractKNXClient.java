@@ -15,13 +15,17 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -81,13 +85,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private static final int MAX_SEND_ATTEMPTS = 2;
 
+    private static final int GROUP_READ = 0x00;
+    private static final int GROUP_RESPONSE = 0x40;
+    private static final int GROUP_WRITE = 0x80;
+
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
     private final ThingUID thingUID;
     private final int responseTimeout;
     private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
     private final CommandExtensionData commandExtensionData;
@@ -102,8 +109,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> groupAddressListeners = new ConcurrentHashMap<>();
+    // the listeners of a group address, which only exist while it has listeners. Telegrams of a group address are
+    // dispatched to its listeners one after the other, in the order they were received.
+    private final Map<GroupAddress, SerialDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private final Object groupAddressListenersLock = new Object();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -144,11 +155,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
         this.openhabSecurity = openhabSecurity;
+        this.readScheduler = new ReadScheduler(readingPause, readRetriesLimit, System::nanoTime);
     }
 
     public void initialize() {
@@ -307,7 +318,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmpLink != null) {
             tmpLink.removeLinkListener(this);
         }
-        readDatapoints.clear();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -336,21 +347,27 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        SerialDispatcher dispatcher = dispatchers.get(destination);
+        boolean isHandled = dispatcher != null;
+        int serviceCode = event.getServiceCode();
+        if (serviceCode != GROUP_RESPONSE) {
+            // responses are mostly caused by our own reads, they must not slow down reading
+            readScheduler.busTelegramReceived();
+        }
+        if (isHandled && serviceCode != GROUP_READ) {
+            readScheduler.groupAddressUpdated(destination);
+        }
+        if (dispatcher != null) {
+            dispatcher.dispatch(listener -> action.apply(listener, source, destination, asdu));
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
             logger.trace("Address '{}' is not configured in openHAB", destination);
-            final String type = switch (event.getServiceCode()) {
-                case 0x80 -> " GROUP_WRITE(";
-                case 0x40 -> " GROUP_RESPONSE(";
-                case 0x00 -> " GROUP_READ(";
+            final String type = switch (serviceCode) {
+                case GROUP_WRITE -> " GROUP_WRITE(";
+                case GROUP_RESPONSE -> " GROUP_RESPONSE(";
+                case GROUP_READ -> " GROUP_READ(";
                 default -> " ?(";
             };
             final String key = destination.toString() + type + event.getASDU().length + ")";
@@ -358,8 +375,44 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
+    /**
+     * The listeners of a group address, which are notified about its telegrams. Notifications are run in order by a
+     * single task on the KNX scheduler, which handles all notifications queued up in the meantime before it finishes.
+     * Notifications for different group addresses do not wait for each other.
+     */
+    private class SerialDispatcher implements Runnable {
+        private final Set<GroupAddressListener> listeners = new CopyOnWriteArraySet<>();
+        private final Queue<Runnable> pendingDispatches = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean dispatching = new AtomicBoolean();
+
+        /**
+         * Queue the notification of the listeners about a telegram. The listeners registered when the notification is
+         * run are notified.
+         */
+        private void dispatch(Consumer<GroupAddressListener> notification) {
+            pendingDispatches.add(() -> listeners.forEach(notification));
+            if (dispatching.compareAndSet(false, true)) {
+                knxScheduler.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            do {
+                Runnable notification;
+                while ((notification = pendingDispatches.poll()) != null) {
+                    try {
+                        notification.run();
+                    } catch (RuntimeException e) {
+                        logger.warn("Error notifying listeners about a telegram: {}", e.getMessage(), e);
+                    }
+                }
+                dispatching.set(false);
+                // a notification queued after the queue was found empty but before the flag was reset needs to be run
+            } while (!pendingDispatches.isEmpty() && dispatching.compareAndSet(false, true));
+        }
+    }
+
     private void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
@@ -368,7 +421,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.next();
         if (datapoint != null) {
             // TODO #8872: allow write access, currently only listening mode
             if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
@@ -385,7 +438,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegalArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readScheduler.retry(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -472,23 +525,64 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.enqueue(datapoint, priority);
+    }
+
+    @Override
+    public void schedulePeriodicRead(Datapoint datapoint, int interval) {
+        readScheduler.schedulePeriodic(datapoint, interval);
+    }
+
+    @Override
+    public void cancelPeriodicReads(String owner) {
+        readScheduler.cancelPeriodic(owner);
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (groupAddressListenersLock) {
+            // a listener registering again may have changed its group addresses
+            unindexGroupAddressListener(listener);
+            Set<GroupAddress> groupAddresses = listener.getGroupAddresses();
+            groupAddressListeners.put(listener, groupAddresses);
+            for (GroupAddress groupAddress : groupAddresses) {
+                dispatchers.computeIfAbsent(groupAddress, ga -> new SerialDispatcher()).listeners.add(listener);
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (groupAddressListenersLock) {
+            unindexGroupAddressListener(listener);
+        }
+    }
+
+    private void unindexGroupAddressListener(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = groupAddressListeners.remove(listener);
+        if (groupAddresses == null) {
+            return;
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            dispatchers.computeIfPresent(groupAddress, (ga, dispatcher) -> {
+                dispatcher.listeners.remove(listener);
+                return dispatcher.listeners.isEmpty() ? null : dispatcher;
+            });
+        }
+    }
+
+    /**
+     * @return the group addresses which have listeners
+     */
+    // Visible for testing
+    Set<GroupAddress> getListenedGroupAddresses() {
+        return dispatchers.keySet();
+    }
+
+    // Visible for testing
+    ProcessListener getProcessListener() {
+        return processListener;
     }
 
     @Override
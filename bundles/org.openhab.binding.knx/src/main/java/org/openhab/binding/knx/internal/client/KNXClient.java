@@ -77,9 +77,30 @@ public interface KNXClient {
     /**
      * Schedule the given data point for asynchronous reading.
      *
+     * Reads of a group address which is already queued are merged. Reads are dropped if the group address is updated
+     * by bus traffic before they are sent.
+     *
      * @param datapoint the datapoint
+     * @param priority the priority of the read
+     */
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Schedule the given data point for periodic reading, starting immediately.
+     *
+     * Reads are skipped while the group address is updated by bus traffic within the interval.
+     *
+     * @param datapoint the datapoint, its name identifies the owner of the periodic read
+     * @param interval the read interval in s
+     */
+    void schedulePeriodicRead(Datapoint datapoint, int interval);
+
+    /**
+     * Stop all periodic reads of the given owner.
+     *
+     * @param owner the name of the datapoints passed to {@link #schedulePeriodicRead(Datapoint, int)}
      */
-    void readDatapoint(Datapoint datapoint);
+    void cancelPeriodicReads(String owner);
 
     /**
      * Write a command to the KNX bus.
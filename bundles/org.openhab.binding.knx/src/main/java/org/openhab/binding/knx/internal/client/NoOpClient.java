@@ -57,7 +57,15 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+    }
+
+    @Override
+    public void schedulePeriodicRead(Datapoint datapoint, int interval) {
+    }
+
+    @Override
+    public void cancelPeriodicReads(String owner) {
     }
 
     @Override
@@ -28,17 +28,32 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private final ReadPriority priority;
+    private final long queuedNanos;
 
-    public ReadDatapoint(Datapoint datapoint, int limit) {
+    public ReadDatapoint(Datapoint datapoint, int limit, ReadPriority priority, long queuedNanos) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.priority = priority;
+        this.queuedNanos = queuedNanos;
     }
 
     public Datapoint getDatapoint() {
         return datapoint;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the read was requested
+     */
+    public long getQueuedNanos() {
+        return queuedNanos;
+    }
+
     public int getRetries() {
         return retries;
     }
@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Schedules the group read requests of a KNX client.
+ *
+ * Reads are queued per group address, so a group address is never queued twice. {@link ReadPriority#HIGH} reads are
+ * sent before any {@link ReadPriority#LOW} read. Periodic reads are queued with low priority once due, unless the
+ * group address was updated by bus traffic within the read interval. Queued reads are dropped if the group address
+ * was updated after the read was requested.
+ *
+ * One read is handed out per reading pause. Low priority reads are slowed down while the bus is busy with other
+ * traffic.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class ReadScheduler {
+
+    /**
+     * Telegrams per second up to which low priority reads are sent once per reading pause
+     */
+    static final int BUS_LOAD_THRESHOLD = 20;
+
+    /**
+     * Maximum factor the reading pause of low priority reads is stretched by on a busy bus
+     */
+    static final int MAX_PACING_FACTOR = 8;
+
+    private static final long ONE_SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Logger logger = LoggerFactory.getLogger(ReadScheduler.class);
+
+    private final long readingPauseNanos;
+    private final int readRetriesLimit;
+    private final LongSupplier nanoTime;
+
+    private final Map<GroupAddress, ReadDatapoint> highPriorityReads = new LinkedHashMap<>();
+    private final Map<GroupAddress, ReadDatapoint> lowPriorityReads = new LinkedHashMap<>();
+    private final Map<GroupAddress, PeriodicRead> periodicReads = new HashMap<>();
+    private final PriorityQueue<PeriodicRead> periodicReadsByDueTime = new PriorityQueue<>(
+            Comparator.comparingLong(PeriodicRead::getDueNanos));
+    private final Map<GroupAddress, Long> lastUpdates = new HashMap<>();
+
+    private long lastReadNanos;
+    private long busLoadWindowStart;
+    private int telegramsInWindow;
+    private int telegramsPerSecond;
+
+    private static class PeriodicRead {
+        // the datapoint of one of the owners, which is used for reading
+        Datapoint datapoint;
+        // several things may poll the same group address, the shortest interval is used
+        final Map<String, Long> intervalsByOwner = new HashMap<>();
+        final Map<String, Datapoint> datapointsByOwner = new HashMap<>();
+        long intervalNanos;
+        // time of the last read or update by bus traffic
+        long lastReadNanos;
+
+        PeriodicRead(Datapoint datapoint) {
+            this.datapoint = datapoint;
+        }
+
+        long getDueNanos() {
+            return lastReadNanos + intervalNanos;
+        }
+    }
+
+    /**
+     * @param readingPause the time between two reads in ms
+     * @param readRetriesLimit the number of attempts for a read
+     * @param nanoTime the time source, usually {@link System#nanoTime()}
+     */
+    ReadScheduler(int readingPause, int readRetriesLimit, LongSupplier nanoTime) {
+        this.readingPauseNanos = TimeUnit.MILLISECONDS.toNanos(readingPause);
+        this.readRetriesLimit = readRetriesLimit;
+        this.nanoTime = nanoTime;
+        long now = nanoTime.getAsLong();
+        this.lastReadNanos = now - ONE_SECOND_NANOS;
+        this.busLoadWindowStart = now;
+    }
+
+    /**
+     * Queue a read of the given datapoint
+     *
+     * @param datapoint the datapoint to read
+     * @param priority the priority of the read
+     */
+    synchronized void enqueue(Datapoint datapoint, ReadPriority priority) {
+        enqueue(datapoint, priority, nanoTime.getAsLong());
+    }
+
+    private void enqueue(Datapoint datapoint, ReadPriority priority, long now) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        if (highPriorityReads.containsKey(groupAddress)) {
+            return;
+        }
+        if (priority == ReadPriority.HIGH) {
+            lowPriorityReads.remove(groupAddress);
+            highPriorityReads.put(groupAddress, new ReadDatapoint(datapoint, readRetriesLimit, priority, now));
+        } else if (!lowPriorityReads.containsKey(groupAddress)) {
+            lowPriorityReads.put(groupAddress, new ReadDatapoint(datapoint, readRetriesLimit, priority, now));
+        }
+    }
+
+    /**
+     * Queue a failed read again, unless the group address has been queued in the meantime
+     *
+     * @param read the failed read
+     */
+    synchronized void retry(ReadDatapoint read) {
+        GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+        if (highPriorityReads.containsKey(groupAddress)) {
+            return;
+        }
+        if (read.getPriority() == ReadPriority.HIGH) {
+            lowPriorityReads.remove(groupAddress);
+            highPriorityReads.put(groupAddress, read);
+        } else {
+            lowPriorityReads.putIfAbsent(groupAddress, read);
+        }
+    }
+
+    /**
+     * Read the given datapoint periodically, starting immediately. Registering the same group address again for the
+     * same owner only updates the interval and the datapoint. A new owner of a group address which is already read
+     * periodically gets an immediate read as well.
+     *
+     * @param datapoint the datapoint to read, its name identifies the owner of the periodic read
+     * @param interval the read interval in s
+     */
+    synchronized void schedulePeriodic(Datapoint datapoint, int interval) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(interval);
+        PeriodicRead periodicRead = periodicReads.get(datapoint.getMainAddress());
+        if (periodicRead == null) {
+            periodicRead = new PeriodicRead(datapoint);
+            periodicRead.intervalsByOwner.put(datapoint.getName(), intervalNanos);
+            periodicRead.datapointsByOwner.put(datapoint.getName(), datapoint);
+            periodicRead.intervalNanos = intervalNanos;
+            periodicRead.lastReadNanos = nanoTime.getAsLong() - intervalNanos;
+            periodicReads.put(datapoint.getMainAddress(), periodicRead);
+            periodicReadsByDueTime.add(periodicRead);
+        } else {
+            Long previousInterval = periodicRead.intervalsByOwner.put(datapoint.getName(), intervalNanos);
+            periodicRead.datapointsByOwner.put(datapoint.getName(), datapoint);
+            if (periodicRead.datapoint.getName().equals(datapoint.getName())) {
+                periodicRead.datapoint = datapoint;
+            }
+            if (previousInterval == null) {
+                enqueue(datapoint, ReadPriority.LOW);
+            }
+            if (previousInterval == null || previousInterval != intervalNanos) {
+                updateInterval(periodicRead);
+            }
+        }
+    }
+
+    /**
+     * Stop all periodic reads of the given owner
+     *
+     * @param owner the name of the datapoints of the periodic reads
+     */
+    synchronized void cancelPeriodic(String owner) {
+        Iterator<PeriodicRead> iterator = periodicReads.values().iterator();
+        while (iterator.hasNext()) {
+            PeriodicRead periodicRead = iterator.next();
+            if (periodicRead.intervalsByOwner.remove(owner) == null) {
+                continue;
+            }
+            periodicRead.datapointsByOwner.remove(owner);
+            if (periodicRead.intervalsByOwner.isEmpty()) {
+                iterator.remove();
+                periodicReadsByDueTime.remove(periodicRead);
+            } else {
+                if (periodicRead.datapoint.getName().equals(owner)) {
+                    // read with the datapoint, and thus the DPT, of a remaining owner
+                    periodicRead.datapoint = periodicRead.datapointsByOwner.values().iterator().next();
+                }
+                updateInterval(periodicRead);
+            }
+        }
+    }
+
+    private void updateInterval(PeriodicRead periodicRead) {
+        // the due time changes with the interval, so the entry needs to be sorted in again
+        periodicReadsByDueTime.remove(periodicRead);
+        periodicRead.intervalNanos = periodicRead.intervalsByOwner.values().stream().mapToLong(Long::longValue).min()
+                .orElse(0);
+        periodicReadsByDueTime.add(periodicRead);
+    }
+
+    /**
+     * Drop all queued reads and the recorded bus traffic, and make all periodic reads due, e.g. after a reconnect
+     */
+    synchronized void clear() {
+        highPriorityReads.clear();
+        lowPriorityReads.clear();
+        lastUpdates.clear();
+        long now = nanoTime.getAsLong();
+        List<PeriodicRead> reads = new ArrayList<>(periodicReads.values());
+        periodicReadsByDueTime.clear();
+        for (PeriodicRead periodicRead : reads) {
+            periodicRead.lastReadNanos = now - periodicRead.intervalNanos;
+            periodicReadsByDueTime.add(periodicRead);
+        }
+    }
+
+    /**
+     * Record a telegram on the bus which is not caused by one of our reads, to determine the bus load
+     */
+    synchronized void busTelegramReceived() {
+        updateBusLoad(nanoTime.getAsLong());
+        telegramsInWindow++;
+    }
+
+    /**
+     * Record a value received for a group address
+     *
+     * @param groupAddress the group address
+     */
+    synchronized void groupAddressUpdated(GroupAddress groupAddress) {
+        lastUpdates.put(groupAddress, nanoTime.getAsLong());
+    }
+
+    /**
+     * Get the next read to send. To be called once per reading pause.
+     *
+     * @return the next read, or null if there is nothing to read right now
+     */
+    synchronized @Nullable ReadDatapoint next() {
+        long now = nanoTime.getAsLong();
+        queueDuePeriodicReads(now);
+        ReadDatapoint read = poll(highPriorityReads);
+        if (read == null) {
+            if (now - lastReadNanos < getPacingFactor(now) * readingPauseNanos - readingPauseNanos / 2) {
+                return null;
+            }
+            read = poll(lowPriorityReads);
+        }
+        if (read != null) {
+            lastReadNanos = now;
+        }
+        return read;
+    }
+
+    private int getPacingFactor(long now) {
+        updateBusLoad(now);
+        if (telegramsPerSecond <= BUS_LOAD_THRESHOLD) {
+            return 1;
+        }
+        return Math.min(MAX_PACING_FACTOR, (telegramsPerSecond + BUS_LOAD_THRESHOLD - 1) / BUS_LOAD_THRESHOLD);
+    }
+
+    private void updateBusLoad(long now) {
+        long elapsed = now - busLoadWindowStart;
+        if (elapsed >= ONE_SECOND_NANOS) {
+            // a window without any telegram in between means the bus has been idle
+            telegramsPerSecond = elapsed < 2 * ONE_SECOND_NANOS ? telegramsInWindow : 0;
+            telegramsInWindow = 0;
+            busLoadWindowStart = now;
+        }
+    }
+
+    private void queueDuePeriodicReads(long now) {
+        PeriodicRead periodicRead;
+        while ((periodicRead = periodicReadsByDueTime.peek()) != null && periodicRead.getDueNanos() - now <= 0) {
+            periodicReadsByDueTime.poll();
+            GroupAddress groupAddress = periodicRead.datapoint.getMainAddress();
+            Long lastUpdate = lastUpdates.get(groupAddress);
+            if (lastUpdate != null && now - lastUpdate < periodicRead.intervalNanos) {
+                logger.trace("Skipping periodic read of {}, updated by bus traffic", groupAddress);
+                periodicRead.lastReadNanos = lastUpdate;
+            } else {
+                enqueue(periodicRead.datapoint, ReadPriority.LOW, now);
+                periodicRead.lastReadNanos = now;
+            }
+            periodicReadsByDueTime.add(periodicRead);
+        }
+    }
+
+    private @Nullable ReadDatapoint poll(Map<GroupAddress, ReadDatapoint> reads) {
+        Iterator<ReadDatapoint> iterator = reads.values().iterator();
+        while (iterator.hasNext()) {
+            ReadDatapoint read = iterator.next();
+            iterator.remove();
+            GroupAddress groupAddress = read.getDatapoint().getMainAddress();
+            Long lastUpdate = lastUpdates.get(groupAddress);
+            if (lastUpdate != null && lastUpdate - read.getQueuedNanos() > 0) {
+                logger.trace("Skipping read of {}, updated by bus traffic since requested", groupAddress);
+                continue;
+            }
+            return read;
+        }
+        return null;
+    }
+}
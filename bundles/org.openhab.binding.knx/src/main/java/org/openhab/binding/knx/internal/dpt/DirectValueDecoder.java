@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import static org.openhab.binding.knx.internal.KNXBindingConstants.disableUoM;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.util.UnitUtils;
+
+import tuwien.auto.calimero.dptxlator.TranslatorTypes;
+
+/**
+ * This class decodes raw data of the most common DPTs directly to an openHAB datatype, without creating a Calimero
+ * translator and parsing its string representation.
+ *
+ * A decoder is created once per DPT. DPTs without a direct decoder, and values the direct decoder cannot handle
+ * (e.g. invalid data), are left to {@link ValueDecoder}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class DirectValueDecoder {
+
+    // unsigned DPTs without scaling, so the raw value is the numeric value
+    private static final Set<String> UNSCALED_UNSIGNED_DPTS = Set.of("5.004", "5.005", "5.006", "5.010", "7.001",
+            "7.002", "7.005", "7.006", "7.007", "12.001");
+    // signed DPTs without scaling, so the raw value is the numeric value
+    private static final Set<String> UNSCALED_SIGNED_DPTS = Set.of("6.001", "6.010", "8.001", "8.002", "8.005",
+            "8.006", "8.007", "13.001", "13.010", "13.011", "13.012", "13.013", "13.014", "13.015", "13.016");
+
+    private static final Map<String, Optional<Decoder>> DECODERS = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    private interface Decoder {
+        @Nullable
+        Type decode(byte[] data, Class<? extends Type> preferredType);
+    }
+
+    @FunctionalInterface
+    private interface RawValueReader {
+        @Nullable
+        Double read(byte[] data);
+    }
+
+    private DirectValueDecoder() {
+        // prevent instantiation
+    }
+
+    /**
+     * convert the raw value received to the corresponding openHAB value
+     *
+     * @param dptId the DPT of the given data
+     * @param data a byte array containing the value
+     * @param preferredType the preferred datatype for this conversion
+     * @return the data converted to an openHAB Type, or null if the DPT or data is not supported by the direct
+     *         decoder
+     */
+    static @Nullable Type decode(String dptId, byte[] data, Class<? extends Type> preferredType) {
+        Decoder decoder = DECODERS.computeIfAbsent(dptId, DirectValueDecoder::createDecoder).orElse(null);
+        return decoder != null ? decoder.decode(data, preferredType) : null;
+    }
+
+    private static Optional<Decoder> createDecoder(String dptId) {
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(dptId);
+        if (!m.matches()) {
+            return Optional.empty();
+        }
+        String mainType = m.group("main");
+        String subType = m.group("sub");
+        // leave DPTs unknown to Calimero to the regular decoder, including its error handling
+        if (subType == null || !TranslatorTypes.hasTranslator(0, dptId)) {
+            return Optional.empty();
+        }
+
+        if ("1".equals(mainType)) {
+            return Optional.of((data, preferredType) -> data.length == 1
+                    ? ValueDecoder.handleDpt1(subType, (data[0] & 0x01) != 0, preferredType)
+                    : null);
+        }
+
+        RawValueReader reader;
+        if ("9".equals(mainType)) {
+            reader = DirectValueDecoder::readFloat16;
+        } else if ("14".equals(mainType)) {
+            reader = DirectValueDecoder::readFloat32;
+        } else if (UNSCALED_UNSIGNED_DPTS.contains(dptId)) {
+            reader = DirectValueDecoder::readUnsigned;
+        } else if (UNSCALED_SIGNED_DPTS.contains(dptId)) {
+            reader = DirectValueDecoder::readSigned;
+        } else {
+            return Optional.empty();
+        }
+
+        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(dptId);
+        Unit<?> unit = null;
+        if (allowedTypes.contains(QuantityType.class)) {
+            String unitString = DPTUnits.getUnitForDpt(dptId);
+            if (unitString != null) {
+                unit = UnitUtils.parseUnit(unitString);
+                if (unit == null) {
+                    return Optional.empty();
+                }
+            }
+        }
+        final @Nullable Unit<?> dptUnit = unit;
+        return Optional.of((data, preferredType) -> {
+            Double value = reader.read(data);
+            return value != null ? handleNumericValue(allowedTypes, dptUnit, value, preferredType) : null;
+        });
+    }
+
+    /**
+     * Same conversion as for translated numeric values in {@link ValueDecoder}, with the unit parsed in advance
+     */
+    private static @Nullable Type handleNumericValue(Set<Class<? extends Type>> allowedTypes, @Nullable Unit<?> unit,
+            double value, Class<? extends Type> preferredType) {
+        if (allowedTypes.contains(PercentType.class)
+                && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
+            return new PercentType(BigDecimal.valueOf(Math.round(value)));
+        }
+        if (allowedTypes.contains(QuantityType.class) && !disableUoM && unit != null) {
+            return new QuantityType<>(value, unit);
+        }
+        if (allowedTypes.contains(DecimalType.class)) {
+            return new DecimalType(value);
+        }
+        return null;
+    }
+
+    // DPT 9: 2-byte float, MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E
+    private static @Nullable Double readFloat16(byte[] data) {
+        if (data.length != 2) {
+            return null;
+        }
+        int raw = (data[0] & 0xff) << 8 | data[1] & 0xff;
+        if (raw == 0x7fff) {
+            // invalid data
+            return null;
+        }
+        int mantissa = raw & 0x07ff;
+        if ((raw & 0x8000) != 0) {
+            mantissa -= 0x0800;
+        }
+        int exponent = (raw >> 11) & 0x0f;
+        return (1 << exponent) * mantissa * 0.01;
+    }
+
+    // DPT 14: 4-byte IEEE 754 float
+    private static @Nullable Double readFloat32(byte[] data) {
+        if (data.length != 4) {
+            return null;
+        }
+        float value = Float.intBitsToFloat(
+                (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | data[3] & 0xff);
+        return Float.isFinite(value) ? (double) value : null;
+    }
+
+    private static @Nullable Double readUnsigned(byte[] data) {
+        if (data.length < 1 || data.length > 4 || data.length == 3) {
+            return null;
+        }
+        long value = 0;
+        for (byte b : data) {
+            value = value << 8 | b & 0xff;
+        }
+        return (double) value;
+    }
+
+    private static @Nullable Double readSigned(byte[] data) {
+        if (data.length < 1 || data.length > 4 || data.length == 3) {
+            return null;
+        }
+        long value = data[0];
+        for (int i = 1; i < data.length; i++) {
+            value = value << 8 | data[i] & 0xff;
+        }
+        return (double) value;
+    }
+}
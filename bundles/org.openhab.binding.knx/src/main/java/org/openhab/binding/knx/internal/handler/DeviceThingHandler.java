@@ -39,6 +39,7 @@ import org.openhab.binding.knx.internal.client.DeviceInspector;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.KNXClient;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.client.ReadPriority;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
 import org.openhab.binding.knx.internal.dpt.DPTUnits;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
@@ -90,7 +91,6 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
     private final ExpiringCacheMap<GroupAddress, @Nullable Boolean> groupAddressesWriteBlocked = new ExpiringCacheMap<>(
             Duration.ofMillis(1000));
     private final Map<GroupAddress, OutboundSpec> groupAddressesRespondingSpec = new ConcurrentHashMap<>();
-    private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new ConcurrentHashMap<>();
     private final Map<ChannelUID, KNXChannel> knxChannels = new ConcurrentHashMap<>();
     private final Random random = new Random();
@@ -182,13 +182,8 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         detachFromClient();
     }
 
-    protected void cancelReadFutures() {
-        for (GroupAddress groupAddress : readFutures.keySet()) {
-            readFutures.computeIfPresent(groupAddress, (k, v) -> {
-                v.cancel(true);
-                return null;
-            });
-        }
+    protected void cancelReadJobs() {
+        getClient().cancelPeriodicReads(getThing().getUID().toString());
     }
 
     @Override
@@ -199,47 +194,42 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             return;
         }
         if (!knxChannel.isControl()) {
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, ReadPriority.LOW);
         }
     }
 
     protected void scheduleReadJobs() {
-        cancelReadFutures();
+        cancelReadJobs();
         for (KNXChannel knxChannel : knxChannels.values()) {
             if (isLinked(knxChannel.getChannelUID()) && !knxChannel.isControl()) {
-                scheduleRead(knxChannel);
-            }
-        }
-    }
-
-    private void scheduleRead(KNXChannel knxChannel) {
-        List<InboundSpec> readSpecs = knxChannel.getReadSpec();
-        for (InboundSpec readSpec : readSpecs) {
-            readSpec.getGroupAddresses().forEach(ga -> scheduleReadJob(ga, readSpec.getDPT()));
-        }
-    }
-
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
-        if (readInterval > 0) {
-            ScheduledFuture<?> future = readFutures.get(groupAddress);
-            if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
-                        TimeUnit.SECONDS);
-                readFutures.put(groupAddress, future);
+                scheduleRead(knxChannel, ReadPriority.LOW);
             }
-        } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
-        if (getClient().isConnected()) {
+    /**
+     * Hand the reads of a channel to the read scheduler of the client. Background reads of channels with a read
+     * interval are registered as periodic reads, which start with an immediate read. Reads are registered while the
+     * client is disconnected as well, they are sent once it is connected.
+     */
+    private void scheduleRead(KNXChannel knxChannel, ReadPriority priority) {
+        KNXClient client = getClient();
+        String owner = getThing().getUID().toString();
+        for (InboundSpec readSpec : knxChannel.getReadSpec()) {
+            String dpt = readSpec.getDPT();
             if (DPTUtil.getAllowedTypes(dpt).isEmpty()) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
-                return;
+                continue;
+            }
+            for (GroupAddress groupAddress : readSpec.getGroupAddresses()) {
+                Datapoint datapoint = new CommandDP(groupAddress, owner, 0, dpt);
+                if (readInterval > 0) {
+                    client.schedulePeriodicRead(datapoint, readInterval);
+                }
+                if (readInterval <= 0 || priority == ReadPriority.HIGH) {
+                    client.readDatapoint(datapoint, priority);
+                }
             }
-            Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
         }
     }
 
@@ -248,6 +238,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return Set.copyOf(groupAddresses);
+    }
+
     /** Handling commands triggered from openHAB */
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
@@ -259,7 +254,7 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
         }
         if (command instanceof RefreshType && !knxChannel.isControl()) {
             logger.debug("Refreshing channel '{}'", channelUID);
-            scheduleRead(knxChannel);
+            scheduleRead(knxChannel, ReadPriority.HIGH);
         } else {
             if (CHANNEL_RESET.equals(channelUID.getId())) {
                 if (address != null) {
@@ -573,11 +568,11 @@ public class DeviceThingHandler extends BaseThingHandler implements GroupAddress
             descriptionJobSynced.cancel(true);
             descriptionJob = null;
         }
-        cancelReadFutures();
         Bridge bridge = getBridge();
         if (bridge != null) {
             KNXBridgeBaseThingHandler handler = (KNXBridgeBaseThingHandler) bridge.getHandler();
             if (handler != null) {
+                handler.getClient().cancelPeriodicReads(getThing().getUID().toString());
                 handler.getClient().unregisterGroupAddressListener(this);
             }
         }
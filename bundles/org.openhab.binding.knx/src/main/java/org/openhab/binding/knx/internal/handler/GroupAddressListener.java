@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,12 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Returns the Group Addresses the GroupAddressListener has an interest in, used to index the listeners on
+     * registration. Listeners changing their Group Addresses need to register again.
+     *
+     * @return the Group Addresses
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
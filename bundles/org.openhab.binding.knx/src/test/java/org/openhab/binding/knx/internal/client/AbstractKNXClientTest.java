@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXException;
+import tuwien.auto.calimero.link.KNXNetworkLink;
+import tuwien.auto.calimero.process.ProcessEvent;
+import tuwien.auto.calimero.secure.Security;
+
+/**
+ * Tests the dispatching of telegrams to the group address listeners of {@link AbstractKNXClient}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class AbstractKNXClientTest {
+    private static final int GROUP_WRITE = 0x80;
+    private static final GroupAddress GA1 = new GroupAddress(1, 0, 1);
+    private static final GroupAddress GA2 = new GroupAddress(1, 0, 2);
+    private static final GroupAddress GA3 = new GroupAddress(1, 0, 3);
+    private static final IndividualAddress SOURCE = new IndividualAddress(1, 1, 1);
+
+    private final CommandExtensionData commandExtensionData = new CommandExtensionData(new TreeMap<>());
+    private @NonNullByDefault({}) AbstractKNXClient client;
+
+    private static class RecordingListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses;
+        private final List<GroupAddress> writes = new ArrayList<>();
+
+        RecordingListener(GroupAddress... groupAddresses) {
+            this.groupAddresses = Set.of(groupAddresses);
+        }
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+            writes.add(destination);
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        // notifications are run right away
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scheduler).execute(any());
+
+        client = new AbstractKNXClient(0, new ThingUID("knx", "ip", "bridge"), 5, 50, 3, scheduler,
+                commandExtensionData, Security.newSecurity(), mock(StatusUpdateCallback.class)) {
+            @Override
+            protected KNXNetworkLink establishConnection() throws KNXException {
+                throw new KNXException("not connected in tests");
+            }
+        };
+    }
+
+    private void groupWrite(GroupAddress destination) {
+        ProcessEvent event = mock(ProcessEvent.class);
+        when(event.getDestination()).thenReturn(destination);
+        when(event.getSourceAddr()).thenReturn(SOURCE);
+        when(event.getASDU()).thenReturn(new byte[] { 1 });
+        when(event.getServiceCode()).thenReturn(GROUP_WRITE);
+        client.getProcessListener().groupWrite(event);
+    }
+
+    @Test
+    public void telegramsAreDispatchedToTheListenersOfTheirGroupAddress() {
+        RecordingListener listener1 = new RecordingListener(GA1, GA2);
+        RecordingListener listener2 = new RecordingListener(GA2);
+        client.registerGroupAddressListener(listener1);
+        client.registerGroupAddressListener(listener2);
+
+        groupWrite(GA1);
+        groupWrite(GA2);
+        groupWrite(GA3);
+
+        assertEquals(List.of(GA1, GA2), listener1.writes);
+        assertEquals(List.of(GA2), listener2.writes);
+        // the telegram without listeners is counted as unknown
+        assertEquals(Set.of(GA3 + " GROUP_WRITE(1)"), commandExtensionData.unknownGA().keySet());
+    }
+
+    @Test
+    public void dispatchersOnlyExistForGroupAddressesWithListeners() {
+        RecordingListener listener1 = new RecordingListener(GA1, GA2);
+        RecordingListener listener2 = new RecordingListener(GA2);
+        client.registerGroupAddressListener(listener1);
+        client.registerGroupAddressListener(listener2);
+
+        // telegrams to other group addresses do not create dispatchers
+        groupWrite(GA3);
+        assertEquals(Set.of(GA1, GA2), client.getListenedGroupAddresses());
+
+        client.unregisterGroupAddressListener(listener1);
+        assertEquals(Set.of(GA2), client.getListenedGroupAddresses());
+
+        client.unregisterGroupAddressListener(listener2);
+        assertTrue(client.getListenedGroupAddresses().isEmpty());
+
+        groupWrite(GA2);
+        assertTrue(listener1.writes.isEmpty());
+        assertTrue(listener2.writes.isEmpty());
+    }
+
+    @Test
+    public void listenerRegisteringAgainIsNotifiedOnce() {
+        RecordingListener listener = new RecordingListener(GA1, GA2);
+        client.registerGroupAddressListener(listener);
+        client.registerGroupAddressListener(listener);
+
+        groupWrite(GA1);
+        groupWrite(GA1);
+
+        assertEquals(List.of(GA1, GA1), listener.writes);
+        assertEquals(Set.of(GA1, GA2), client.getListenedGroupAddresses());
+    }
+}
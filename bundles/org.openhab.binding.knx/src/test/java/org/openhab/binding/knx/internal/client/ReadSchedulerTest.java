@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class ReadSchedulerTest {
+    private static final int READING_PAUSE = 50;
+    private static final long READING_PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(READING_PAUSE);
+    private static final GroupAddress GA1 = new GroupAddress(1, 0, 1);
+    private static final GroupAddress GA2 = new GroupAddress(1, 0, 2);
+    private static final GroupAddress GA3 = new GroupAddress(1, 0, 3);
+
+    private long now;
+    private ReadScheduler scheduler = new ReadScheduler(READING_PAUSE, 3, () -> now);
+
+    @BeforeEach
+    public void setUp() {
+        now = 0;
+        scheduler = new ReadScheduler(READING_PAUSE, 3, () -> now);
+    }
+
+    private static Datapoint datapoint(GroupAddress groupAddress, String owner) {
+        return new CommandDP(groupAddress, owner, 0, "9.001");
+    }
+
+    private @Nullable GroupAddress nextRead() {
+        now += READING_PAUSE_NANOS;
+        ReadDatapoint read = scheduler.next();
+        return read == null ? null : read.getDatapoint().getMainAddress();
+    }
+
+    private void advanceSeconds(long seconds) {
+        now += TimeUnit.SECONDS.toNanos(seconds);
+    }
+
+    @Test
+    public void testReadsAreDeduplicated() {
+        scheduler.enqueue(datapoint(GA1, "a"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA1, "b"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+
+        assertEquals(GA1, nextRead());
+        assertEquals(GA2, nextRead());
+        assertNull(nextRead());
+    }
+
+    @Test
+    public void testHighPriorityReadsFirst() {
+        scheduler.enqueue(datapoint(GA1, "a"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA3, "a"), ReadPriority.HIGH);
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.HIGH);
+
+        assertEquals(GA3, nextRead());
+        assertEquals(GA2, nextRead());
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+    }
+
+    @Test
+    public void testReadSkippedIfUpdatedSinceRequested() {
+        scheduler.enqueue(datapoint(GA1, "a"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+        now++;
+        scheduler.groupAddressUpdated(GA1);
+
+        assertEquals(GA2, nextRead());
+        assertNull(nextRead());
+    }
+
+    @Test
+    public void testRetryIsQueuedAgain() {
+        scheduler.enqueue(datapoint(GA1, "a"), ReadPriority.HIGH);
+        ReadDatapoint read = scheduler.next();
+        assertNotNull(read);
+        if (read != null) {
+            scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+            scheduler.retry(read);
+            assertEquals(GA1, nextRead());
+            assertEquals(GA2, nextRead());
+        }
+    }
+
+    @Test
+    public void testPeriodicReads() {
+        scheduler.schedulePeriodic(datapoint(GA1, "a"), 10);
+        scheduler.schedulePeriodic(datapoint(GA1, "a"), 10);
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+
+        advanceSeconds(5);
+        assertNull(nextRead());
+        advanceSeconds(5);
+        assertEquals(GA1, nextRead());
+
+        // an update by bus traffic postpones the next read by the interval
+        advanceSeconds(3);
+        scheduler.groupAddressUpdated(GA1);
+        advanceSeconds(7);
+        assertNull(nextRead());
+        advanceSeconds(3);
+        assertEquals(GA1, nextRead());
+    }
+
+    @Test
+    public void testPeriodicReadsOfSeveralOwners() {
+        scheduler.schedulePeriodic(datapoint(GA1, "a"), 10);
+        scheduler.schedulePeriodic(datapoint(GA1, "b"), 20);
+        assertEquals(GA1, nextRead());
+
+        scheduler.cancelPeriodic("a");
+        advanceSeconds(10);
+        assertNull(nextRead());
+        advanceSeconds(10);
+        assertEquals(GA1, nextRead());
+
+        scheduler.cancelPeriodic("b");
+        advanceSeconds(20);
+        assertNull(nextRead());
+    }
+
+    @Test
+    public void testNewOwnerOfPeriodicReadIsReadImmediately() {
+        scheduler.schedulePeriodic(datapoint(GA1, "a"), 10);
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+
+        scheduler.schedulePeriodic(new CommandDP(GA1, "b", 0, "5.001"), 10);
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+
+        // the remaining owner's datapoint is read once the first owner is gone
+        scheduler.cancelPeriodic("a");
+        advanceSeconds(10);
+        now += READING_PAUSE_NANOS;
+        ReadDatapoint read = scheduler.next();
+        assertNotNull(read);
+        assertEquals("b", read.getDatapoint().getName());
+        assertEquals("5.001", read.getDatapoint().getDPT());
+    }
+
+    @Test
+    public void testClearMakesPeriodicReadsDue() {
+        scheduler.schedulePeriodic(datapoint(GA1, "a"), 10);
+        assertEquals(GA1, nextRead());
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+
+        scheduler.clear();
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+    }
+
+    @Test
+    public void testLowPriorityReadsArePacedOnBusyBus() {
+        for (int i = 0; i < 3 * ReadScheduler.BUS_LOAD_THRESHOLD; i++) {
+            scheduler.busTelegramReceived();
+        }
+        advanceSeconds(1);
+        scheduler.enqueue(datapoint(GA1, "a"), ReadPriority.LOW);
+        scheduler.enqueue(datapoint(GA2, "a"), ReadPriority.LOW);
+
+        assertEquals(GA1, nextRead());
+        assertNull(nextRead());
+        scheduler.enqueue(datapoint(GA3, "a"), ReadPriority.HIGH);
+        assertEquals(GA3, nextRead());
+        assertNull(nextRead());
+        assertNull(nextRead());
+        assertEquals(GA2, nextRead());
+    }
+}
@@ -30,10 +30,14 @@ import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 import org.openhab.core.util.ColorUtil;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
@@ -544,6 +548,32 @@ class DPTTest {
         }
     }
 
+    private static Stream<Object[]> directDecoderProvider() {
+        return Stream.of(new Object[] { "1.001", new byte[] { 1 }, OnOffType.class },
+                new Object[] { "1.008", new byte[] { 0 }, UpDownType.class },
+                new Object[] { "1.009", new byte[] { 1 }, OnOffType.class },
+                new Object[] { "5.010", new byte[] { (byte) 0xC8 }, DecimalType.class },
+                new Object[] { "7.001", new byte[] { (byte) 0xFF, (byte) 0xFE }, DecimalType.class },
+                new Object[] { "8.001", new byte[] { (byte) 0xFF, (byte) 0xFE }, DecimalType.class },
+                new Object[] { "9.001", new byte[] { (byte) 0x0C, (byte) 0x1A }, QuantityType.class },
+                new Object[] { "9.001", new byte[] { (byte) 0x87, (byte) 0x9C }, QuantityType.class },
+                new Object[] { "9.001", new byte[] { (byte) 0x7F, (byte) 0xFF }, QuantityType.class },
+                new Object[] { "9.007", new byte[] { (byte) 0x0C, (byte) 0x1A }, PercentType.class },
+                new Object[] { "12.001", new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF },
+                        DecimalType.class },
+                new Object[] { "13.010", new byte[] { (byte) 0x80, 0, 0, 0 }, QuantityType.class },
+                new Object[] { "14.019", new byte[] { (byte) 0x41, (byte) 0x46, (byte) 0x66, (byte) 0x66 },
+                        QuantityType.class },
+                new Object[] { "14.019", new byte[] { (byte) 0x7F, (byte) 0xC0, 0, 0 }, QuantityType.class });
+    }
+
+    @ParameterizedTest
+    @MethodSource("directDecoderProvider")
+    public void directDecoderMatchesTranslator(String dpt, byte[] data, Class<? extends Type> preferredType) {
+        assertEquals(ValueDecoder.decodeWithTranslator(dpt, data, preferredType),
+                ValueDecoder.decode(dpt, data, preferredType));
+    }
+
     private static Stream<byte[]> rgbValueProvider() {
         // Returning all combinations is too much. Implementation tries to catch rounding errors
         // but is still deterministic to get reproducible test results.
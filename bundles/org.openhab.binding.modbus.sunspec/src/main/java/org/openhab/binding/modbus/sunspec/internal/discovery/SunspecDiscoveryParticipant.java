@@ -39,6 +39,8 @@ public class SunspecDiscoveryParticipant implements ModbusDiscoveryParticipant {
 
     private final Logger logger = LoggerFactory.getLogger(SunspecDiscoveryParticipant.class);
 
+    private final SunspecModelMapCache modelMapCache = new SunspecModelMapCache();
+
     @Override
     public Set<ThingTypeUID> getSupportedThingTypeUIDs() {
         return new HashSet<>(SUPPORTED_THING_TYPES_UIDS.values());
@@ -48,7 +50,7 @@ public class SunspecDiscoveryParticipant implements ModbusDiscoveryParticipant {
     public void startDiscovery(ModbusEndpointThingHandler handler, ModbusDiscoveryListener listener) {
         logger.trace("Starting sunspec discovery");
         try {
-            new SunspecDiscoveryProcess(handler, listener).detectModel();
+            new SunspecDiscoveryProcess(handler, listener, modelMapCache).detectModel();
         } catch (EndpointNotInitializedException ex) {
             logger.debug("Could not start discovery process");
             listener.discoveryFinished();
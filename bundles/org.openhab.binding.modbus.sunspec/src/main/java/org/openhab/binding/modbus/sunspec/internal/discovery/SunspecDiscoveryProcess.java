@@ -14,7 +14,9 @@ package org.openhab.binding.modbus.sunspec.internal.discovery;
 
 import static org.openhab.binding.modbus.sunspec.internal.SunSpecConstants.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
@@ -25,6 +27,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.discovery.ModbusDiscoveryListener;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
+import org.openhab.binding.modbus.sunspec.internal.discovery.SunspecModelMapCache.DiscoveredModel;
 import org.openhab.binding.modbus.sunspec.internal.dto.CommonModelBlock;
 import org.openhab.binding.modbus.sunspec.internal.dto.ModelBlock;
 import org.openhab.binding.modbus.sunspec.internal.parser.CommonModelParser;
@@ -113,14 +116,30 @@ public class SunspecDiscoveryProcess {
      */
     private ModbusCommunicationInterface comms;
 
+    /**
+     * Cache of model maps found by earlier discoveries
+     */
+    private final SunspecModelMapCache modelMapCache;
+
+    /**
+     * Key of this device in the model map cache
+     */
+    private final String cacheKey;
+
+    /**
+     * Supported models found during this discovery
+     */
+    private final List<DiscoveredModel> discoveredModels = new ArrayList<>();
+
     /**
      * New instances of this class should get a reference to the handler
      *
      * @throws EndpointNotInitializedException
      */
-    public SunspecDiscoveryProcess(ModbusEndpointThingHandler handler, ModbusDiscoveryListener listener)
-            throws EndpointNotInitializedException {
+    public SunspecDiscoveryProcess(ModbusEndpointThingHandler handler, ModbusDiscoveryListener listener,
+            SunspecModelMapCache modelMapCache) throws EndpointNotInitializedException {
         this.handler = handler;
+        this.modelMapCache = modelMapCache;
 
         ModbusCommunicationInterface localComms = handler.getCommunicationInterface();
         if (localComms != null) {
@@ -129,6 +148,7 @@ public class SunspecDiscoveryProcess {
             throw new EndpointNotInitializedException();
         }
         slaveId = handler.getSlaveId();
+        cacheKey = handler.getUID().getAsString() + ":" + slaveId;
         this.listener = listener;
         commonBlockParser = new CommonModelParser();
         possibleAddresses = new ConcurrentLinkedQueue<>();
@@ -142,9 +162,27 @@ public class SunspecDiscoveryProcess {
     /**
      * Start model detection
      *
-     * @throws EndpointNotInitializedException
+     * The model map found by a recent discovery of the same device is reused,
+     * otherwise the model chain is walked on the device.
      */
     public void detectModel() {
+        @Nullable
+        List<DiscoveredModel> cachedModels = modelMapCache.get(cacheKey);
+        if (cachedModels != null) {
+            logger.debug("Using cached model map for {} with {} models", cacheKey, cachedModels.size());
+            for (DiscoveredModel model : cachedModels) {
+                thingDiscovered(model.block, model.commonBlock);
+            }
+            listener.discoveryFinished();
+            return;
+        }
+        detectModelAtNextAddress();
+    }
+
+    /**
+     * Look for the SunSpec header at the next possible base address
+     */
+    private void detectModelAtNextAddress() {
         if (possibleAddresses.isEmpty()) {
             parsingFinished();
             return;
@@ -173,7 +211,7 @@ public class SunspecDiscoveryProcess {
         if (id.isEmpty() || id.get().longValue() != SUNSPEC_ID) {
             logger.debug("Could not find SunSpec DID at address {}, received: {}, expected: {}", baseAddress, id,
                     SUNSPEC_ID);
-            detectModel();
+            detectModelAtNextAddress();
             return;
         }
 
@@ -279,6 +317,17 @@ public class SunspecDiscoveryProcess {
             return;
         }
 
+        discoveredModels.add(new DiscoveredModel(block, commonBlock));
+        thingDiscovered(block, commonBlock);
+    }
+
+    /**
+     * Notify the listener about a supported model block
+     *
+     * @param block the block we've found
+     * @param commonBlock the common block describing the device
+     */
+    private void thingDiscovered(ModelBlock block, CommonModelBlock commonBlock) {
         ThingTypeUID thingTypeUID = SUPPORTED_THING_TYPES_UIDS.get(block.moduleID);
         if (thingTypeUID == null) {
             logger.warn("Found model block but no corresponding thing type UID present: {}", block.moduleID);
@@ -307,6 +356,9 @@ public class SunspecDiscoveryProcess {
      * Now we have to report back to the handler the common block and the block we were looking for
      */
     private void parsingFinished() {
+        if (blocksFound > 0) {
+            modelMapCache.put(cacheKey, discoveredModels);
+        }
         listener.discoveryFinished();
     }
 
@@ -332,6 +384,6 @@ public class SunspecDiscoveryProcess {
 
         logger.warn("Error with read at address {}: {} {}", baseAddress, cls, msg);
 
-        detectModel();
+        detectModelAtNextAddress();
     }
 }
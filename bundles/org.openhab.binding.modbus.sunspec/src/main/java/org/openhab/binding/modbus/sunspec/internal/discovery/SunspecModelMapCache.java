@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.sunspec.internal.discovery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.sunspec.internal.dto.CommonModelBlock;
+import org.openhab.binding.modbus.sunspec.internal.dto.ModelBlock;
+
+/**
+ * Cache of the model maps discovered per endpoint and slave id.
+ *
+ * Walking the model chain of a device takes a request per model block,
+ * which is slow on gateways with several devices. Repeated discoveries
+ * within the maximum age reuse the model map found the last time.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class SunspecModelMapCache {
+
+    /**
+     * Maximum age of a cached model map
+     */
+    public static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    /**
+     * A model block found on the device along with the common block preceding it
+     */
+    public static class DiscoveredModel {
+        public final ModelBlock block;
+        public final CommonModelBlock commonBlock;
+
+        public DiscoveredModel(ModelBlock block, CommonModelBlock commonBlock) {
+            this.block = block;
+            this.commonBlock = commonBlock;
+        }
+    }
+
+    private static class Entry {
+        final List<DiscoveredModel> models;
+        final long createdNanos;
+
+        Entry(List<DiscoveredModel> models) {
+            this.models = models;
+            this.createdNanos = System.nanoTime();
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Get the model map of a device
+     *
+     * @param key the endpoint and slave id of the device
+     * @return the discovered models, or null if not cached or expired
+     */
+    public @Nullable List<DiscoveredModel> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.createdNanos > MAX_AGE.toNanos()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.models;
+    }
+
+    /**
+     * Store the model map of a device
+     *
+     * @param key the endpoint and slave id of the device
+     * @param models the discovered models
+     */
+    public void put(String key, List<DiscoveredModel> models) {
+        entries.put(key, new Entry(List.copyOf(models)));
+    }
+}
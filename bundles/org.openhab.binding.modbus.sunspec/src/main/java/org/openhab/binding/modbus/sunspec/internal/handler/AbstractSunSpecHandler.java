@@ -28,6 +28,7 @@ import org.openhab.binding.modbus.sunspec.internal.SunSpecConfiguration;
 import org.openhab.binding.modbus.sunspec.internal.dto.ModelBlock;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
 import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
 import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
@@ -90,6 +91,12 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
      */
     private volatile int slaveId;
 
+    /**
+     * Lock to handle the polled data one poll at a time, even if a poll
+     * is completed by a subsequent request
+     */
+    private final Object pollDataLock = new Object();
+
     /**
      * Instances of this handler should get a reference to the modbus manager
      *
@@ -326,18 +333,67 @@ public abstract class AbstractSunSpecHandler extends BaseThingHandler {
 
         logger.debug("Setting up regular polling");
 
+        // Models longer than a single read are read in maximal chunks, the first one being the regular poll
         ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(getSlaveId(),
-                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, mainBlock.address, mainBlock.length, myconfig.maxTries);
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, mainBlock.address,
+                Math.min(mainBlock.length, ModbusConstants.MAX_REGISTERS_READ_COUNT), myconfig.maxTries);
 
         long refreshMillis = myconfig.getRefreshMillis();
         pollTask = mycomms.registerRegularPoll(request, refreshMillis, 1000, result -> {
-            result.getRegisters().ifPresent(this::handlePolledData);
-            if (getThing().getStatus() != ThingStatus.ONLINE) {
-                updateStatus(ThingStatus.ONLINE);
-            }
+            result.getRegisters().ifPresent(registers -> {
+                if (registers.size() >= mainBlock.length) {
+                    handleModelData(registers);
+                } else {
+                    byte[] data = new byte[mainBlock.length * 2];
+                    System.arraycopy(registers.getBytes(), 0, data, 0, registers.size() * 2);
+                    readRemainingRegisters(mainBlock, data, registers.size());
+                }
+            });
         }, this::handleError);
     }
 
+    /**
+     * Read the rest of a model block that does not fit into a single read
+     *
+     * @param mainBlock the model block being read
+     * @param data buffer for the whole model block
+     * @param offset number of registers read so far
+     */
+    private void readRemainingRegisters(ModelBlock mainBlock, byte[] data, int offset) {
+        @Nullable
+        ModbusCommunicationInterface mycomms = comms;
+        @Nullable
+        SunSpecConfiguration myconfig = config;
+        if (myconfig == null || mycomms == null) {
+            return;
+        }
+        int length = Math.min(mainBlock.length - offset, ModbusConstants.MAX_REGISTERS_READ_COUNT);
+        ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(getSlaveId(),
+                ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, mainBlock.address + offset, length,
+                myconfig.maxTries);
+
+        mycomms.submitOneTimePoll(request, result -> result.getRegisters().ifPresent(registers -> {
+            System.arraycopy(registers.getBytes(), 0, data, offset * 2, Math.min(registers.size(), length) * 2);
+            if (offset + length >= mainBlock.length) {
+                handleModelData(new ModbusRegisterArray(data));
+            } else {
+                readRemainingRegisters(mainBlock, data, offset + length);
+            }
+        }), this::handleError);
+    }
+
+    /**
+     * Pass the data of the whole model block to the implementation
+     */
+    private void handleModelData(ModbusRegisterArray registers) {
+        synchronized (pollDataLock) {
+            handlePolledData(registers);
+        }
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            updateStatus(ThingStatus.ONLINE);
+        }
+    }
+
     /**
      * This method should handle incoming poll data, and update the channels
      * with the values received
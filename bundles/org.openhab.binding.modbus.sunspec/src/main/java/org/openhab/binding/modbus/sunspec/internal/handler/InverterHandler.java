@@ -46,6 +46,11 @@ public class InverterHandler extends AbstractSunSpecHandler {
      */
     private final InverterModelParser parser = new InverterModelParser();
 
+    /**
+     * Block instance reused for every poll, poll results are handled one at a time
+     */
+    private final InverterModelBlock modelBlock = new InverterModelBlock();
+
     /**
      * Logger instance
      */
@@ -66,7 +71,7 @@ public class InverterHandler extends AbstractSunSpecHandler {
     protected void handlePolledData(ModbusRegisterArray registers) {
         logger.trace("Model block received, size: {}", registers.size());
 
-        InverterModelBlock block = parser.parse(registers);
+        InverterModelBlock block = parser.parse(registers, modelBlock);
 
         // Device information group
         updateState(channelUID(GROUP_DEVICE_INFO, CHANNEL_CABINET_TEMPERATURE),
@@ -39,6 +39,11 @@ public class MeterHandler extends AbstractSunSpecHandler {
      */
     private final MeterModelParser parser = new MeterModelParser();
 
+    /**
+     * Block instance reused for every poll, poll results are handled one at a time
+     */
+    private final MeterModelBlock modelBlock = new MeterModelBlock();
+
     /**
      * Logger instance
      */
@@ -55,7 +60,7 @@ public class MeterHandler extends AbstractSunSpecHandler {
     protected void handlePolledData(ModbusRegisterArray registers) {
         logger.trace("Model block received, size: {}", registers.size());
 
-        MeterModelBlock block = parser.parse(registers);
+        MeterModelBlock block = parser.parse(registers, modelBlock);
 
         // AC General group
         updateTotalValues(block);
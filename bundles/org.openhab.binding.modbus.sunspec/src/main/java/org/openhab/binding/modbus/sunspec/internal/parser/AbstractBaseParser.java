@@ -16,14 +16,14 @@ import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
-import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
 import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
-import org.openhab.core.library.types.DecimalType;
 
 /**
  * Base class for parsers with some helper methods
  *
+ * Values are decoded directly from the register array, without going through intermediate
+ * state objects, as parsers are called on every poll.
+ *
  * @author Nagy Attila Gabor - Initial contribution
  *
  */
@@ -38,8 +38,8 @@ public class AbstractBaseParser {
      * @return the parsed value or empty if the field is not implemented
      */
     protected Optional<Short> extractOptionalInt16(ModbusRegisterArray raw, int index) {
-        return ModbusBitUtilities.extractStateFromRegisters(raw, index, ValueType.INT16).map(DecimalType::shortValue)
-                .filter(value -> value != (short) 0x8000);
+        short value = (short) raw.getRegister(index);
+        return value == (short) 0x8000 ? Optional.empty() : Optional.of(value);
     }
 
     /**
@@ -62,8 +62,8 @@ public class AbstractBaseParser {
      * @return the parsed value or empty if the field is not implemented
      */
     protected Optional<Integer> extractOptionalUInt16(ModbusRegisterArray raw, int index) {
-        return ModbusBitUtilities.extractStateFromRegisters(raw, index, ValueType.UINT16).map(DecimalType::intValue)
-                .filter(value -> value != 0xffff);
+        int value = raw.getRegister(index);
+        return value == 0xffff ? Optional.empty() : Optional.of(value);
     }
 
     /**
@@ -86,8 +86,8 @@ public class AbstractBaseParser {
      * @return the parsed value or empty if the field is not implemented
      */
     protected Optional<Long> extractOptionalAcc32(ModbusRegisterArray raw, int index) {
-        return ModbusBitUtilities.extractStateFromRegisters(raw, index, ValueType.INT32).map(DecimalType::longValue)
-                .filter(value -> value != 0);
+        long value = (raw.getRegister(index) << 16) | raw.getRegister(index + 1);
+        return value == 0 ? Optional.empty() : Optional.of(value);
     }
 
     /**
@@ -110,8 +110,7 @@ public class AbstractBaseParser {
      * @return the parsed value or empty if the field is not implemented
      */
     protected Optional<Short> extractOptionalSunSSF(ModbusRegisterArray raw, int index) {
-        return ModbusBitUtilities.extractStateFromRegisters(raw, index, ValueType.INT16).map(DecimalType::shortValue)
-                .filter(value -> value != (short) 0x8000);
+        return extractOptionalInt16(raw, index);
     }
 
     /**
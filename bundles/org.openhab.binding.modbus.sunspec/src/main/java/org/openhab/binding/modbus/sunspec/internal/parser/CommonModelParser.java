@@ -38,8 +38,11 @@ public class CommonModelParser extends AbstractBaseParser implements SunspecPars
 
     @Override
     public CommonModelBlock parse(ModbusRegisterArray raw) {
-        CommonModelBlock block = new CommonModelBlock();
+        return parse(raw, new CommonModelBlock());
+    }
 
+    @Override
+    public CommonModelBlock parse(ModbusRegisterArray raw, CommonModelBlock block) {
         block.sunSpecDID = extractUInt16(raw, 0, 0);
 
         block.length = extractUInt16(raw, 1, raw.size() - SunSpecConstants.MODEL_HEADER_SIZE);
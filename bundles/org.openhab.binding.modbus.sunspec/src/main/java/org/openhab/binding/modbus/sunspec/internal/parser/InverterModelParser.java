@@ -28,8 +28,11 @@ public class InverterModelParser extends AbstractBaseParser implements SunspecPa
 
     @Override
     public InverterModelBlock parse(ModbusRegisterArray raw) {
-        InverterModelBlock block = new InverterModelBlock();
+        return parse(raw, new InverterModelBlock());
+    }
 
+    @Override
+    public InverterModelBlock parse(ModbusRegisterArray raw, InverterModelBlock block) {
         block.phaseConfiguration = extractUInt16(raw, 0, SunSpecConstants.INVERTER_SINGLE_PHASE);
         block.length = extractUInt16(raw, 1, raw.size());
         block.acCurrentTotal = extractUInt16(raw, 2, 0);
@@ -28,8 +28,11 @@ public class MeterModelParser extends AbstractBaseParser implements SunspecParse
 
     @Override
     public MeterModelBlock parse(ModbusRegisterArray raw) {
-        MeterModelBlock block = new MeterModelBlock();
+        return parse(raw, new MeterModelBlock());
+    }
 
+    @Override
+    public MeterModelBlock parse(ModbusRegisterArray raw, MeterModelBlock block) {
         block.sunspecDID = extractUInt16(raw, 0, SunSpecConstants.METER_SINGLE_PHASE);
         block.length = extractUInt16(raw, 1, raw.size());
         block.acCurrentTotal = extractInt16(raw, 2, (short) 0);
@@ -39,4 +39,13 @@ public interface SunspecParser<T> {
      * return a not-null sunspec block
      */
     T parse(ModbusRegisterArray raw);
+
+    /**
+     * This method should parse an incoming register array into an existing
+     * block, so that the same block instance can be reused between polls.
+     * All fields of the block are overwritten.
+     *
+     * @return the block passed in
+     */
+    T parse(ModbusRegisterArray raw, T block);
 }
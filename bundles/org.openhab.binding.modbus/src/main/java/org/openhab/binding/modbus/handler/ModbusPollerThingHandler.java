@@ -12,20 +12,29 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusMetrics;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Range;
+import org.openhab.binding.modbus.internal.ModbusWriteQueue;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
+import org.openhab.binding.modbus.internal.handler.AbstractModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
@@ -85,7 +94,12 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
+            long start = System.nanoTime();
             notifyChildren(result);
+            ModbusMetrics localMetrics = metrics.get();
+            if (localMetrics != null) {
+                localMetrics.pollHandled(thing.getUID(), System.nanoTime() - start, result.failure != null);
+            }
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -139,7 +153,16 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
+            @Nullable
+            Range block = pollResult.block;
             childCallbacks.forEach(handler -> {
+                if (block != null) {
+                    // Planned block read, only children reading from the block have fresh data
+                    Range readRange = handler.getReadRange();
+                    if (readRange == null || !block.contains(readRange)) {
+                        return;
+                    }
+                }
                 if (result != null) {
                     handler.onReadResult(result);
                 } else if (failure != null) {
@@ -153,6 +176,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          */
         public void resetCache() {
             lastResult = null;
+            plannedBlocks.forEach(block -> block.lastResult = null);
         }
     }
 
@@ -163,15 +187,26 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         public final @Nullable AsyncModbusReadResult result;
         public final @Nullable AsyncModbusFailure<ModbusReadRequestBlueprint> failure;
+        public final @Nullable Range block;
 
         PollResult(AsyncModbusReadResult result) {
+            this(result, null);
+        }
+
+        PollResult(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            this(failure, null);
+        }
+
+        PollResult(AsyncModbusReadResult result, @Nullable Range block) {
             this.result = result;
             this.failure = null;
+            this.block = block;
         }
 
-        PollResult(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+        PollResult(AsyncModbusFailure<ModbusReadRequestBlueprint> failure, @Nullable Range block) {
             this.result = null;
             this.failure = failure;
+            this.block = block;
         }
 
         @Override
@@ -181,6 +216,70 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Block read planned from the data referenced by the child things.
+     *
+     * Results are merged into the data of the whole poller range, and delegated to the children reading from the
+     * block.
+     */
+    private class PlannedBlock implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+
+        private final Range range;
+        private final ModbusReadRequestBlueprint blockRequest;
+        private volatile @Nullable PollTask pollTask;
+        private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
+
+        PlannedBlock(Range range, ModbusReadRequestBlueprint blockRequest) {
+            this.range = range;
+            this.blockRequest = blockRequest;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            ModbusReadRequestBlueprint localRequest = request;
+            if (localRequest == null || disposed) {
+                return;
+            }
+            AsyncModbusReadResult mergedResult = mergeBlockResult(localRequest, range, result);
+            mergedResult.getRegisters().ifPresent(registers -> lastPolledDataCache.set(registers));
+            handleResult(new PollResult(mergedResult, range));
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            ModbusReadRequestBlueprint localRequest = request;
+            if (localRequest == null || disposed) {
+                return;
+            }
+            handleResult(new PollResult(new AsyncModbusFailure<>(localRequest, failure.getCause()), range));
+        }
+
+        private void handleResult(PollResult result) {
+            if (config.getCacheMillis() >= 0) {
+                lastResult = new AtomicStampedValue<>(System.currentTimeMillis(), result);
+            }
+            callbackDelegator.handleResult(result);
+        }
+
+        /**
+         * Update the children reading from this block if its data is fresh enough
+         *
+         * @param oldestStamp oldest data that is still passed to children
+         * @return whether data was updated. Data is not updated when it's too old or there's no data at all.
+         */
+        boolean updateChildrenWithOldData(long oldestStamp) {
+            AtomicStampedValue<PollResult> localLastResult = lastResult;
+            AtomicStampedValue<PollResult> result = localLastResult == null ? null
+                    : localLastResult.copyIfStampAfter(oldestStamp);
+            if (result == null) {
+                return false;
+            }
+            logger.debug("Thing {} reusing cached data of block {}: {}", thing.getUID(), range, result.getValue());
+            callbackDelegator.notifyChildren(result.getValue());
+            return true;
+        }
+    }
+
     private final Logger logger = LoggerFactory.getLogger(ModbusPollerThingHandler.class);
 
     private static final List<String> SORTED_READ_FUNCTION_CODES = ModbusBindingConstantsInternal.READ_FUNCTION_CODES
@@ -197,10 +296,27 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
     private ReadCallbackDelegator callbackDelegator = new ReadCallbackDelegator();
 
+    private volatile List<PlannedBlock> plannedBlocks = List.of();
+    private final Object plannedDataLock = new Object();
+    private byte @Nullable [] plannedRegisterData;
+    private @Nullable BitSet plannedBitData;
+
     private @Nullable ModbusReadFunctionCode functionCode;
 
+    private final Supplier<@Nullable ModbusMetrics> metrics;
+
     public ModbusPollerThingHandler(Bridge bridge) {
+        this(bridge, () -> null);
+    }
+
+    /**
+     * @param bridge the poller thing
+     * @param metrics supplier of the metrics of the binding, which are only available while the metrics service is
+     *            installed
+     */
+    public ModbusPollerThingHandler(Bridge bridge, Supplier<@Nullable ModbusMetrics> metrics) {
         super(bridge);
+        this.metrics = metrics;
     }
 
     @Override
@@ -258,7 +374,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             switch (functionCode) {
                 case READ_INPUT_REGISTERS:
                 case READ_MULTIPLE_REGISTERS:
-                    if (config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
+                    if (!config.isPlanReads() && config.getLength() > ModbusConstants.MAX_REGISTERS_READ_COUNT) {
                         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
                                 "Maximum of %d registers can be polled at once due to protocol limitations. Length %d is out of bounds.",
                                 ModbusConstants.MAX_REGISTERS_READ_COUNT, config.getLength()));
@@ -267,7 +383,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     break;
                 case READ_COILS:
                 case READ_INPUT_DISCRETES:
-                    if (config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
+                    if (!config.isPlanReads() && config.getLength() > ModbusConstants.MAX_BITS_READ_COUNT) {
                         updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
                                 "Maximum of %d coils/discrete inputs can be polled at once due to protocol limitations. Length %d is out of bounds.",
                                 ModbusConstants.MAX_BITS_READ_COUNT, config.getLength()));
@@ -295,6 +411,10 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         this.callbackDelegator.resetCache();
         comms = null;
         lastPolledDataCache.set(null);
+        ModbusMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.thingDisposed(thing.getUID());
+        }
     }
 
     /**
@@ -313,6 +433,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             comms.unregisterRegularPoll(localPollTask);
         }
         this.pollTask = null;
+        unregisterPlannedBlocks();
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -357,7 +478,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 localFunctionCode, config.getStart(), config.getLength(), config.getMaxTries());
         this.request = localRequest;
 
-        if (config.getRefresh() <= 0L) {
+        if (config.isPlanReads()) {
+            synchronized (plannedDataLock) {
+                plannedRegisterData = null;
+                plannedBitData = null;
+            }
+            updateStatus(ThingStatus.ONLINE);
+            planReads();
+        } else if (config.getRefresh() <= 0L) {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
@@ -386,6 +514,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler modbusDataThingHandler) {
             this.childCallbacks.add(modbusDataThingHandler);
+            planReads();
         }
     }
 
@@ -394,6 +523,113 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
         if (childHandler instanceof ModbusDataThingHandler) {
             this.childCallbacks.remove(childHandler);
+            planReads();
+        }
+    }
+
+    /**
+     * Plan the block reads from the data referenced by the child things, and re-register polling if the plan
+     * changed.
+     *
+     * No-op unless automatic planning of reads is enabled. Called by the children when the referenced data changes,
+     * e.g. when channels are linked or unlinked.
+     */
+    public synchronized void planReads() {
+        ModbusPollerConfiguration localConfig = config;
+        ModbusReadRequestBlueprint localRequest = request;
+        ModbusCommunicationInterface localComms = comms;
+        if (localConfig == null || !localConfig.isPlanReads() || disposed || localRequest == null
+                || localComms == null) {
+            return;
+        }
+        int maxLength = switch (localRequest.getFunctionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+        List<Range> readRanges = childCallbacks.stream().map(ModbusDataThingHandler::getReadRange)
+                .filter(Objects::nonNull).map(Objects::requireNonNull).collect(Collectors.toList());
+        List<Range> blocks = ModbusReadPlanner.plan(readRanges, maxLength, localConfig.getPlanMaxGap());
+        if (blocks.equals(plannedBlocks.stream().map(block -> block.range).collect(Collectors.toList()))) {
+            return;
+        }
+
+        unregisterPlannedBlocks();
+        Optional<Range> tooLong = blocks.stream().filter(block -> block.getLength() > maxLength).findFirst();
+        if (tooLong.isPresent()) {
+            // a single data thing reads more than the protocol allows at once
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, String.format(
+                    "Maximum of %d registers or coils/discrete inputs can be polled at once due to protocol limitations. %s is out of bounds.",
+                    maxLength, tooLong.get()));
+            return;
+        }
+        List<PlannedBlock> newBlocks = new CopyOnWriteArrayList<>();
+        for (Range range : blocks) {
+            PlannedBlock block = new PlannedBlock(range, new ModbusReadRequestBlueprint(localRequest.getUnitID(),
+                    localRequest.getFunctionCode(), range.getStart(), range.getLength(), localRequest.getMaxTries()));
+            if (localConfig.getRefresh() > 0L) {
+                block.pollTask = localComms.registerRegularPoll(block.blockRequest, localConfig.getRefresh(), 0,
+                        block, block);
+            }
+            newBlocks.add(block);
+        }
+        plannedBlocks = newBlocks;
+        ThingStatusInfo statusInfo = thing.getStatusInfo();
+        if (ThingStatus.OFFLINE.equals(statusInfo.getStatus())
+                && ThingStatusDetail.CONFIGURATION_ERROR.equals(statusInfo.getStatusDetail())) {
+            // the previous plan had a block which was too long
+            updateStatus(ThingStatus.ONLINE);
+        }
+        logger.debug("Poller {} planned {} block reads for {} referenced ranges: {}", getThing().getUID(),
+                blocks.size(), readRanges.size(), blocks);
+    }
+
+    private synchronized void unregisterPlannedBlocks() {
+        ModbusCommunicationInterface localComms = comms;
+        for (PlannedBlock block : plannedBlocks) {
+            PollTask blockPollTask = block.pollTask;
+            if (blockPollTask != null && localComms != null) {
+                localComms.unregisterRegularPoll(blockPollTask);
+            }
+            block.pollTask = null;
+        }
+        plannedBlocks = List.of();
+    }
+
+    /**
+     * Merge the result of a planned block read into the data of the whole poller range
+     *
+     * @return result representing the whole poller range
+     */
+    private AsyncModbusReadResult mergeBlockResult(ModbusReadRequestBlueprint fullRequest, Range block,
+            AsyncModbusReadResult blockResult) {
+        int offset = block.getStart() - fullRequest.getReference();
+        synchronized (plannedDataLock) {
+            Optional<ModbusRegisterArray> registers = blockResult.getRegisters();
+            if (registers.isPresent()) {
+                byte[] data = plannedRegisterData;
+                if (data == null) {
+                    data = plannedRegisterData = new byte[fullRequest.getDataLength() * 2];
+                }
+                byte[] blockBytes = registers.get().getBytes();
+                System.arraycopy(blockBytes, 0, data, offset * 2,
+                        Math.min(blockBytes.length, block.getLength() * 2));
+                return new AsyncModbusReadResult(fullRequest, new ModbusRegisterArray(data.clone()));
+            }
+            BitArray blockBits = blockResult.getBits().orElseThrow();
+            BitSet bits = plannedBitData;
+            if (bits == null) {
+                bits = plannedBitData = new BitSet(fullRequest.getDataLength());
+            }
+            // BitArray has no bulk access, only the set bits of the block are copied
+            int blockLength = Math.min(blockBits.size(), block.getLength());
+            bits.clear(offset, offset + blockLength);
+            for (int i = 0; i < blockLength; i++) {
+                if (blockBits.getBit(i)) {
+                    bits.set(offset + i);
+                }
+            }
+            return new AsyncModbusReadResult(fullRequest,
+                    new BitArray((BitSet) bits.clone(), fullRequest.getDataLength()));
         }
     }
 
@@ -417,6 +653,19 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         return comms;
     }
 
+    /**
+     * Get write queue of the endpoint associated with this poller
+     *
+     * @return write queue, or <code>null</code> if the endpoint does not provide one
+     */
+    public @Nullable ModbusWriteQueue getWriteQueue() {
+        ModbusEndpointThingHandler endpointHandler = getEndpointThingHandler();
+        if (endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler) {
+            return abstractEndpointHandler.getWriteQueue();
+        }
+        return null;
+    }
+
     /**
      * Refresh the data
      *
@@ -443,6 +692,21 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
 
         long oldDataThreshold = System.currentTimeMillis() - cacheMillis;
+        if (config.isPlanReads()) {
+            // Each planned block has its own cached result, poll only the blocks without recent data
+            ModbusCommunicationInterface localComms = comms;
+            for (PlannedBlock block : plannedBlocks) {
+                if (cacheMillis > 0 && block.updateChildrenWithOldData(oldDataThreshold)) {
+                    continue;
+                }
+                logger.debug("Poller {} received refresh() but the cache of block {} is not recent enough. Polling",
+                        getThing().getUID(), block.range);
+                if (localComms != null) {
+                    localComms.submitOneTimePoll(block.blockRequest, block, block);
+                }
+            }
+            return;
+        }
         boolean cacheWasRecentEnoughForUpdate = cacheMillis > 0
                 && this.callbackDelegator.updateChildrenWithOldData(oldDataThreshold);
         if (cacheWasRecentEnoughForUpdate) {
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.io.metrics.spi.MetricsRecorder;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Reports metrics of polls and writes to the metrics service.
+ *
+ * The component is only activated while the metrics service provides a {@link MetricsRecorder}, and the handler factory
+ * references it optionally. This way the binding does not load the metrics SPI when the metrics service is not
+ * installed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = ModbusMetrics.class)
+@NonNullByDefault
+public class ModbusMetrics {
+
+    private final MetricsRecorder recorder;
+
+    @Activate
+    public ModbusMetrics(final @Reference MetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Record a poll result handled by a poller
+     *
+     * @param poller UID of the poller thing
+     * @param processingNanos time taken to pass the result to the data things
+     * @param failed whether the poll failed
+     */
+    public void pollHandled(ThingUID poller, long processingNanos, boolean failed) {
+        recorder.recordTime("openhab.modbus.poll.processing", processingNanos, "thing", poller.getAsString());
+        if (failed) {
+            recorder.increment("openhab.modbus.poll.errors", "thing", poller.getAsString());
+        }
+    }
+
+    /**
+     * Record a completed write transaction
+     *
+     * @param thing UID of the data thing writing
+     * @param latencyNanos time from submitting the write until the response or failure
+     * @param failed whether the write failed
+     */
+    public void writeCompleted(ThingUID thing, long latencyNanos, boolean failed) {
+        recorder.recordTime("openhab.modbus.write", latencyNanos, "thing", thing.getAsString());
+        if (failed) {
+            recorder.increment("openhab.modbus.write.errors", "thing", thing.getAsString());
+        }
+    }
+
+    /**
+     * Remove the meters of a thing whose handler is disposed
+     *
+     * @param thing UID of the thing
+     */
+    public void thingDisposed(ThingUID thing) {
+        recorder.removeMeters("thing", thing.getAsString());
+    }
+}
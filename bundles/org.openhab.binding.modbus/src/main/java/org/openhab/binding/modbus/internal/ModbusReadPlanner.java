@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Plans block reads for a set of referenced register (or coil/discrete input) ranges.
+ *
+ * Ranges are grouped into the fewest blocks such that each block is at most the maximum length allowed by the
+ * protocol, and consecutive ranges in a block are at most the allowed gap apart.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    /**
+     * Immutable range of registers, coils or discrete inputs
+     */
+    public static class Range {
+        private final int start;
+        private final int length;
+
+        public Range(int start, int length) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("length must be positive");
+            }
+            this.start = start;
+            this.length = length;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return last index of the range, inclusive
+         */
+        public int getEnd() {
+            return start + length - 1;
+        }
+
+        public boolean contains(Range other) {
+            return other.start >= start && other.getEnd() <= getEnd();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Range)) {
+                return false;
+            }
+            Range other = (Range) obj;
+            return start == other.start && length == other.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start + length;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Range(start=%d, length=%d)", start, length);
+        }
+    }
+
+    /**
+     * Group ranges into block reads
+     *
+     * @param ranges referenced ranges, possibly overlapping
+     * @param maxLength maximum length of a single block read
+     * @param maxGap maximum number of unreferenced elements read in between two ranges of the same block
+     * @return blocks covering all ranges, sorted by start
+     */
+    public static List<Range> plan(Collection<Range> ranges, int maxLength, int maxGap) {
+        List<Range> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingInt(Range::getStart).thenComparingInt(Range::getEnd));
+
+        List<Range> blocks = new ArrayList<>();
+        int blockStart = -1;
+        int blockEnd = -1;
+        for (Range range : sorted) {
+            if (blockStart >= 0) {
+                int mergedEnd = Math.max(blockEnd, range.getEnd());
+                boolean withinGap = range.getStart() - blockEnd - 1 <= maxGap;
+                if (withinGap && mergedEnd - blockStart + 1 <= maxLength) {
+                    blockEnd = mergedEnd;
+                    continue;
+                }
+                blocks.add(new Range(blockStart, blockEnd - blockStart + 1));
+            }
+            blockStart = range.getStart();
+            blockEnd = range.getEnd();
+        }
+        if (blockStart >= 0) {
+            blocks.add(new Range(blockStart, blockEnd - blockStart + 1));
+        }
+        return blocks;
+    }
+}
@@ -0,0 +1,282 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-endpoint queue for write requests.
+ *
+ * Register and coil writes submitted within a short window are merged into as few requests as possible: writes to
+ * contiguous registers (coils) of the same slave are sent as a single FC16 (FC15) request. Only writes that are sent
+ * with FC16 (FC15) themselves are merged, writes with FC06 (FC05) are sent as-is since some devices do not implement
+ * the multiple write function codes. A write is never merged into a request that would be sent before an earlier,
+ * overlapping write, so that the order of writes per register (coil) is preserved.
+ *
+ * With a window of zero (the default), requests are passed to the communication interface as-is.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteQueue {
+
+    /**
+     * Maximum number of registers that can be written with a single FC16 request
+     */
+    public static final int MAX_REGISTERS_WRITE_COUNT = 123;
+    /**
+     * Maximum number of coils that can be written with a single FC15 request
+     */
+    public static final int MAX_COILS_WRITE_COUNT = 1968;
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusWriteQueue.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final List<PendingWrite> pendingWrites = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    /**
+     * Construct new write queue
+     *
+     * @param comms communication interface used to send the (merged) requests
+     * @param scheduler scheduler used to flush the queue
+     * @param windowMillis time to collect writes before sending them. Zero or negative disables merging.
+     */
+    public ModbusWriteQueue(ModbusCommunicationInterface comms, ScheduledExecutorService scheduler,
+            long windowMillis) {
+        this.comms = comms;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Submit write request. The request is sent after the coalescing window, possibly merged with other requests.
+     *
+     * @param request request to send
+     * @param resultCallback callback to call with response
+     * @param failureCallback callback to call in case of failure
+     */
+    public void submit(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+            ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+        if (windowMillis <= 0 || !(request instanceof ModbusWriteRegisterRequestBlueprint
+                || request instanceof ModbusWriteCoilRequestBlueprint)) {
+            comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+            return;
+        }
+        synchronized (this) {
+            pendingWrites.add(new PendingWrite(request, resultCallback, failureCallback));
+            if (flushJob == null) {
+                flushJob = scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Send all pending writes immediately
+     */
+    public void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            ScheduledFuture<?> localFlushJob = flushJob;
+            if (localFlushJob != null) {
+                localFlushJob.cancel(false);
+                flushJob = null;
+            }
+            if (pendingWrites.isEmpty()) {
+                return;
+            }
+            writes = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+        }
+        List<WriteGroup> groups = merge(writes);
+        logger.trace("Flushing {} writes as {} requests to endpoint {}", writes.size(), groups.size(),
+                comms.getEndpoint());
+        for (WriteGroup group : groups) {
+            group.submit(comms);
+        }
+    }
+
+    /**
+     * Group writes into requests, keeping the per register order.
+     *
+     * @param writes writes in submission order
+     * @return groups in the order they should be sent
+     */
+    private static List<WriteGroup> merge(List<PendingWrite> writes) {
+        List<WriteGroup> groups = new ArrayList<>();
+        for (PendingWrite write : writes) {
+            // Writes that target the same registers as this write must be sent before it. The write can thus only
+            // be merged into a group created after the last overlapping group.
+            int lastOverlapping = -1;
+            for (int i = 0; i < groups.size(); i++) {
+                if (groups.get(i).overlaps(write)) {
+                    lastOverlapping = i;
+                }
+            }
+            @Nullable
+            WriteGroup target = null;
+            for (int i = lastOverlapping + 1; i < groups.size(); i++) {
+                if (groups.get(i).canAppend(write)) {
+                    target = groups.get(i);
+                    break;
+                }
+            }
+            if (target == null) {
+                groups.add(new WriteGroup(write));
+            } else {
+                target.append(write);
+            }
+        }
+        return groups;
+    }
+
+    private static class PendingWrite {
+        final ModbusWriteRequestBlueprint request;
+        final ModbusWriteCallback resultCallback;
+        final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback;
+        final boolean coil;
+        final boolean writeMultiple;
+        final int start;
+        final int length;
+
+        PendingWrite(ModbusWriteRequestBlueprint request, ModbusWriteCallback resultCallback,
+                ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+            this.start = request.getReference();
+            if (request instanceof ModbusWriteCoilRequestBlueprint coilRequest) {
+                coil = true;
+                length = coilRequest.getCoils().size();
+            } else {
+                coil = false;
+                length = ((ModbusWriteRegisterRequestBlueprint) request).getRegisters().size();
+            }
+            ModbusWriteFunctionCode functionCode = request.getFunctionCode();
+            writeMultiple = functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_REGISTERS
+                    || functionCode == ModbusWriteFunctionCode.WRITE_MULTIPLE_COILS;
+        }
+
+        int end() {
+            return start + length - 1;
+        }
+    }
+
+    /**
+     * Contiguous range of writes, sent as a single request
+     */
+    private static class WriteGroup {
+        private final List<PendingWrite> writes = new ArrayList<>();
+        private final boolean coil;
+        private final int unitId;
+        private final int maxTries;
+        private int start;
+        private int end;
+
+        WriteGroup(PendingWrite first) {
+            writes.add(first);
+            coil = first.coil;
+            unitId = first.request.getUnitID();
+            maxTries = first.request.getMaxTries();
+            start = first.start;
+            end = first.end();
+        }
+
+        private boolean sameTarget(PendingWrite write) {
+            return write.coil == coil && write.request.getUnitID() == unitId;
+        }
+
+        boolean overlaps(PendingWrite write) {
+            return sameTarget(write) && write.start <= end && write.end() >= start;
+        }
+
+        boolean canAppend(PendingWrite write) {
+            if (!sameTarget(write) || !write.writeMultiple || !writes.get(0).writeMultiple
+                    || write.request.getMaxTries() != maxTries) {
+                return false;
+            }
+            boolean adjacent = write.end() + 1 == start || write.start == end + 1;
+            int mergedLength = Math.max(end, write.end()) - Math.min(start, write.start) + 1;
+            return adjacent && mergedLength <= (coil ? MAX_COILS_WRITE_COUNT : MAX_REGISTERS_WRITE_COUNT);
+        }
+
+        void append(PendingWrite write) {
+            writes.add(write);
+            start = Math.min(start, write.start);
+            end = Math.max(end, write.end());
+        }
+
+        private ModbusWriteRequestBlueprint toRequest() {
+            int length = end - start + 1;
+            if (coil) {
+                BitArray bits = new BitArray(length);
+                for (PendingWrite write : writes) {
+                    BitArray coils = ((ModbusWriteCoilRequestBlueprint) write.request).getCoils();
+                    for (int i = 0; i < write.length; i++) {
+                        bits.setBit(write.start - start + i, coils.getBit(i));
+                    }
+                }
+                return new ModbusWriteCoilRequestBlueprint(unitId, start, bits, true, maxTries);
+            } else {
+                byte[] bytes = new byte[length * 2];
+                for (PendingWrite write : writes) {
+                    byte[] registerBytes = ((ModbusWriteRegisterRequestBlueprint) write.request).getRegisters()
+                            .getBytes();
+                    System.arraycopy(registerBytes, 0, bytes, (write.start - start) * 2, registerBytes.length);
+                }
+                return new ModbusWriteRegisterRequestBlueprint(unitId, start, new ModbusRegisterArray(bytes), true,
+                        maxTries);
+            }
+        }
+
+        void submit(ModbusCommunicationInterface comms) {
+            if (writes.size() == 1) {
+                PendingWrite write = writes.get(0);
+                comms.submitOneTimeWrite(write.request, write.resultCallback, write.failureCallback);
+                return;
+            }
+            ModbusWriteRequestBlueprint mergedRequest = toRequest();
+            comms.submitOneTimeWrite(mergedRequest, result -> {
+                for (PendingWrite write : writes) {
+                    write.resultCallback.handle(new AsyncModbusWriteResult(write.request, result.getResponse()));
+                }
+            }, failure -> {
+                for (PendingWrite write : writes) {
+                    write.failureCallback.handle(new AsyncModbusFailure<>(write.request, failure.getCause()));
+                }
+            });
+        }
+    }
+}
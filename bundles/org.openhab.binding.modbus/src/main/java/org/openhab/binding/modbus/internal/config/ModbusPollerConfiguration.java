@@ -29,6 +29,8 @@ public class ModbusPollerConfiguration {
     private @Nullable String type;
     private int maxTries = 3;// backwards compatibility and tests
     private long cacheMillis = 50L;
+    private boolean planReads;
+    private int planMaxGap = 10;
 
     /**
      * Gets refresh period in milliseconds
@@ -115,4 +117,34 @@ public class ModbusPollerConfiguration {
     public void setCacheMillis(long cacheMillis) {
         this.cacheMillis = cacheMillis;
     }
+
+    /**
+     * Gets whether reads are planned from the data actually referenced by the linked data things
+     */
+    public boolean isPlanReads() {
+        return planReads;
+    }
+
+    /**
+     * Sets whether reads are planned from the data actually referenced by the linked data things
+     */
+    public void setPlanReads(boolean planReads) {
+        this.planReads = planReads;
+    }
+
+    /**
+     * Gets maximum number of unreferenced registers, coils or discrete inputs that are read to combine two planned
+     * reads into one
+     */
+    public int getPlanMaxGap() {
+        return planMaxGap;
+    }
+
+    /**
+     * Sets maximum number of unreferenced registers, coils or discrete inputs that are read to combine two planned
+     * reads into one
+     */
+    public void setPlanMaxGap(int planMaxGap) {
+        this.planMaxGap = planMaxGap;
+    }
 }
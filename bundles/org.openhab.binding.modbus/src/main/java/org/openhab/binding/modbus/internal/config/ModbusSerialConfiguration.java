@@ -38,6 +38,7 @@ public class ModbusSerialConfiguration {
     private int connectMaxTries = 1;
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
+    private int writeCoalescingMillis;
     private boolean enableDiscovery;
 
     public @Nullable String getPort() {
@@ -167,4 +168,12 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getWriteCoalescingMillis() {
+        return writeCoalescingMillis;
+    }
+
+    public void setWriteCoalescingMillis(int writeCoalescingMillis) {
+        this.writeCoalescingMillis = writeCoalescingMillis;
+    }
 }
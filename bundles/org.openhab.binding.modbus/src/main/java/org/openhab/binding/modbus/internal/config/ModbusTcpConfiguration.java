@@ -32,6 +32,7 @@ public class ModbusTcpConfiguration {
     private int reconnectAfterMillis;
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
+    private int writeCoalescingMillis;
     private boolean enableDiscovery;
     private boolean rtuEncoded;
 
@@ -118,4 +119,12 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public int getWriteCoalescingMillis() {
+        return writeCoalescingMillis;
+    }
+
+    public void setWriteCoalescingMillis(int writeCoalescingMillis) {
+        this.writeCoalescingMillis = writeCoalescingMillis;
+    }
 }
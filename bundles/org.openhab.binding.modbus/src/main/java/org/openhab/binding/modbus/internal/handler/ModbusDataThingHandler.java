@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,6 +27,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,7 +36,10 @@ import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.handler.ModbusPollerThingHandler;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusMetrics;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Range;
 import org.openhab.binding.modbus.internal.ModbusTransformation;
+import org.openhab.binding.modbus.internal.ModbusWriteQueue;
 import org.openhab.binding.modbus.internal.config.ModbusDataConfiguration;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
@@ -44,9 +49,11 @@ import org.openhab.core.io.transport.modbus.ModbusBitUtilities;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusConstants.ValueType;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
 import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
 import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
 import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
 import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
 import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
 import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
@@ -70,6 +77,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.thing.binding.BridgeHandler;
 import org.openhab.core.thing.binding.ThingHandlerCallback;
@@ -135,8 +143,17 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile int slaveId;
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
+    private volatile @Nullable Range readRange;
+    // Extraction plan, precomputed in initialize
+    private volatile int extractIndex;
+    private volatile int rawValueByteOffset;
+    private volatile int rawValueByteLength;
+    // Raw data of the last processed poll, used to skip processing of unchanged values
+    private volatile byte @Nullable [] lastRawValue;
+    private volatile long lastProcessedMillis;
     private volatile long updateUnchangedValuesEveryMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusWriteQueue writeQueue;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
@@ -150,8 +167,16 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
             null);
 
-    public ModbusDataThingHandler(Thing thing) {
+    private final Supplier<@Nullable ModbusMetrics> metrics;
+
+    /**
+     * @param thing the data thing
+     * @param metrics supplier of the metrics of the binding, which are only available while the metrics service is
+     *            installed
+     */
+    public ModbusDataThingHandler(Thing thing, Supplier<@Nullable ModbusMetrics> metrics) {
         super(thing);
+        this.metrics = metrics;
     }
 
     @Override
@@ -170,6 +195,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 // There is no data to update
                 return;
             }
+            // Explicit refresh should update the channels even if the data has not changed
+            lastRawValue = null;
             // We *schedule* the REFRESH to avoid dead-lock situation where poller is trying update this
             // data thing with cached data (resulting in deadlock in two synchronized methods: this (handleCommand) and
             // onRegisters.
@@ -218,7 +245,34 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
 
         logger.trace("Submitting write task {} to endpoint {}", request, comms.getEndpoint());
-        comms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+        submitWrite(comms, request);
+    }
+
+    /**
+     * Submit write request through the endpoint write queue, merging it with other writes when enabled
+     */
+    private void submitWrite(ModbusCommunicationInterface comms, ModbusWriteRequestBlueprint request) {
+        ModbusWriteCallback resultCallback = this::onWriteResponse;
+        ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = this::handleWriteError;
+        ModbusMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            ThingUID uid = getThing().getUID();
+            long start = System.nanoTime();
+            resultCallback = result -> {
+                localMetrics.writeCompleted(uid, System.nanoTime() - start, false);
+                onWriteResponse(result);
+            };
+            failureCallback = failure -> {
+                localMetrics.writeCompleted(uid, System.nanoTime() - start, true);
+                handleWriteError(failure);
+            };
+        }
+        ModbusWriteQueue localWriteQueue = writeQueue;
+        if (localWriteQueue != null) {
+            localWriteQueue.submit(request, resultCallback, failureCallback);
+        } else {
+            comms.submitOneTimeWrite(request, resultCallback, failureCallback);
+        }
     }
 
     /**
@@ -385,7 +439,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         requests.stream().forEach(request -> {
             logger.trace("Submitting write request: {} to endpoint {} (based from transformation {})", request,
                     localComms.getEndpoint(), transformOutput);
-            localComms.submitOneTimeWrite(request, this::onWriteResponse, this::handleWriteError);
+            submitWrite(localComms, request);
         });
     }
 
@@ -414,6 +468,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             if (bridgeHandler instanceof ModbusEndpointThingHandler endpointHandler) {
                 slaveId = endpointHandler.getSlaveId();
                 comms = endpointHandler.getCommunicationInterface();
+                if (endpointHandler instanceof AbstractModbusEndpointThingHandler<?, ?> abstractEndpointHandler) {
+                    writeQueue = abstractEndpointHandler.getWriteQueue();
+                }
                 childOfEndpoint = true;
                 functionCode = null;
                 readRequest = null;
@@ -432,6 +489,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 slaveId = localReadRequest.getUnitID();
                 functionCode = localReadRequest.getFunctionCode();
                 comms = localPollerHandler.getCommunicationInterface();
+                writeQueue = localPollerHandler.getWriteQueue();
                 pollStart = localReadRequest.getReference();
                 childOfEndpoint = false;
             } else {
@@ -443,6 +501,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             validateAndParseReadParameters(localConfig);
             validateAndParseWriteParameters(localConfig);
             validateMustReadOrWrite();
+            readRange = calculateReadRange();
+            compileExtractionPlan();
 
             updateStatusIfChanged(ThingStatus.ONLINE);
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
@@ -468,8 +528,15 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         pollStart = 0;
         slaveId = 0;
         comms = null;
+        writeQueue = null;
         functionCode = null;
         readRequest = null;
+        readRange = null;
+        extractIndex = 0;
+        rawValueByteOffset = 0;
+        rawValueByteLength = 0;
+        lastRawValue = null;
+        lastProcessedMillis = 0;
         isWriteEnabled = false;
         isReadEnabled = false;
         writeParametersHavingTransformationOnly = false;
@@ -480,6 +547,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        ModbusMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.thingDisposed(getThing().getUID());
+        }
     }
 
     @Override
@@ -489,6 +560,68 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         this.initialize();
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        // Newly linked channel needs a value even if the data has not changed
+        lastRawValue = null;
+        ModbusPollerThingHandler poller = pollerHandler;
+        if (poller != null) {
+            // Plan before the REFRESH sent by super, so that the newly referenced data is read
+            poller.planReads();
+        }
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        super.channelUnlinked(channelUID);
+        ModbusPollerThingHandler poller = pollerHandler;
+        if (poller != null) {
+            poller.planReads();
+        }
+    }
+
+    /**
+     * Get the range of registers, coils or discrete inputs this thing needs from the poller.
+     *
+     * Used by the poller to plan its reads. The range covers the read value, and the register of individual bit
+     * writes.
+     *
+     * @return range needed from the poller, or null if no data channel is linked
+     */
+    public @Nullable Range getReadRange() {
+        Range localReadRange = readRange;
+        if (localReadRange == null) {
+            return null;
+        }
+        boolean dataChannelLinked = CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream()
+                .anyMatch(channelId -> isLinked(getChannelUID(channelId)));
+        // Writing individual bits requires the register data even without linked channels
+        return dataChannelLinked || writeSubIndex.isPresent() ? localReadRange : null;
+    }
+
+    private @Nullable Range calculateReadRange() {
+        ModbusReadRequestBlueprint localReadRequest = readRequest;
+        ValueType localReadValueType = readValueType;
+        if (childOfEndpoint || localReadRequest == null) {
+            return null;
+        }
+        int start = Integer.MAX_VALUE;
+        int end = Integer.MIN_VALUE;
+        if (isReadEnabled && readIndex.isPresent() && localReadValueType != null) {
+            boolean bitQuery = localReadRequest.getFunctionCode() == ModbusReadFunctionCode.READ_COILS
+                    || localReadRequest.getFunctionCode() == ModbusReadFunctionCode.READ_INPUT_DISCRETES;
+            int length = bitQuery ? 1 : Math.max(1, localReadValueType.getBits() / 16);
+            start = readIndex.get();
+            end = start + length - 1;
+        }
+        if (isWriteEnabled && writeStart.isPresent() && writeSubIndex.isPresent()) {
+            start = Math.min(start, writeStart.get());
+            end = Math.max(end, writeStart.get());
+        }
+        return start <= end ? new Range(start, end - start + 1) : null;
+    }
+
     private boolean hasConfigurationError() {
         ThingStatusInfo statusInfo = getThing().getStatusInfo();
         return statusInfo.getStatus() == ThingStatus.OFFLINE
@@ -814,28 +947,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
-        State numericState;
-
-        // extractIndex:
-        // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
-        // of register 10)
-        // bit of second register)
-        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
-        //
-        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
-        // respectively.
-        // with >=16 bit types, this is index of first register
-        int extractIndex;
-        if (readValueType.getBits() >= 16) {
-            // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
-        } else {
-            int subIndex = readSubIndex.orElse(0);
-            int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+        int extractIndex = this.extractIndex;
+        if (isUnchanged(registers.getBytes(), rawValueByteOffset, rawValueByteLength)) {
+            logger.trace("Thing {} registers unchanged since last poll, skipping channel updates. Registers {}",
+                    thing.getUID(), registers);
+            updateReadSuccess();
+            return;
         }
-        numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
+        State numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
@@ -851,7 +970,13 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        boolean boolValue = bits.getBit(extractIndex);
+        if (isUnchanged(new byte[] { (byte) (boolValue ? 1 : 0) }, 0, 1)) {
+            logger.trace("Thing {} bit unchanged since last poll, skipping channel updates. Bits {}", thing.getUID(),
+                    bits);
+            updateReadSuccess();
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -877,6 +1002,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                     getThing().getUID(), getThing().getLabel(), error.getClass().getName(), error.toString(),
                     error.getMessage(), error);
         }
+        // Process the next successful poll fully
+        lastRawValue = null;
         Map<ChannelUID, State> states = new HashMap<>();
         ChannelUID lastReadErrorUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_ERROR);
         if (isLinked(lastReadErrorUID)) {
@@ -945,6 +1072,71 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Precompute how the value is extracted from the polled data, see onRegisters and onBits
+     */
+    private void compileExtractionPlan() {
+        ValueType localReadValueType = readValueType;
+        if (!isReadEnabled || readIndex.isEmpty() || localReadValueType == null) {
+            return;
+        }
+        int relativeIndex = readIndex.get() - pollStart;
+        ModbusReadFunctionCode localFunctionCode = functionCode;
+        if (localFunctionCode == ModbusReadFunctionCode.READ_COILS
+                || localFunctionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES) {
+            extractIndex = relativeIndex;
+            return;
+        }
+        // extractIndex:
+        // e.g. with bit, extractIndex=4 means 5th bit (from right) ("10.4" -> 5th bit of register 10, "10.4" -> 5th bit
+        // of register 10)
+        // bit of second register)
+        // e.g. with 8bit integer, extractIndex=3 means high byte of second register
+        //
+        // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
+        // respectively.
+        // with >=16 bit types, this is index of first register
+        if (localReadValueType.getBits() >= 16) {
+            // Invariant, checked in initialize
+            assert readSubIndex.orElse(0) == 0;
+            extractIndex = relativeIndex;
+            rawValueByteLength = localReadValueType.getBits() / 8;
+        } else {
+            int itemsPerRegister = 16 / localReadValueType.getBits();
+            extractIndex = relativeIndex * itemsPerRegister + readSubIndex.orElse(0);
+            rawValueByteLength = 2;
+        }
+        rawValueByteOffset = relativeIndex * 2;
+    }
+
+    /**
+     * Compare raw value with the one of the last processed poll. The raw value is remembered when it is processed.
+     *
+     * Unchanged values are processed nevertheless every updateUnchangedValuesEveryMillis.
+     *
+     * @return true if the value is unchanged and processing can be skipped
+     */
+    private boolean isUnchanged(byte[] data, int offset, int length) {
+        long now = System.currentTimeMillis();
+        byte[] localLastRawValue = lastRawValue;
+        if (localLastRawValue != null && updateUnchangedValuesEveryMillis > 0L
+                && now - lastProcessedMillis <= updateUnchangedValuesEveryMillis && offset + length <= data.length
+                && Arrays.equals(localLastRawValue, 0, localLastRawValue.length, data, offset, offset + length)) {
+            return true;
+        }
+        lastRawValue = offset + length <= data.length ? Arrays.copyOfRange(data, offset, offset + length) : null;
+        lastProcessedMillis = now;
+        return false;
+    }
+
+    private void updateReadSuccess() {
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            tryUpdateState(lastReadSuccessUID, new DateTimeType());
+        }
+    }
+
     /**
      * Update linked channels
      *
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner.Range;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    @Test
+    public void testNoRanges() {
+        assertThat(ModbusReadPlanner.plan(List.of(), 125, 10), is(equalTo(List.of())));
+    }
+
+    @Test
+    public void testRangesWithinGapAreCombined() {
+        List<Range> blocks = ModbusReadPlanner.plan(List.of(new Range(10, 2), new Range(0, 1), new Range(5, 1)), 125,
+                10);
+        assertThat(blocks, is(equalTo(List.of(new Range(0, 12)))));
+    }
+
+    @Test
+    public void testRangesBeyondGapAreSeparate() {
+        List<Range> blocks = ModbusReadPlanner.plan(List.of(new Range(0, 1), new Range(2, 1), new Range(20, 2)), 125,
+                1);
+        assertThat(blocks, is(equalTo(List.of(new Range(0, 3), new Range(20, 2)))));
+    }
+
+    @Test
+    public void testZeroGapCombinesOnlyAdjacentRanges() {
+        List<Range> blocks = ModbusReadPlanner.plan(List.of(new Range(0, 2), new Range(2, 2), new Range(5, 1)), 125,
+                0);
+        assertThat(blocks, is(equalTo(List.of(new Range(0, 4), new Range(5, 1)))));
+    }
+
+    @Test
+    public void testOverlappingRangesAreCombined() {
+        List<Range> blocks = ModbusReadPlanner.plan(List.of(new Range(0, 4), new Range(1, 2), new Range(3, 2)), 125,
+                0);
+        assertThat(blocks, is(equalTo(List.of(new Range(0, 5)))));
+    }
+
+    @Test
+    public void testMaxLengthIsRespected() {
+        List<Range> blocks = ModbusReadPlanner.plan(
+                List.of(new Range(0, 2), new Range(100, 2), new Range(123, 2), new Range(125, 2)), 125, 200);
+        assertThat(blocks, is(equalTo(List.of(new Range(0, 125), new Range(125, 2)))));
+    }
+
+    @Test
+    public void testContains() {
+        Range block = new Range(10, 5);
+        assertThat(block.contains(new Range(10, 5)), is(true));
+        assertThat(block.contains(new Range(12, 2)), is(true));
+        assertThat(block.contains(new Range(14, 2)), is(false));
+        assertThat(block.contains(new Range(9, 1)), is(false));
+    }
+}
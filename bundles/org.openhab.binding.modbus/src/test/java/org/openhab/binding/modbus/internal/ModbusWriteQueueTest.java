@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusWriteResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.ModbusResponse;
+import org.openhab.core.io.transport.modbus.ModbusWriteCallback;
+import org.openhab.core.io.transport.modbus.ModbusWriteCoilRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRegisterRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusWriteRequestBlueprint;
+
+/**
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusWriteQueueTest {
+
+    private static final long LONG_WINDOW_MILLIS = 60_000;
+
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private final List<ModbusWriteRequestBlueprint> sentRequests = new ArrayList<>();
+    private final ModbusWriteCallback resultCallback = result -> {
+    };
+    private final ModbusFailureCallback<ModbusWriteRequestBlueprint> failureCallback = failure -> {
+    };
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        comms = mock(ModbusCommunicationInterface.class);
+        doAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(0));
+            return null;
+        }).when(comms).submitOneTimeWrite(any(), any(), any());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private static ModbusWriteRegisterRequestBlueprint register(int reference, int value) {
+        return new ModbusWriteRegisterRequestBlueprint(1, reference, new ModbusRegisterArray(value), true, 3);
+    }
+
+    @Test
+    public void testWithoutWindowRequestsArePassedThrough() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, 0);
+        ModbusWriteRegisterRequestBlueprint request = register(10, 1);
+        queue.submit(request, resultCallback, failureCallback);
+        assertThat(sentRequests.size(), is(equalTo(1)));
+        assertThat(sentRequests.get(0), is(sameInstance(request)));
+    }
+
+    @Test
+    public void testContiguousRegistersAreMerged() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        queue.submit(register(11, 2), resultCallback, failureCallback);
+        queue.submit(register(10, 1), resultCallback, failureCallback);
+        queue.submit(register(12, 3), resultCallback, failureCallback);
+        assertThat(sentRequests.size(), is(equalTo(0)));
+
+        queue.flush();
+
+        assertThat(sentRequests.size(), is(equalTo(1)));
+        ModbusWriteRegisterRequestBlueprint merged = (ModbusWriteRegisterRequestBlueprint) sentRequests.get(0);
+        assertThat(merged.getReference(), is(equalTo(10)));
+        assertThat(merged.getRegisters().size(), is(equalTo(3)));
+        assertThat(merged.getRegisters().getRegister(0), is(equalTo(1)));
+        assertThat(merged.getRegisters().getRegister(1), is(equalTo(2)));
+        assertThat(merged.getRegisters().getRegister(2), is(equalTo(3)));
+    }
+
+    @Test
+    public void testSingleWriteIsSentUnchanged() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        ModbusWriteRegisterRequestBlueprint request = register(10, 1);
+        queue.submit(request, resultCallback, failureCallback);
+        queue.submit(register(20, 2), resultCallback, failureCallback);
+
+        queue.flush();
+
+        assertThat(sentRequests.size(), is(equalTo(2)));
+        assertThat(sentRequests.get(0), is(sameInstance(request)));
+    }
+
+    @Test
+    public void testOrderOfWritesToSameRegisterIsPreserved() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        queue.submit(register(10, 1), resultCallback, failureCallback);
+        queue.submit(register(10, 2), resultCallback, failureCallback);
+        queue.submit(register(11, 3), resultCallback, failureCallback);
+
+        queue.flush();
+
+        // Second write to register 10 must be sent after the first one, register 11 can go along with either
+        assertThat(sentRequests.size(), is(equalTo(2)));
+        ModbusWriteRegisterRequestBlueprint first = (ModbusWriteRegisterRequestBlueprint) sentRequests.get(0);
+        ModbusWriteRegisterRequestBlueprint second = (ModbusWriteRegisterRequestBlueprint) sentRequests.get(1);
+        assertThat(first.getReference(), is(equalTo(10)));
+        assertThat(first.getRegisters().size(), is(equalTo(2)));
+        assertThat(first.getRegisters().getRegister(0), is(equalTo(1)));
+        assertThat(first.getRegisters().getRegister(1), is(equalTo(3)));
+        assertThat(second.getReference(), is(equalTo(10)));
+        assertThat(second.getRegisters().size(), is(equalTo(1)));
+        assertThat(second.getRegisters().getRegister(0), is(equalTo(2)));
+    }
+
+    @Test
+    public void testDifferentSlavesAreNotMerged() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        queue.submit(register(10, 1), resultCallback, failureCallback);
+        queue.submit(new ModbusWriteRegisterRequestBlueprint(2, 11, new ModbusRegisterArray(2), true, 3),
+                resultCallback, failureCallback);
+
+        queue.flush();
+
+        assertThat(sentRequests.size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void testSingleWriteFunctionCodesAreNotMerged() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        ModbusWriteRegisterRequestBlueprint first = new ModbusWriteRegisterRequestBlueprint(1, 10,
+                new ModbusRegisterArray(1), false, 3);
+        ModbusWriteRegisterRequestBlueprint second = new ModbusWriteRegisterRequestBlueprint(1, 11,
+                new ModbusRegisterArray(2), false, 3);
+        ModbusWriteCoilRequestBlueprint coil = new ModbusWriteCoilRequestBlueprint(1, 5, true, false, 3);
+        queue.submit(first, resultCallback, failureCallback);
+        queue.submit(second, resultCallback, failureCallback);
+        queue.submit(register(12, 3), resultCallback, failureCallback);
+        queue.submit(coil, resultCallback, failureCallback);
+        queue.submit(new ModbusWriteCoilRequestBlueprint(1, 6, false, true, 3), resultCallback, failureCallback);
+
+        queue.flush();
+
+        assertThat(sentRequests.size(), is(equalTo(5)));
+        assertThat(sentRequests.get(0), is(sameInstance(first)));
+        assertThat(sentRequests.get(1), is(sameInstance(second)));
+        assertThat(sentRequests.get(3), is(sameInstance(coil)));
+    }
+
+    @Test
+    public void testContiguousCoilsAreMerged() {
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        queue.submit(new ModbusWriteCoilRequestBlueprint(1, 5, true, true, 3), resultCallback, failureCallback);
+        queue.submit(new ModbusWriteCoilRequestBlueprint(1, 6, false, true, 3), resultCallback, failureCallback);
+        queue.submit(new ModbusWriteCoilRequestBlueprint(1, 7, true, true, 3), resultCallback, failureCallback);
+        // Register writes are never merged with coil writes
+        queue.submit(register(8, 1), resultCallback, failureCallback);
+
+        queue.flush();
+
+        assertThat(sentRequests.size(), is(equalTo(2)));
+        ModbusWriteCoilRequestBlueprint merged = (ModbusWriteCoilRequestBlueprint) sentRequests.get(0);
+        assertThat(merged.getReference(), is(equalTo(5)));
+        assertThat(merged.getCoils().size(), is(equalTo(3)));
+        assertThat(merged.getCoils().getBit(0), is(equalTo(true)));
+        assertThat(merged.getCoils().getBit(1), is(equalTo(false)));
+        assertThat(merged.getCoils().getBit(2), is(equalTo(true)));
+    }
+
+    @Test
+    public void testCallbacksOfMergedWritesAreCalled() {
+        List<ModbusWriteRequestBlueprint> completed = new ArrayList<>();
+        doAnswer(invocation -> {
+            ModbusWriteRequestBlueprint request = invocation.getArgument(0);
+            ModbusWriteCallback callback = invocation.getArgument(1);
+            callback.handle(new AsyncModbusWriteResult(request, mock(ModbusResponse.class)));
+            return null;
+        }).when(comms).submitOneTimeWrite(any(), any(), any());
+
+        ModbusWriteQueue queue = new ModbusWriteQueue(comms, scheduler, LONG_WINDOW_MILLIS);
+        ModbusWriteRegisterRequestBlueprint first = register(10, 1);
+        ModbusWriteRegisterRequestBlueprint second = register(11, 2);
+        queue.submit(first, result -> completed.add(result.getRequest()), failureCallback);
+        queue.submit(second, result -> completed.add(result.getRequest()), failureCallback);
+
+        queue.flush();
+
+        assertThat(completed.size(), is(equalTo(2)));
+        assertThat(completed.get(0), is(sameInstance(first)));
+        assertThat(completed.get(1), is(sameInstance(second)));
+    }
+}
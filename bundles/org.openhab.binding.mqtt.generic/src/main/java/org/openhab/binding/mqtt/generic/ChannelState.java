@@ -145,6 +145,7 @@ public class ChannelState implements MqttMessageSubscriber {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
             return;
         }
+        channelStateUpdateListener.messageReceived(channelUID);
 
         if (cachedValue.isBinary()) {
             cachedValue.update(payload);
@@ -156,7 +157,9 @@ public class ChannelState implements MqttMessageSubscriber {
         // String value: Apply transformations
         String strValue = new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
+            long start = System.nanoTime();
             Optional<String> transformedValue = incomingTransformation.apply(strValue);
+            channelStateUpdateListener.incomingValueTransformed(channelUID, System.nanoTime() - start);
             if (transformedValue.isEmpty()) {
                 logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
                         incomingTransformation);
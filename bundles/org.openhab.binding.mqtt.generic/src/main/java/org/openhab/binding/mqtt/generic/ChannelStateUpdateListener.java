@@ -47,4 +47,22 @@ public interface ChannelStateUpdateListener {
      * @param eventPayload The new value. Doesn't necessarily need to be different than the value before.
      */
     void triggerChannel(ChannelUID channelUID, String eventPayload);
+
+    /**
+     * A message got published on a configured MQTT topic associated with the given channel uid.
+     * Called before the message is processed, for metrics.
+     *
+     * @param channelUID The channel uid
+     */
+    default void messageReceived(ChannelUID channelUID) {
+    }
+
+    /**
+     * The incoming transformation of the given channel got applied to a received message, for metrics.
+     *
+     * @param channelUID The channel uid
+     * @param durationNanos The time taken by the transformation
+     */
+    default void incomingValueTransformed(ChannelUID channelUID, long durationNanos) {
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.io.metrics.spi.MetricsRecorder;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Reports metrics of incoming messages to the metrics service.
+ *
+ * Measurements are tagged by thing rather than by topic, as topics may contain wildcards and ids that would create an
+ * unbounded number of meters. The component is only activated while the metrics service provides a
+ * {@link MetricsRecorder}, and the handler factory references it optionally, so the binding does not load the metrics
+ * SPI when the metrics service is not installed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = MqttMetrics.class)
+@NonNullByDefault
+public class MqttMetrics {
+
+    private final MetricsRecorder recorder;
+
+    @Activate
+    public MqttMetrics(final @Reference MetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Count a message received by a channel
+     *
+     * @param channelUID the channel receiving the message
+     */
+    public void messageReceived(ChannelUID channelUID) {
+        recorder.increment("openhab.mqtt.messages", "thing", channelUID.getThingUID().getAsString());
+    }
+
+    /**
+     * Record the time taken by the incoming transformation of a channel
+     *
+     * @param channelUID the channel receiving the transformed message
+     * @param durationNanos duration of the transformation
+     */
+    public void transformed(ChannelUID channelUID, long durationNanos) {
+        recorder.recordTime("openhab.mqtt.transformation", durationNanos, "thing",
+                channelUID.getThingUID().getAsString());
+    }
+
+    /**
+     * Remove the meters of a thing whose handler is disposed
+     *
+     * @param thing UID of the thing
+     */
+    public void thingDisposed(ThingUID thing) {
+        recorder.removeMeters("thing", thing.getAsString());
+    }
+}
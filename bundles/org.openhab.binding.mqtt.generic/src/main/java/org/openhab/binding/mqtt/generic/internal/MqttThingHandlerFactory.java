@@ -30,6 +30,8 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 
 /**
  * The {@link MqttThingHandlerFactory} is responsible for creating things and thing
@@ -41,6 +43,10 @@ import org.osgi.service.component.annotations.Reference;
 @NonNullByDefault
 public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
     private @NonNullByDefault({}) MqttChannelStateDescriptionProvider stateDescriptionProvider;
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    private volatile @Nullable MqttMetrics metrics;
+
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
             .of(MqttBindingConstants.GENERIC_MQTT_THING).collect(Collectors.toSet());
 
@@ -75,7 +81,7 @@ public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(MqttBindingConstants.GENERIC_MQTT_THING)) {
-            return new GenericMQTTThingHandler(thing, stateDescriptionProvider, 1500);
+            return new GenericMQTTThingHandler(thing, stateDescriptionProvider, 1500, () -> metrics);
         }
         return null;
     }
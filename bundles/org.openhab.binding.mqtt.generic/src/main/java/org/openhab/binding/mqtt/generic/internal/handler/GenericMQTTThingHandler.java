@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.measure.Unit;
@@ -30,6 +31,7 @@ import org.openhab.binding.mqtt.generic.ChannelState;
 import org.openhab.binding.mqtt.generic.ChannelStateUpdateListener;
 import org.openhab.binding.mqtt.generic.MqttChannelStateDescriptionProvider;
 import org.openhab.binding.mqtt.generic.internal.MqttBindingConstants;
+import org.openhab.binding.mqtt.generic.internal.MqttMetrics;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.binding.mqtt.generic.values.ValueFactory;
@@ -58,6 +60,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
     private final Logger logger = LoggerFactory.getLogger(GenericMQTTThingHandler.class);
     final Map<ChannelUID, ChannelState> channelStateByChannelUID = new HashMap<>();
     protected final MqttChannelStateDescriptionProvider stateDescProvider;
+    private final Supplier<@Nullable MqttMetrics> metrics;
 
     /**
      * Creates a new Thing handler for generic MQTT channels.
@@ -68,8 +71,38 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
      */
     public GenericMQTTThingHandler(Thing thing, MqttChannelStateDescriptionProvider stateDescProvider,
             int subscribeTimeout) {
+        this(thing, stateDescProvider, subscribeTimeout, () -> null);
+    }
+
+    /**
+     * Creates a new Thing handler for generic MQTT channels.
+     *
+     * @param thing The thing of this handler
+     * @param stateDescProvider A channel state provider
+     * @param subscribeTimeout The subscribe timeout
+     * @param metrics Supplier of the metrics of the binding, only available while the metrics service is installed
+     */
+    public GenericMQTTThingHandler(Thing thing, MqttChannelStateDescriptionProvider stateDescProvider,
+            int subscribeTimeout, Supplier<@Nullable MqttMetrics> metrics) {
         super(thing, subscribeTimeout);
         this.stateDescProvider = stateDescProvider;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void messageReceived(ChannelUID channelUID) {
+        MqttMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.messageReceived(channelUID);
+        }
+    }
+
+    @Override
+    public void incomingValueTransformed(ChannelUID channelUID, long durationNanos) {
+        MqttMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.transformed(channelUID, durationNanos);
+        }
     }
 
     @Override
@@ -106,6 +139,10 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
         // there is a design flaw, we can't clean up our stuff because it is needed by the super-class on disposal for
         // unsubscribing
         channelStateByChannelUID.clear();
+        MqttMetrics localMetrics = metrics.get();
+        if (localMetrics != null) {
+            localMetrics.thingDisposed(thing.getUID());
+        }
     }
 
     @Override
@@ -13,7 +13,10 @@
 package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -24,6 +27,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -76,11 +80,24 @@ import com.google.gson.GsonBuilder;
 public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantDiscovery.class);
     private HomeAssistantConfiguration configuration;
-    protected final Map<String, Set<HaID>> componentsPerThingID = new TreeMap<>();
-    protected final Map<String, ThingUID> thingIDPerTopic = new TreeMap<>();
+    protected final Map<String, Set<HaID>> componentsPerThingID = new ConcurrentHashMap<>();
+    protected final Map<String, ThingUID> thingIDPerTopic = new ConcurrentHashMap<>();
     protected final Map<String, DiscoveryResult> results = new ConcurrentHashMap<>();
 
+    /**
+     * The SHA-256 hash of the last processed config payload per topic. Retained configs that are delivered again (e.g.
+     * on broker reconnect) with an unchanged payload are not parsed again.
+     */
+    protected final Map<String, byte[]> payloadHashPerTopic = new ConcurrentHashMap<>();
+
+    /**
+     * Config payloads received since the last batch, keyed by topic. Only the latest payload per topic is kept.
+     */
+    private final ConcurrentMap<String, PendingConfig> pendingConfigs = new ConcurrentHashMap<>();
+
     private @Nullable ScheduledFuture<?> future;
+    private volatile long lastMessageTimestamp;
+    private volatile long firstPendingTimestamp;
     private final Gson gson;
 
     public static final Map<String, String> HA_COMP_TO_NAME = new TreeMap<>();
@@ -101,6 +118,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
 
+    /** Quiet period after the last config message before a batch of results is published */
+    static final long PUBLISH_DELAY_MS = 2000;
+    /** Maximum time a received config may wait for publication while messages keep arriving */
+    static final long MAX_PUBLISH_DELAY_MS = 10000;
+    /** Minimum batch size for which config payloads are parsed in parallel */
+    static final int PARALLEL_PARSE_THRESHOLD = 32;
+
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
 
@@ -188,79 +212,164 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
-        // Reset the found-component timer.
-        // We will collect components for the thing label description for another 2 seconds.
+        // Retained configs are delivered again on every (re-)subscription. Skip them if nothing changed.
+        final byte[] payloadHash = hash(payload);
+        final byte[] previousPayloadHash = payloadHashPerTopic.put(topic, payloadHash);
+        if (previousPayloadHash != null && Arrays.equals(previousPayloadHash, payloadHash)
+                && thingIDPerTopic.containsKey(topic) && !pendingConfigs.containsKey(topic)) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        lastMessageTimestamp = now;
+        if (pendingConfigs.put(topic, new PendingConfig(connectionBridge, payload)) == null
+                && pendingConfigs.size() == 1) {
+            firstPendingTimestamp = now;
+        }
+        schedulePublish();
+    }
+
+    private static byte[] hash(byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256, fall back to the payload itself anyway
+            return payload;
+        }
+    }
+
+    /**
+     * Schedules the publication of the pending batch, unless it is already scheduled. Components are collected for
+     * the thing label description until no new config arrived for {@link #PUBLISH_DELAY_MS}.
+     */
+    private synchronized void schedulePublish() {
         final ScheduledFuture<?> future = this.future;
-        if (future != null) {
-            future.cancel(false);
+        if (future == null || future.isDone()) {
+            this.future = scheduler.schedule(this::publishIfQuiet, PUBLISH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void publishIfQuiet() {
+        final long now = System.currentTimeMillis();
+        final long quietFor = now - lastMessageTimestamp;
+        if (quietFor < PUBLISH_DELAY_MS && now - firstPendingTimestamp < MAX_PUBLISH_DELAY_MS) {
+            // Messages are still arriving, wait for the remainder of the quiet period.
+            this.future = scheduler.schedule(this::publishIfQuiet, PUBLISH_DELAY_MS - quietFor, TimeUnit.MILLISECONDS);
+            return;
         }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
+        this.future = null;
+        publishResults();
+    }
 
+    /**
+     * Parses a config payload. Safe to call concurrently, the {@link Gson} instance is thread-safe.
+     *
+     * @return the parsed config or null if the payload is invalid
+     */
+    private @Nullable ParsedConfig parseConfig(String topic, PendingConfig pending) {
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
         HaID haID = new HaID(topic);
-
         try {
             AbstractChannelConfiguration config = AbstractChannelConfiguration
-                    .fromString(new String(payload, StandardCharsets.UTF_8), gson);
+                    .fromString(new String(pending.payload, StandardCharsets.UTF_8), gson);
+            return new ParsedConfig(topic, haID, pending.connectionBridge, config);
+        } catch (ConfigurationException e) {
+            logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
+                    haID.objectID, haID.component, e.getMessage());
+        } catch (Exception e) {
+            logger.warn("HomeAssistant discover error: {}", e.getMessage());
+        }
+        // Make sure a later, possibly fixed, retained payload is parsed again
+        payloadHashPerTopic.remove(topic);
+        return null;
+    }
+
+    /**
+     * Parses all pending configs and updates the discovery results of the affected things.
+     */
+    private void processPendingConfigs() {
+        final List<Map.Entry<String, PendingConfig>> batch = new ArrayList<>(pendingConfigs.size());
+        for (String topic : new ArrayList<>(pendingConfigs.keySet())) {
+            PendingConfig pending = pendingConfigs.remove(topic);
+            if (pending != null) {
+                batch.add(Map.entry(topic, pending));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Stream<Map.Entry<String, PendingConfig>> stream = batch.size() >= PARALLEL_PARSE_THRESHOLD
+                ? batch.parallelStream()
+                : batch.stream();
+        final List<ParsedConfig> parsedConfigs = stream.map(entry -> parseConfig(entry.getKey(), entry.getValue()))
+                .filter(Objects::nonNull).map(Objects::requireNonNull).collect(Collectors.toList());
 
-            final String thingID = config.getThingId(haID.objectID);
-            final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING, connectionBridge,
-                    thingID);
+        // The last config of a thing provides the device information for its discovery result
+        final Map<String, ParsedConfig> lastConfigPerThingID = new HashMap<>();
+        for (ParsedConfig parsed : parsedConfigs) {
+            final String thingID = parsed.config.getThingId(parsed.haID.objectID);
+            final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING,
+                    parsed.connectionBridge, thingID);
 
-            thingIDPerTopic.put(topic, thingUID);
+            thingIDPerTopic.put(parsed.topic, thingUID);
 
             // We need to keep track of already found component topics for a specific thing
-            final List<HaID> components;
-            {
-                Set<HaID> componentsUnordered = componentsPerThingID.computeIfAbsent(thingID,
-                        key -> ConcurrentHashMap.newKeySet());
-
-                // Invariant. For compiler, computeIfAbsent above returns always
-                // non-null
-                Objects.requireNonNull(componentsUnordered);
-                componentsUnordered.add(haID);
-
-                components = componentsUnordered.stream().collect(Collectors.toList());
-                // We sort the components for consistent jsondb serialization order of 'topics' thing property
-                // Sorting key is HaID::toString, i.e. using the full topic string
-                components.sort(Comparator.comparing(HaID::toString));
+            componentsPerThingID.computeIfAbsent(thingID, key -> ConcurrentHashMap.newKeySet()).add(parsed.haID);
+            lastConfigPerThingID.put(thingID, parsed);
+        }
+
+        // Unchanged configs of these things were skipped, restore their components from the known topics
+        thingIDPerTopic.forEach((topic, thingUID) -> {
+            final String thingID = thingUID.getId();
+            if (lastConfigPerThingID.containsKey(thingID)) {
+                componentsPerThingID.computeIfAbsent(thingID, key -> ConcurrentHashMap.newKeySet())
+                        .add(new HaID(topic));
             }
+        });
+
+        lastConfigPerThingID.forEach((thingID, parsed) -> {
+            final List<HaID> components = new ArrayList<>(
+                    componentsPerThingID.getOrDefault(thingID, Collections.emptySet()));
+            // We sort the components for consistent jsondb serialization order of 'topics' thing property
+            // Sorting key is HaID::toString, i.e. using the full topic string
+            components.sort(Comparator.comparing(HaID::toString));
 
             final String componentNames = getComponentNamesSummary(
                     components.stream().map(id -> id.component).map(c -> HA_COMP_TO_NAME.getOrDefault(c, c)));
 
             final List<String> topics = components.stream().map(HaID::toShortTopic).collect(Collectors.toList());
 
+            final ThingUID thingUID = new ThingUID(MqttBindingConstants.HOMEASSISTANT_MQTT_THING,
+                    parsed.connectionBridge, thingID);
             Map<String, Object> properties = new HashMap<>();
-            HandlerConfiguration handlerConfig = new HandlerConfiguration(haID.baseTopic, topics);
+            HandlerConfiguration handlerConfig = new HandlerConfiguration(parsed.haID.baseTopic, topics);
             properties = handlerConfig.appendToProperties(properties);
-            properties = config.appendToProperties(properties);
+            properties = parsed.config.appendToProperties(properties);
             properties.put("deviceId", thingID);
             properties.put("newStyleChannels", "true");
 
             // Because we need the new properties map with the updated "components" list
             results.put(thingUID.getAsString(),
                     DiscoveryResultBuilder.create(thingUID).withProperties(properties)
-                            .withRepresentationProperty("deviceId").withBridge(connectionBridge)
-                            .withLabel(config.getThingName() + " (" + componentNames + ")").build());
-        } catch (ConfigurationException e) {
-            logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
-                    haID.objectID, haID.component, e.getMessage());
-        } catch (Exception e) {
-            logger.warn("HomeAssistant discover error: {}", e.getMessage());
-        }
+                            .withRepresentationProperty("deviceId").withBridge(parsed.connectionBridge)
+                            .withLabel(parsed.config.getThingName() + " (" + componentNames + ")").build());
+        });
     }
 
     @Override
     protected void startScan() {
+        // Discovery results are re-created on a scan, so retained configs must not be skipped
+        payloadHashPerTopic.clear();
         super.startScan();
         triggerDeviceDiscovery();
     }
 
     @Override
     protected void startBackgroundDiscovery() {
+        payloadHashPerTopic.clear();
         super.startBackgroundDiscovery();
         triggerDeviceDiscovery();
     }
@@ -273,7 +382,9 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         getDiscoveryService().publish(BIRTH_TOPIC, ONLINE_STATUS.getBytes(), 1, false);
     }
 
-    protected void publishResults() {
+    protected synchronized void publishResults() {
+        processPendingConfigs();
+
         Collection<DiscoveryResult> localResults;
 
         localResults = new ArrayList<>(results.values());
@@ -285,10 +396,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     }
 
     @Override
-    public void topicVanished(ThingUID connectionBridge, MqttBrokerConnection connection, String topic) {
+    public synchronized void topicVanished(ThingUID connectionBridge, MqttBrokerConnection connection,
+            String topic) {
         if (!topic.endsWith("/config")) {
             return;
         }
+        payloadHashPerTopic.remove(topic);
+        pendingConfigs.remove(topic);
         if (thingIDPerTopic.containsKey(topic)) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
@@ -304,4 +418,28 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             }
         }
     }
+
+    private static class PendingConfig {
+        final ThingUID connectionBridge;
+        final byte[] payload;
+
+        PendingConfig(ThingUID connectionBridge, byte[] payload) {
+            this.connectionBridge = connectionBridge;
+            this.payload = payload;
+        }
+    }
+
+    private static class ParsedConfig {
+        final String topic;
+        final HaID haID;
+        final ThingUID connectionBridge;
+        final AbstractChannelConfiguration config;
+
+        ParsedConfig(String topic, HaID haID, ThingUID connectionBridge, AbstractChannelConfiguration config) {
+            this.topic = topic;
+            this.haID = haID;
+            this.connectionBridge = connectionBridge;
+            this.config = config;
+        }
+    }
 }
@@ -15,6 +15,7 @@ package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -93,6 +94,87 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 "climate/0x847127fffe11dd6a_climate_zigbee2mqtt", "switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt"));
     }
 
+    @Test
+    public void testUnchangedRetainedConfigIsSkipped() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.addDiscoveryListener(discoveryListener);
+
+        String topic = "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config";
+        byte[] payload = getResourceAsByteArray("component/configTS0601AutoLock.json");
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, payload);
+        assert latch.await(3, TimeUnit.SECONDS);
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+
+        // When the same retained config is delivered again, e.g. after a broker reconnect
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, payload.clone());
+
+        // Then it is not processed again
+        assertThat(latch.await(3, TimeUnit.SECONDS), is(false));
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+    }
+
+    @Test
+    public void testChangedConfigKeepsUnchangedComponents() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.addDiscoveryListener(discoveryListener);
+
+        String climateTopic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        String switchTopic = "homeassistant/switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt/config";
+        byte[] climatePayload = getResourceAsByteArray("component/configTS0601ClimateThermostat.json");
+        byte[] switchPayload = getResourceAsByteArray("component/configTS0601AutoLock.json");
+        discovery.receivedMessage(HA_UID, bridgeConnection, climateTopic, climatePayload);
+        discovery.receivedMessage(HA_UID, bridgeConnection, switchTopic, switchPayload);
+        assert latch.await(3, TimeUnit.SECONDS);
+
+        // When after a broker reconnect only the config of one component changed
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.receivedMessage(HA_UID, bridgeConnection, climateTopic, climatePayload.clone());
+        discovery.receivedMessage(HA_UID, bridgeConnection, switchTopic,
+                (new String(switchPayload, StandardCharsets.UTF_8) + " ").getBytes(StandardCharsets.UTF_8));
+
+        // Then the new result still contains the unchanged component
+        assert latch.await(3, TimeUnit.SECONDS);
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(2));
+        var result = discoveryResults.get(1);
+        assertThat(result.getLabel(), is("th1 (Climate Control, Switch)"));
+        assertThat((List<String>) result.getProperties().get(HandlerConfiguration.PROPERTY_TOPICS), hasItems(
+                "climate/0x847127fffe11dd6a_climate_zigbee2mqtt", "switch/0x847127fffe11dd6a_auto_lock_zigbee2mqtt"));
+    }
+
+    @Test
+    public void testSyntheticRetainedCorpusIsPublishedInOneBatch() throws Exception {
+        final int devices = 200;
+        final int componentsPerDevice = 5;
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(devices);
+        discovery.addDiscoveryListener(discoveryListener);
+
+        for (int d = 0; d < devices; d++) {
+            for (int c = 0; c < componentsPerDevice; c++) {
+                String config = "{\"name\":\"sensor " + c + "\",\"unique_id\":\"dev" + d + "_sensor" + c
+                        + "\",\"state_topic\":\"zigbee2mqtt/dev" + d + "\",\"device\":{\"identifiers\":[\"dev"
+                        + d + "\"],\"name\":\"Device " + d + "\"}}";
+                discovery.receivedMessage(HA_UID, bridgeConnection,
+                        "homeassistant/sensor/dev" + d + "/sensor" + c + "/config",
+                        config.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        // Then every device is discovered exactly once, with all of its components
+        assert latch.await(10, TimeUnit.SECONDS);
+        var discoveryResults = discoveryListener.getDiscoveryResults();
+        assertThat(discoveryResults.size(), is(devices));
+        for (DiscoveryResult result : discoveryResults) {
+            assertThat(((List<String>) result.getProperties().get(HandlerConfiguration.PROPERTY_TOPICS)).size(),
+                    is(componentsPerDevice));
+            assertThat(result.getLabel(), endsWith("(" + componentsPerDevice + "x Sensor)"));
+        }
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
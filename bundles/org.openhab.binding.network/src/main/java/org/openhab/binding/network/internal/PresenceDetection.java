@@ -14,7 +14,6 @@ package org.openhab.binding.network.internal;
 
 import static org.openhab.binding.network.internal.PresenceDetectionType.*;
 
-import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.SocketException;
@@ -25,12 +24,8 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +59,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
 
     NetworkUtils networkUtils = new NetworkUtils();
+    PresenceDetectionEngine engine;
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -93,16 +89,15 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
 
-    public PresenceDetection(final PresenceDetectionListener updateListener,
+    public PresenceDetection(final PresenceDetectionListener updateListener, PresenceDetectionEngine engine,
             ScheduledExecutorService scheduledExecutorService, Duration cacheDeviceStateTime)
             throws IllegalArgumentException {
         this.updateListener = updateListener;
+        this.engine = engine;
         this.scheduledExecutorService = scheduledExecutorService;
         cache = new ExpiringCacheAsync<>(cacheDeviceStateTime);
     }
@@ -285,37 +280,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
-    }
-
-    private void withDestinationAddress(Consumer<InetAddress> consumer) {
-        InetAddress destinationAddress = destination.getValue();
-        if (destinationAddress == null) {
-            logger.trace("The destinationAddress for {} is null", hostname);
-        } else {
-            consumer.accept(destinationAddress);
-        }
-    }
-
-    private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
-        }
-    }
-
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The probes are performed by the {@link PresenceDetectionEngine} shared by all presence detections.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -351,62 +318,47 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return CompletableFuture.completedFuture(pdv);
         }
 
-        stopDetection();
-
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
+        final Set<String> arpInterfaceNames = interfaceNames;
+        // the host name resolution may block, so it is not done on the calling thread
+        CompletableFuture<@Nullable InetAddress> destinationFuture = CompletableFuture
+                .supplyAsync(() -> destination.getValue(), engine.getExecutor());
+        return destinationFuture.thenCompose(destinationAddress -> {
+            if (destinationAddress == null) {
+                logger.trace("The destinationAddress for {} is null", hostname);
+                return CompletableFuture.completedFuture(null);
+            }
 
-        List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+            List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
-        for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
-        }
+            for (Integer tcpPort : tcpPorts) {
+                addAsyncDetection(completableFutures, performServicePing(pdv, destinationAddress, tcpPort));
+            }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
-        if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
+            // ARP ping for IPv4 addresses. Use a single probe for the Windows tool and
+            // one probe for each network interface for other tools
+            if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
                 // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
-        } else if (interfaceNames != null) {
-            for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                addAsyncDetection(completableFutures, performArpPing(pdv, destinationAddress, ""));
+            } else if (arpInterfaceNames != null && arpPingMethod.canProceed) {
+                for (final String interfaceName : arpInterfaceNames) {
+                    addAsyncDetection(completableFutures, performArpPing(pdv, destinationAddress, interfaceName));
+                }
             }
-        }
 
-        // ICMP ping
-        if (pingMethod != null) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
-                if (pingMethod == IpPingMethodEnum.JAVA_PING) {
-                    performJavaPing(pdv);
-                } else {
-                    performSystemPing(pdv);
-                }
-            }, detectionExecutorService);
-        }
+            // ICMP ping
+            if (pingMethod != null) {
+                addAsyncDetection(completableFutures,
+                        pingMethod == IpPingMethodEnum.JAVA_PING ? performJavaPing(pdv, destinationAddress)
+                                : performSystemPing(pdv, destinationAddress));
+            }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
             logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
-                }
-            });
-            logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
+            return CompletableFuture.allOf(completableFutures.toArray(CompletableFuture[]::new));
+        }).handle((result, e) -> {
+            if (e != null) {
+                logger.debug("Presence detection for {} failed", hostname, e);
+            }
+            logger.debug("All detection futures for {} have completed", hostname);
 
             if (!pdv.isReachable()) {
                 logger.debug("{} is unreachable, invalidating destination value", hostname);
@@ -416,18 +368,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             logger.debug("Sending listener final result: {}", pdv);
             updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
             detectionChecks = 0;
 
             return pdv;
-        }, waitForResultExecutorService);
+        });
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures,
+            CompletableFuture<Void> detection) {
+        // the probes time out by themselves once they are started, waiting for a free probe thread does not count
+        completableFutures.add(detection.exceptionally(e -> {
+            logger.debug("Detection future failed to complete", e);
+            return null;
+        }));
     }
 
     /**
@@ -471,19 +424,18 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         updateListener.partialDetectionResult(pdv);
     }
 
-    protected void performServicePing(PresenceDetectionValue pdv, int tcpPort) {
+    protected CompletableFuture<Void> performServicePing(PresenceDetectionValue pdv, InetAddress destinationAddress,
+            int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeout);
-                if (pingResult.isSuccess()) {
-                    updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
-                }
-            } catch (IOException e) {
+        return engine.servicePing(destinationAddress, tcpPort, timeout).handle((pingResult, e) -> {
+            if (e != null) {
                 // This should not happen and might be a user configuration issue, we log a warning message therefore.
                 logger.warn("Could not create a socket connection", e);
+            } else if (pingResult != null && pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
             }
+            return null;
         });
     }
 
@@ -493,35 +445,35 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * called before performing the ARP ping.
      *
      * @param pdv the {@link PresenceDetectionValue} to update
+     * @param destinationAddress the address to ping
      * @param interfaceName the interface name. You can request a list of interface names
      *            from {@link NetworkUtils#getInterfaceNames()} for example.
      */
-    protected void performArpPing(PresenceDetectionValue pdv, String interfaceName) {
+    protected CompletableFuture<Void> performArpPing(PresenceDetectionValue pdv, InetAddress destinationAddress,
+            String interfaceName) {
         logger.trace("Perform ARP ping presence detection for {} on interface: {}", hostname, interfaceName);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                if (iosDevice) {
-                    networkUtils.wakeUpIOS(destinationAddress);
-                    Thread.sleep(50);
-                }
-
-                PingResult pingResult = networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
-                        destinationAddress.getHostAddress(), timeout);
-                if (pingResult != null) {
-                    if (pingResult.isSuccess()) {
-                        updateReachable(pdv, ARP_PING, getLatency(pingResult));
-                        lastReachableNetworkInterfaceName = interfaceName;
-                    } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
-                        logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
-                        lastReachableNetworkInterfaceName = "";
-                    }
-                }
-            } catch (IOException e) {
+        String key = "arp " + interfaceName + " " + destinationAddress.getHostAddress() + (iosDevice ? " ios" : "");
+        return engine.probe(key, timeout, () -> {
+            if (iosDevice) {
+                networkUtils.wakeUpIOS(destinationAddress);
+                Thread.sleep(50);
+            }
+            return networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
+                    destinationAddress.getHostAddress(), timeout);
+        }).handle((pingResult, e) -> {
+            if (e != null) {
                 logger.trace("Failed to execute an ARP ping for {}", hostname, e);
-            } catch (InterruptedException ignored) {
-                // This can be ignored, the thread will end anyway
+            } else if (pingResult != null) {
+                if (pingResult.isSuccess()) {
+                    updateReachable(pdv, ARP_PING, getLatency(pingResult));
+                    lastReachableNetworkInterfaceName = interfaceName;
+                } else if (lastReachableNetworkInterfaceName.equals(interfaceName)) {
+                    logger.trace("{} is no longer reachable on network interface: {}", hostname, interfaceName);
+                    lastReachableNetworkInterfaceName = "";
+                }
             }
+            return null;
         });
     }
 
@@ -532,33 +484,31 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      *
      * @see InetAddress#isReachable(int)
      */
-    protected void performJavaPing(PresenceDetectionValue pdv) {
+    protected CompletableFuture<Void> performJavaPing(PresenceDetectionValue pdv, InetAddress destinationAddress) {
         logger.trace("Perform Java ping presence detection for {}", hostname);
 
-        withDestinationAddress(destinationAddress -> {
-            PingResult pingResult = networkUtils.javaPing(timeout, destinationAddress);
-            if (pingResult.isSuccess()) {
-                updateReachable(pdv, ICMP_PING, getLatency(pingResult));
-            }
-        });
+        return engine.probe("java " + destinationAddress.getHostAddress(), timeout,
+                () -> networkUtils.javaPing(timeout, destinationAddress)).thenAccept(pingResult -> {
+                    if (pingResult != null && pingResult.isSuccess()) {
+                        updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                    }
+                });
     }
 
-    protected void performSystemPing(PresenceDetectionValue pdv) {
+    protected CompletableFuture<Void> performSystemPing(PresenceDetectionValue pdv, InetAddress destinationAddress) {
         logger.trace("Perform native ping presence detection for {}", hostname);
 
-        withDestinationAddress(destinationAddress -> {
-            try {
-                PingResult pingResult = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
-                        timeout);
-                if (pingResult != null && pingResult.isSuccess()) {
-                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
-                }
-            } catch (IOException e) {
-                logger.trace("Failed to execute a native ping for {}", hostname, e);
-            } catch (InterruptedException e) {
-                // This can be ignored, the thread will end anyway
-            }
-        });
+        IpPingMethodEnum pingMethod = this.pingMethod;
+        return engine.probe("icmp " + pingMethod + " " + destinationAddress.getHostAddress(), timeout,
+                () -> networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(), timeout))
+                .handle((pingResult, e) -> {
+                    if (e != null) {
+                        logger.trace("Failed to execute a native ping for {}", hostname, e);
+                    } else if (pingResult != null && pingResult.isSuccess()) {
+                        updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                    }
+                    return null;
+                });
     }
 
     private Duration getLatency(PingResult pingResult) {
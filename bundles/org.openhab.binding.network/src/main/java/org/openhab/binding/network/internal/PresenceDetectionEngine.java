@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+import org.openhab.core.common.NamedThreadFactory;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A service performing the probes of all presence detections of the binding.
+ * <p>
+ * Blocking probes, like native ICMP and ARP pings, are run on a shared thread pool with a bounded number of threads.
+ * TCP connection attempts are made with non-blocking sockets by a {@link TcpConnectProber}. Probes requested while
+ * an identical probe with the same timeout is running, e.g. because several things check the same host, share the
+ * running probe.
+ * <p>
+ * The timeout of a probe starts when the probe starts, so probes waiting for a thread of the pool or for a free slot
+ * of the {@link TcpConnectProber}, e.g. behind probes of offline hosts, do not time out before they were even
+ * performed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = PresenceDetectionEngine.class)
+@NonNullByDefault
+public class PresenceDetectionEngine {
+
+    /**
+     * Maximum number of threads running blocking probes
+     */
+    public static final int MAX_PROBE_THREADS = 32;
+
+    /**
+     * Time given to a probe in addition to its own timeout before it is considered failed
+     */
+    static final Duration PROBE_TIMEOUT_MARGIN = Duration.ofSeconds(3);
+
+    private static final String THREAD_NAME = "OH-binding-network-presence";
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(PresenceDetectionEngine.class);
+
+    private final Executor executor;
+    private final TcpConnectProber tcpConnectProber;
+    private final Map<String, CompletableFuture<@Nullable PingResult>> runningProbes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the engine shared by the binding. Threads are only kept while there are probes to perform.
+     */
+    @Activate
+    public PresenceDetectionEngine() {
+        this(createExecutor(), new TcpConnectProber(THREAD_NAME + "-tcp", PROBE_TIMEOUT_MARGIN));
+    }
+
+    PresenceDetectionEngine(Executor executor, TcpConnectProber tcpConnectProber) {
+        this.executor = executor;
+        this.tcpConnectProber = tcpConnectProber;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_PROBE_THREADS, MAX_PROBE_THREADS,
+                IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamedThreadFactory(THREAD_NAME, true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Stops the threads of the engine. Running and queued probes fail.
+     */
+    @Deactivate
+    public void deactivate() {
+        tcpConnectProber.close();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the executor for blocking work which is not a probe, e.g. host name resolution
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Try to establish a TCP connection to the given port.
+     *
+     * @param address the address of the host
+     * @param port the TCP port
+     * @param timeout the timeout before the attempt is aborted
+     * @return a future of the {@link PingResult}
+     */
+    public CompletableFuture<@Nullable PingResult> servicePing(InetAddress address, int port, Duration timeout) {
+        // the prober starts the timeout once the connection attempt is started
+        return coalesce("tcp " + address.getHostAddress() + " " + port, timeout,
+                () -> tcpConnectProber.connect(new InetSocketAddress(address, port), timeout).thenApply(r -> r));
+    }
+
+    /**
+     * Run a blocking probe on the shared thread pool.
+     *
+     * @param key identifies the probe, a probe with the same key and timeout which is still running is used instead
+     * @param timeout the timeout of the probe, the probe fails if it does not complete in time once it is started
+     * @param probe the probe, returning <code>null</code> if it could not be performed
+     * @return a future of the {@link PingResult}
+     */
+    public CompletableFuture<@Nullable PingResult> probe(String key, Duration timeout,
+            Callable<@Nullable PingResult> probe) {
+        return coalesce(key, timeout, () -> {
+            CompletableFuture<@Nullable PingResult> result = new CompletableFuture<>();
+            executor.execute(() -> {
+                result.orTimeout(timeout.plus(PROBE_TIMEOUT_MARGIN).toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    result.complete(probe.call());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        });
+    }
+
+    private CompletableFuture<@Nullable PingResult> coalesce(String probeKey, Duration timeout,
+            Supplier<CompletableFuture<@Nullable PingResult>> probeStarter) {
+        String key = probeKey + " " + timeout.toMillis();
+        CompletableFuture<@Nullable PingResult> result = new CompletableFuture<>();
+        CompletableFuture<@Nullable PingResult> running = runningProbes.putIfAbsent(key, result);
+        if (running != null) {
+            logger.trace("Using the running probe '{}'", key);
+            return running;
+        }
+        probeStarter.get().whenComplete((pingResult, e) -> {
+            // a probe requested from now on needs to be performed again
+            runningProbes.remove(key, result);
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else {
+                result.complete(pingResult);
+            }
+        });
+        return result;
+    }
+}
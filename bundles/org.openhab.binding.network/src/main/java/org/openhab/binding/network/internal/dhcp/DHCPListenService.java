@@ -13,8 +13,13 @@
 package org.openhab.binding.network.internal.dhcp;
 
 import java.net.SocketException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -28,6 +33,7 @@ import org.slf4j.LoggerFactory;
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
  * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * The addresses of the most recent requests are kept, so the discovery can make use of them.
  *
  * @author David Graeff - Initial contribution
  */
@@ -35,6 +41,15 @@ import org.slf4j.LoggerFactory;
 public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
     private static final Map<String, IPRequestReceivedCallback> REGISTERED_LISTENERS = new TreeMap<>();
+    private static final int MAX_RECENT_REQUESTS = 1024;
+    private static final Map<String, Instant> RECENT_REQUESTS = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Instant> eldest) {
+            return size() > MAX_RECENT_REQUESTS;
+        }
+    };
     private static final Logger LOGGER = LoggerFactory.getLogger(DHCPListenService.class);
 
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
@@ -42,6 +57,9 @@ public class DHCPListenService {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer(ipAddress -> {
+                synchronized (RECENT_REQUESTS) {
+                    RECENT_REQUESTS.put(ipAddress, Instant.now());
+                }
                 IPRequestReceivedCallback listener = REGISTERED_LISTENERS.get(ipAddress);
                 if (listener != null) {
                     listener.dhcpRequestReceived(ipAddress);
@@ -72,4 +90,19 @@ public class DHCPListenService {
         }
         DHCPListenService.instance = null;
     }
+
+    /**
+     * Get the addresses requested by DHCP within the given time. Requests are only received while the listener is
+     * running, i.e. while at least one callback is registered.
+     *
+     * @param maxAge the maximum age of the requests
+     * @return the requested IP addresses
+     */
+    public static Set<String> getRecentRequests(Duration maxAge) {
+        Instant oldest = Instant.now().minus(maxAge);
+        synchronized (RECENT_REQUESTS) {
+            return RECENT_REQUESTS.entrySet().stream().filter(e -> e.getValue().isAfter(oldest)).map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+        }
+    }
 }
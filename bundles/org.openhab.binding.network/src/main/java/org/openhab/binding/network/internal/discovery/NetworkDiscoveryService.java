@@ -15,14 +15,15 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,8 +31,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -42,13 +45,16 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It tries common TCP ports to connect to on all hosts at once. Devices are also detected by their DHCP requests, and
+ * the remaining hosts are detected by ICMP and ARP pings. The ARP cache of the operating system, if it can be read,
+ * only narrows down which hosts are pinged.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
@@ -59,22 +65,41 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
+    private static final Duration DHCP_REQUEST_MAX_AGE = Duration.ofMinutes(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
     // TCP port 548 (Apple Filing Protocol (AFP))
     // TCP port 554 (Windows share / Linux samba)
     // TCP port 1025 (Xbox / MS-RPC)
-    private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
+    private static final Set<Integer> TCP_SERVICE_PORTS = Set.of(80, 548, 554, 1025);
+    private Set<Integer> tcpServicePorts = TCP_SERVICE_PORTS;
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private @Nullable SubnetScanner subnetScanner;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
+    private final PresenceDetectionEngine engine;
+    private volatile int scanTimeout;
 
-    public NetworkDiscoveryService() {
+    @Activate
+    public NetworkDiscoveryService(final @Reference PresenceDetectionEngine engine) {
         super(SUPPORTED_THING_TYPES_UIDS,
-                (int) Math.round(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
-                        * (durationToMillis(PING_TIMEOUT) / 1000.0)),
+                estimateScanDuration(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size(),
+                        NetworkBindingConfiguration.DEFAULT_DISCOVERY_SCAN_RATE),
                 false);
+        scanTimeout = super.getScanTimeout();
+        this.engine = engine;
+    }
+
+    /**
+     * Estimates the duration of a scan in s: the connection attempts at the given rate, and pinging all hosts in
+     * case the ARP cache cannot be read.
+     */
+    private static int estimateScanDuration(int ipCount, int scanRate) {
+        double pingTimeout = durationToMillis(PING_TIMEOUT) / 1000.0;
+        double tcpScan = ipCount * TCP_SERVICE_PORTS.size() / (double) Math.max(1, scanRate);
+        // ICMP and ARP ping per host
+        double pings = ipCount * 2 * pingTimeout / PresenceDetectionEngine.MAX_PROBE_THREADS;
+        return (int) Math.ceil(tcpScan + pings + pingTimeout);
     }
 
     @Override
@@ -92,13 +117,21 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        scanTimeout = estimateScanDuration(networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size(),
+                configuration.discoveryScanRate);
+    }
+
+    @Override
+    public int getScanTimeout() {
+        return scanTimeout;
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
+        SubnetScanner scanner = subnetScanner;
+        if (scanner != null) {
+            scanner.cancel();
         }
         super.deactivate();
     }
@@ -121,25 +154,67 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts the scan of each IP on each interface on the network
      */
     @Override
     protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
-        scannedIPcount.set(0);
+        final Set<String> foundIPs = ConcurrentHashMap.newKeySet();
+
+        // Devices which recently requested their address are present
+        for (String ip : DHCPListenService.getRecentRequests(DHCP_REQUEST_MAX_AGE)) {
+            if (networkIPs.contains(ip) && foundIPs.add(ip)) {
+                newPingDevice(ip);
+            }
+        }
 
+        List<InetAddress> hosts = new ArrayList<>();
         for (String ip : networkIPs) {
-            final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
+            try {
+                hosts.add(InetAddress.getByName(ip));
+            } catch (UnknownHostException e) {
+                logger.trace("Skipping invalid address {}", ip);
+            }
+        }
+
+        SubnetScanner scanner = new SubnetScanner(engine, hosts, tcpServicePorts, PING_TIMEOUT,
+                configuration.discoveryScanRate, (address, port) -> {
+                    String ip = address.getHostAddress();
+                    foundIPs.add(ip);
+                    newServiceDevice(ip, port);
+                });
+        synchronized (this) {
+            SubnetScanner previousScanner = subnetScanner;
+            if (previousScanner != null) {
+                previousScanner.cancel();
+            }
+            subnetScanner = scanner;
+        }
+        // a cancelled scan does not continue with the remaining hosts
+        scanner.start(scheduler).thenRunAsync(() -> pingRemainingDevices(networkIPs, foundIPs), scheduler);
+    }
+
+    /**
+     * Pings the devices which have not been found by the TCP scan. If the ARP cache can be read, only the hosts in it
+     * are pinged: the connection attempts made every present device in the local networks answer an ARP request, but
+     * the cache may also hold stale entries of devices which are gone. Otherwise all remaining hosts are pinged.
+     */
+    private void pingRemainingDevices(Set<String> networkIPs, Set<String> foundIPs) {
+        Set<String> arpCacheIPs = networkUtils.getArpCacheIPs();
+        final List<String> remainingIPs = networkIPs.stream()
+                .filter(ip -> !foundIPs.contains(ip) && (arpCacheIPs == null || arpCacheIPs.contains(ip))).toList();
+        if (remainingIPs.isEmpty()) {
+            stopScan();
+            return;
+        }
+        logger.trace("Pinging {} remaining IPs", remainingIPs.size());
+        scannedIPcount.set(0);
+
+        for (String ip : remainingIPs) {
+            final PresenceDetection pd = new PresenceDetection(this, engine, scheduler, Duration.ofSeconds(2));
             pd.setHostname(ip);
             pd.setIOSDevice(true);
             pd.setUseDhcpSniffing(false);
@@ -147,19 +222,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             // Ping devices
             pd.setUseIcmpPing(true);
             pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
+
+            pd.getValue(value -> {
                 int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
+                if (count == remainingIPs.size()) {
+                    logger.trace("Scan of {} IPs successful", networkIPs.size());
                     stopScan();
                 }
             });
@@ -169,18 +236,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
-
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+        SubnetScanner scanner = subnetScanner;
+        if (scanner != null) {
+            scanner.cancel();
+            subnetScanner = null;
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -189,7 +249,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the scan started in {@link #startScan()}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -222,7 +282,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the scan started in {@link #startScan()}.
      *
      * @param ip The device IP
      */
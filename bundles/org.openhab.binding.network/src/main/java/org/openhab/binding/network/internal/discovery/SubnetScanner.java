@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Scans hosts for open TCP ports. The connection attempts are made with non-blocking sockets by the
+ * {@link PresenceDetectionEngine}, so many hosts are probed at once.
+ * <p>
+ * The connection attempts are started at the configured rate, and at most {@link #MAX_RUNNING_PROBES} are in
+ * progress at the same time. A scan can be cancelled at any time.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class SubnetScanner {
+
+    /**
+     * Maximum number of connection attempts in progress
+     */
+    static final int MAX_RUNNING_PROBES = TcpConnectProber.MAX_PENDING_CONNECTS;
+
+    /**
+     * Interval in which connection attempts are started
+     */
+    static final Duration TICK = Duration.ofMillis(100);
+
+    private final Logger logger = LoggerFactory.getLogger(SubnetScanner.class);
+
+    private final PresenceDetectionEngine engine;
+    private final Duration timeout;
+    private final int probesPerTick;
+    private final BiConsumer<InetAddress, Integer> serviceFound;
+
+    private final Queue<Probe> probes = new ArrayDeque<>();
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private int runningProbes;
+    private @Nullable ScheduledFuture<?> job;
+
+    private record Probe(InetAddress address, int port) {
+    }
+
+    /**
+     * @param engine the engine performing the connection attempts
+     * @param hosts the hosts to scan
+     * @param ports the TCP ports to probe on every host
+     * @param timeout the timeout of a connection attempt
+     * @param rate the number of connection attempts started per second
+     * @param serviceFound called with the address and port of every open port found
+     */
+    SubnetScanner(PresenceDetectionEngine engine, Collection<InetAddress> hosts, Set<Integer> ports,
+            Duration timeout, int rate, BiConsumer<InetAddress, Integer> serviceFound) {
+        this.engine = engine;
+        this.timeout = timeout;
+        this.probesPerTick = (int) Math.max(1, rate * TICK.toMillis() / 1000);
+        this.serviceFound = serviceFound;
+        for (InetAddress host : hosts) {
+            for (int port : ports) {
+                probes.add(new Probe(host, port));
+            }
+        }
+    }
+
+    /**
+     * Start the scan.
+     *
+     * @param scheduler the scheduler starting the connection attempts
+     * @return a future completed once all connection attempts are finished, or cancelled if the scan is cancelled
+     */
+    synchronized CompletableFuture<Void> start(ScheduledExecutorService scheduler) {
+        logger.debug("Scanning for {} services, {} connection attempts per {} ms", probes.size(), probesPerTick,
+                TICK.toMillis());
+        job = scheduler.scheduleWithFixedDelay(this::startProbes, 0, TICK.toMillis(), TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    /**
+     * Stop the scan. No further connection attempts are started and no further services are reported.
+     */
+    synchronized void cancel() {
+        if (!result.isDone()) {
+            logger.debug("Scan cancelled, {} connection attempts skipped", probes.size());
+        }
+        probes.clear();
+        result.cancel(false);
+        stop();
+    }
+
+    private synchronized void startProbes() {
+        int started = 0;
+        Probe next;
+        while (started < probesPerTick && runningProbes < MAX_RUNNING_PROBES && (next = probes.poll()) != null) {
+            started++;
+            runningProbes++;
+            final Probe probe = next;
+            engine.servicePing(probe.address(), probe.port(), timeout)
+                    .whenComplete((pingResult, e) -> probeCompleted(probe, pingResult));
+        }
+        if (probes.isEmpty() && runningProbes == 0) {
+            stop();
+        }
+    }
+
+    private void probeCompleted(Probe probe, @Nullable PingResult pingResult) {
+        if (pingResult != null && pingResult.isSuccess() && !result.isDone()) {
+            serviceFound.accept(probe.address(), probe.port());
+        }
+        synchronized (this) {
+            runningProbes--;
+            if (probes.isEmpty() && runningProbes == 0) {
+                stop();
+            }
+        }
+    }
+
+    private void stop() {
+        ScheduledFuture<?> job = this.job;
+        if (job != null) {
+            job.cancel(false);
+            this.job = null;
+        }
+        result.complete(null);
+    }
+}
@@ -28,6 +28,8 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -59,6 +61,12 @@ public class NetworkUtils {
      */
     private static final long NANOS_PER_MILLI = 1000_000L;
 
+    /**
+     * The ARP cache of the Linux kernel.
+     */
+    private static final Path ARP_CACHE = Path.of("/proc/net/arp");
+    private static final int ARP_FLAG_COMPLETE = 0x2;
+
     /**
      * Converts a {@link Duration} to milliseconds.
      * <p>
@@ -204,6 +212,53 @@ public class NetworkUtils {
         return networkIPs;
     }
 
+    /**
+     * Gets the IPv4 addresses which have a resolved entry in the ARP cache of the operating system.
+     * The ARP cache can only be read on Linux.
+     *
+     * @return the IP addresses, or <code>null</code> if the ARP cache cannot be read
+     */
+    public @Nullable Set<String> getArpCacheIPs() {
+        if (!Files.isReadable(ARP_CACHE)) {
+            return null;
+        }
+        try {
+            return parseArpCache(Files.readAllLines(ARP_CACHE));
+        } catch (IOException e) {
+            logger.trace("Could not read the ARP cache", e);
+            return null;
+        }
+    }
+
+    /**
+     * Parses the lines of the Linux ARP cache, e.g.
+     *
+     * <pre>
+     * IP address       HW type     Flags       HW address            Mask     Device
+     * 192.168.0.1      0x1         0x2         00:11:22:33:44:55     *        eth0
+     * </pre>
+     *
+     * @param lines the lines including the header
+     * @return the IP addresses of the complete entries
+     */
+    static Set<String> parseArpCache(List<String> lines) {
+        Set<String> result = new HashSet<>();
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] fields = line.trim().split("\\s+");
+            if (fields.length < 3) {
+                continue;
+            }
+            try {
+                if ((Integer.decode(fields[2]) & ARP_FLAG_COMPLETE) != 0) {
+                    result.add(fields[0]);
+                }
+            } catch (NumberFormatException e) {
+                // not an entry
+            }
+        }
+        return result;
+    }
+
     /**
      * Try to establish a TCP connection to the given port.
      *
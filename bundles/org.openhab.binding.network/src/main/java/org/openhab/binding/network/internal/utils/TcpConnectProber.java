@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.UnresolvedAddressException;
+import java.nio.channels.UnsupportedAddressTypeException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs TCP connection attempts ("service pings") with non-blocking sockets. All connection attempts are handled
+ * by a single selector thread, which is started on demand and ends once there are no more connection attempts.
+ * <p>
+ * At most {@link #MAX_PENDING_CONNECTS} connection attempts are in progress at the same time, further attempts are
+ * queued. The timeout of a connection attempt starts when it is started, not when it is queued.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class TcpConnectProber {
+
+    /**
+     * Maximum number of simultaneous connection attempts, to limit the number of open sockets
+     */
+    public static final int MAX_PENDING_CONNECTS = 256;
+
+    private final Logger logger = LoggerFactory.getLogger(TcpConnectProber.class);
+
+    private final String threadName;
+    private final long timeoutMarginNanos;
+    private final Object lock = new Object();
+    private final Queue<Probe> queuedProbes = new ArrayDeque<>();
+    private @Nullable Selector selector;
+    private boolean closed;
+    // only accessed by the selector thread
+    private int runningProbes;
+
+    private static class Probe {
+        final InetSocketAddress address;
+        final long timeoutNanos;
+        final CompletableFuture<PingResult> result = new CompletableFuture<>();
+        @Nullable
+        SocketChannel channel;
+        long startNanos;
+        long deadlineNanos;
+
+        Probe(InetSocketAddress address, long timeoutNanos) {
+            this.address = address;
+            this.timeoutNanos = timeoutNanos;
+        }
+    }
+
+    /**
+     * @param threadName the name of the selector thread
+     * @param timeoutMargin time given to a started connection attempt in addition to its timeout before its future
+     *            fails with a {@link java.util.concurrent.TimeoutException}, in case the selector thread is stuck
+     */
+    public TcpConnectProber(String threadName, Duration timeoutMargin) {
+        this.threadName = threadName;
+        this.timeoutMarginNanos = timeoutMargin.toNanos();
+    }
+
+    /**
+     * Try to establish a TCP connection to the given address.
+     *
+     * @param address the address and port to connect to
+     * @param timeout the timeout before the attempt is aborted
+     * @return a future of the {@link PingResult}, completed exceptionally if the connection attempt could not be
+     *         made at all
+     */
+    public CompletableFuture<PingResult> connect(InetSocketAddress address, Duration timeout) {
+        Probe probe = new Probe(address, timeout.toNanos());
+        synchronized (lock) {
+            if (closed) {
+                probe.result.completeExceptionally(new IOException("The TCP connection prober is closed"));
+                return probe.result;
+            }
+            Selector selector = this.selector;
+            if (selector != null) {
+                queuedProbes.add(probe);
+                selector.wakeup();
+                return probe.result;
+            }
+            try {
+                selector = Selector.open();
+            } catch (IOException e) {
+                probe.result.completeExceptionally(e);
+                return probe.result;
+            }
+            queuedProbes.add(probe);
+            this.selector = selector;
+            final Selector threadSelector = selector;
+            Thread thread = new Thread(() -> run(threadSelector), threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return probe.result;
+    }
+
+    /**
+     * Fail all queued and running connection attempts and stop the selector thread. Further connection attempts fail.
+     */
+    public void close() {
+        Selector selector;
+        synchronized (lock) {
+            closed = true;
+            selector = this.selector;
+        }
+        if (selector != null) {
+            try {
+                // the selector thread fails the connection attempts once the selector is closed
+                selector.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close selector", e);
+            }
+        }
+    }
+
+    private void run(Selector selector) {
+        PriorityQueue<Probe> pending = new PriorityQueue<>(Comparator.comparingLong(probe -> probe.deadlineNanos));
+        List<Probe> newProbes = new ArrayList<>();
+        try {
+            while (true) {
+                synchronized (lock) {
+                    Probe probe;
+                    while (runningProbes + newProbes.size() < MAX_PENDING_CONNECTS
+                            && (probe = queuedProbes.poll()) != null) {
+                        newProbes.add(probe);
+                    }
+                    if (newProbes.isEmpty() && runningProbes == 0) {
+                        this.selector = null;
+                        return;
+                    }
+                }
+                for (Probe probe : newProbes) {
+                    start(selector, probe, pending);
+                }
+                newProbes.clear();
+
+                Probe next = pending.peek();
+                if (next != null) {
+                    long waitMillis = TimeUnit.NANOSECONDS.toMillis(next.deadlineNanos - System.nanoTime()) + 1;
+                    selector.select(Math.max(1, waitMillis));
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    finishConnect(key);
+                }
+                expire(pending);
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.debug("TCP connection attempts failed: {}", e.getMessage());
+            List<Probe> failed = new ArrayList<>(pending);
+            failed.addAll(newProbes);
+            runningProbes = 0;
+            synchronized (lock) {
+                this.selector = null;
+                failed.addAll(queuedProbes);
+                queuedProbes.clear();
+            }
+            failed.forEach(probe -> fail(probe, e));
+        } finally {
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close selector", e);
+            }
+        }
+    }
+
+    private void start(Selector selector, Probe probe, PriorityQueue<Probe> pending) {
+        probe.startNanos = System.nanoTime();
+        probe.deadlineNanos = probe.startNanos + probe.timeoutNanos;
+        probe.result.orTimeout(probe.timeoutNanos + timeoutMarginNanos, TimeUnit.NANOSECONDS);
+        try {
+            SocketChannel channel = SocketChannel.open();
+            probe.channel = channel;
+            channel.configureBlocking(false);
+            if (channel.connect(probe.address)) {
+                complete(probe, true);
+            } else {
+                channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                pending.add(probe);
+                runningProbes++;
+            }
+        } catch (UnresolvedAddressException | UnsupportedAddressTypeException e) {
+            fail(probe, e);
+        } catch (IOException e) {
+            logger.trace("Could not connect to {}", probe.address, e);
+            complete(probe, false);
+        }
+    }
+
+    private void finishConnect(SelectionKey key) {
+        Probe probe = (Probe) key.attachment();
+        try {
+            if (!((SocketChannel) key.channel()).finishConnect()) {
+                return;
+            }
+            runningProbes--;
+            complete(probe, true);
+        } catch (IOException e) {
+            logger.trace("Could not connect to {}", probe.address, e);
+            runningProbes--;
+            complete(probe, false);
+        }
+    }
+
+    private void expire(PriorityQueue<Probe> pending) {
+        long now = System.nanoTime();
+        Probe probe;
+        while ((probe = pending.peek()) != null && (probe.result.isDone() || probe.deadlineNanos - now <= 0)) {
+            pending.poll();
+            if (!probe.result.isDone()) {
+                logger.trace("Connecting to {} timed out", probe.address);
+                runningProbes--;
+                complete(probe, false);
+            }
+        }
+    }
+
+    private void complete(Probe probe, boolean success) {
+        closeChannel(probe);
+        probe.result.complete(new PingResult(success, Duration.ofNanos(System.nanoTime() - probe.startNanos)));
+    }
+
+    private void fail(Probe probe, Throwable cause) {
+        closeChannel(probe);
+        probe.result.completeExceptionally(cause);
+    }
+
+    private void closeChannel(Probe probe) {
+        SocketChannel channel = probe.channel;
+        if (channel != null) {
+            try {
+                // closing the channel also cancels its selection key
+                channel.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close socket channel", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
+
+/**
+ * Tests cases for {@link PresenceDetectionEngine}. TCP probes are performed against loopback targets.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class PresenceDetectionEngineTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private @NonNullByDefault({}) PresenceDetectionEngine engine;
+    private @NonNullByDefault({}) InetAddress loopback;
+
+    @BeforeEach
+    public void setUp() {
+        engine = new PresenceDetectionEngine(tasks::add,
+                new TcpConnectProber("test-tcp-prober", PresenceDetectionEngine.PROBE_TIMEOUT_MARGIN));
+        loopback = InetAddress.getLoopbackAddress();
+    }
+
+    private @Nullable PingResult get(CompletableFuture<@Nullable PingResult> future) throws Exception {
+        return future.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static int getClosedPort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+    @Test
+    public void servicePingOpenPort() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, loopback)) {
+            PingResult result = get(engine.servicePing(loopback, serverSocket.getLocalPort(), TIMEOUT));
+            assertNotNull(result);
+            assertTrue(result != null && result.isSuccess());
+        }
+    }
+
+    @Test
+    public void servicePingClosedPort() throws Exception {
+        PingResult result = get(engine.servicePing(loopback, getClosedPort(), TIMEOUT));
+        assertNotNull(result);
+        assertFalse(result != null && result.isSuccess());
+    }
+
+    @Test
+    public void servicePingManyProbes() throws Exception {
+        int port = getClosedPort();
+        // more probes than sockets may be opened at once, every probe uses another port to prevent coalescing
+        List<CompletableFuture<@Nullable PingResult>> results = new ArrayList<>();
+        for (int i = 0; i < 2 * TcpConnectProber.MAX_PENDING_CONNECTS; i++) {
+            results.add(engine.servicePing(loopback, port, TIMEOUT));
+            results.add(engine.servicePing(loopback, 1 + (port + i) % 65535, TIMEOUT));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        for (CompletableFuture<@Nullable PingResult> result : results) {
+            assertNotNull(result.join());
+        }
+    }
+
+    @Test
+    public void servicePingFailsAfterDeactivation() throws Exception {
+        engine.deactivate();
+        CompletableFuture<@Nullable PingResult> result = engine.servicePing(loopback, getClosedPort(), TIMEOUT);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> get(result));
+        assertInstanceOf(IOException.class, e.getCause());
+    }
+
+    @Test
+    public void probesOfSameHostAreCoalesced() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+
+        CompletableFuture<@Nullable PingResult> first = engine.probe("icmp 127.0.0.1", TIMEOUT, () -> {
+            probes.incrementAndGet();
+            return pingResult;
+        });
+        CompletableFuture<@Nullable PingResult> second = engine.probe("icmp 127.0.0.1", TIMEOUT, () -> {
+            probes.incrementAndGet();
+            return pingResult;
+        });
+        CompletableFuture<@Nullable PingResult> other = engine.probe("icmp 127.0.0.2", TIMEOUT, () -> {
+            probes.incrementAndGet();
+            return pingResult;
+        });
+        assertEquals(2, tasks.size());
+
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+        assertEquals(2, probes.get());
+        assertSame(pingResult, get(first));
+        assertSame(pingResult, get(second));
+        assertSame(pingResult, get(other));
+
+        // a finished probe is performed again
+        engine.probe("icmp 127.0.0.1", TIMEOUT, () -> {
+            probes.incrementAndGet();
+            return pingResult;
+        });
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void probesWithDifferentTimeoutsAreNotCoalesced() {
+        engine.probe("icmp 127.0.0.1", TIMEOUT, () -> null);
+        engine.probe("icmp 127.0.0.1", TIMEOUT.multipliedBy(2), () -> null);
+        assertEquals(2, tasks.size());
+    }
+
+    @Test
+    public void failedProbeCompletesExceptionally() {
+        CompletableFuture<@Nullable PingResult> result = engine.probe("arp eth0 127.0.0.1", TIMEOUT, () -> {
+            throw new IOException("arping not found");
+        });
+        tasks.remove().run();
+        assertTrue(result.isCompletedExceptionally());
+    }
+}
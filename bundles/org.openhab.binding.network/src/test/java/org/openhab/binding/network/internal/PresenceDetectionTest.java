@@ -20,8 +20,10 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
@@ -38,6 +40,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.binding.network.internal.utils.TcpConnectProber;
 
 /**
  * Tests cases for {@see PresenceDetectionValue}
@@ -52,12 +55,14 @@ public class PresenceDetectionTest {
     private @NonNullByDefault({}) PresenceDetection subject;
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
-    private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
+    private @Mock @NonNullByDefault({}) TcpConnectProber tcpConnectProber;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
 
+    // tasks of the presence detection engine, run by the test
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
     @BeforeEach
     public void setUp() {
         // Mock an interface
@@ -65,7 +70,8 @@ public class PresenceDetectionTest {
         doReturn(ArpPingUtilEnum.IPUTILS_ARPING).when(networkUtils).determineNativeArpPingMethod(anyString());
         doReturn(IpPingMethodEnum.WINDOWS_PING).when(networkUtils).determinePingMethod();
 
-        subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
+        subject = spy(new PresenceDetection(listener, new PresenceDetectionEngine(tasks::add, tcpConnectProber),
+                scheduledExecutorService, Duration.ofSeconds(2)));
         subject.networkUtils = networkUtils;
 
         // Set a useful configuration. The default presenceDetection is a no-op.
@@ -80,68 +86,60 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
-    @Test
-    public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
 
-        doNothing().when(subject).performArpPing(any(), any());
-        doNothing().when(subject).performJavaPing(any());
-        doNothing().when(subject).performSystemPing(any());
-        doNothing().when(subject).performServicePing(any(), anyInt());
+    private void mockPingResults() throws InterruptedException, IOException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
+                anyString(), any(), any());
+        doReturn(CompletableFuture.completedFuture(pingResult)).when(tcpConnectProber).connect(any(), any());
+    }
 
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+    // Depending on the configuration an according amount of checks is performed by the shared engine.
+    // We will check if they are all performed and the detection completes.
+    @Test
+    public void detectionChecksTest() {
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performArpPing(any(), any(), any());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performSystemPing(any(), any());
+        doReturn(CompletableFuture.completedFuture(null)).when(subject).performServicePing(any(), any(), anyInt());
 
         subject.getValue(callback -> {
         });
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Checks: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        // Let the engine resolve the destination and perform the checks
+        runTasks();
 
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+        verify(listener, times(1)).finalDetectionResult(any());
     }
 
     @Test
     public void partialAndFinalCallbackTests() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        mockPingResults();
 
-        subject.performPresenceDetection();
+        CompletableFuture<PresenceDetectionValue> result = subject.performPresenceDetection();
 
         assertThat(subject.detectionChecks, is(3));
 
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        // Perform the host name resolution and the different presence detection probes now
+        runTasks();
 
+        assertTrue(result.isDone());
         assertThat(subject.detectionChecks, is(0));
 
-        verify(subject, times(0)).performJavaPing(any());
-        verify(subject).performSystemPing(any());
-        verify(subject).performArpPing(any(), any());
-        verify(subject).performServicePing(any(), anyInt());
+        verify(subject, times(0)).performJavaPing(any(), any());
+        verify(subject).performSystemPing(any(), any());
+        verify(subject).performArpPing(any(), any(), any());
+        verify(subject).performServicePing(any(), any(), anyInt());
 
         verify(listener, times(3)).partialDetectionResult(any());
         ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
@@ -152,35 +150,18 @@ public class PresenceDetectionTest {
 
     @Test
     public void cacheTest() throws InterruptedException, IOException {
-        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
-        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
-        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
-                anyString(), any(), any());
-        doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
-
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
+        mockPingResults();
 
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
-        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(detectionExecutorService, times(3)).execute(capture.capture());
-        for (Runnable r : capture.getAllValues()) {
-            r.run();
-        }
-
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
+        // Perform the host name resolution and the different presence detection probes now
+        runTasks();
 
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
@@ -30,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
@@ -47,6 +48,7 @@ public class DiscoveryTest {
 
     private @Mock @NonNullByDefault({}) PresenceDetectionValue value;
     private @Mock @NonNullByDefault({}) DiscoveryListener listener;
+    private @Mock @NonNullByDefault({}) PresenceDetectionEngine engine;
 
     @BeforeEach
     public void setUp() {
@@ -58,7 +60,7 @@ public class DiscoveryTest {
 
     @Test
     public void pingDeviceDetected() {
-        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        NetworkDiscoveryService d = new NetworkDiscoveryService(engine);
         d.addDiscoveryListener(listener);
 
         ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
@@ -75,7 +77,7 @@ public class DiscoveryTest {
 
     @Test
     public void tcpDeviceDetected() {
-        NetworkDiscoveryService d = new NetworkDiscoveryService();
+        NetworkDiscoveryService d = new NetworkDiscoveryService(engine);
         d.addDiscoveryListener(listener);
 
         ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
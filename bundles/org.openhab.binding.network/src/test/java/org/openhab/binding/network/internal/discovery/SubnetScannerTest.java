@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
+import org.openhab.binding.network.internal.utils.PingResult;
+
+/**
+ * Tests cases for {@link SubnetScanner}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SubnetScannerTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(500);
+
+    private @Mock @NonNullByDefault({}) PresenceDetectionEngine engine;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> job;
+
+    private final List<CompletableFuture<@Nullable PingResult>> probes = new ArrayList<>();
+    private final List<String> services = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            CompletableFuture<@Nullable PingResult> probe = new CompletableFuture<>();
+            probes.add(probe);
+            return probe;
+        }).when(engine).servicePing(any(), anyInt(), any());
+        doReturn(job).when(scheduler).scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private static List<InetAddress> hosts(int count) throws UnknownHostException {
+        List<InetAddress> hosts = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            hosts.add(InetAddress.getByName("192.168." + (i / 256) + "." + (i % 256)));
+        }
+        return hosts;
+    }
+
+    private Runnable start(SubnetScanner scanner, CompletableFuture<?>[] result) {
+        result[0] = scanner.start(scheduler);
+        ArgumentCaptor<Runnable> tick = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).scheduleWithFixedDelay(tick.capture(), eq(0L), eq(SubnetScanner.TICK.toMillis()),
+                eq(TimeUnit.MILLISECONDS));
+        return tick.getValue();
+    }
+
+    @Test
+    public void probesAreStartedAtTheConfiguredRate() throws Exception {
+        SubnetScanner scanner = new SubnetScanner(engine, hosts(10), Set.of(80, 554), TIMEOUT, 50,
+                (address, port) -> services.add(address.getHostAddress() + ":" + port));
+        CompletableFuture<?>[] result = new CompletableFuture<?>[1];
+        Runnable tick = start(scanner, result);
+
+        // 50 probes per second are 5 probes per tick
+        tick.run();
+        assertEquals(5, probes.size());
+        tick.run();
+        assertEquals(10, probes.size());
+
+        probes.get(0).complete(new PingResult(true, Duration.ofMillis(1)));
+        probes.get(1).complete(new PingResult(false, Duration.ofMillis(1)));
+        assertEquals(1, services.size());
+
+        for (int i = 0; i < 2; i++) {
+            tick.run();
+        }
+        assertEquals(20, probes.size());
+        assertFalse(result[0].isDone());
+
+        probes.forEach(probe -> probe.complete(new PingResult(false, TIMEOUT)));
+        assertTrue(result[0].isDone());
+        assertFalse(result[0].isCancelled());
+        verify(job).cancel(false);
+    }
+
+    @Test
+    public void runningProbesAreBounded() throws Exception {
+        SubnetScanner scanner = new SubnetScanner(engine, hosts(SubnetScanner.MAX_RUNNING_PROBES + 10), Set.of(80),
+                TIMEOUT, 100000, (address, port) -> services.add(address.getHostAddress() + ":" + port));
+        CompletableFuture<?>[] result = new CompletableFuture<?>[1];
+        Runnable tick = start(scanner, result);
+
+        tick.run();
+        assertEquals(SubnetScanner.MAX_RUNNING_PROBES, probes.size());
+        tick.run();
+        assertEquals(SubnetScanner.MAX_RUNNING_PROBES, probes.size());
+
+        probes.get(0).complete(new PingResult(false, TIMEOUT));
+        tick.run();
+        assertEquals(SubnetScanner.MAX_RUNNING_PROBES + 1, probes.size());
+    }
+
+    @Test
+    public void cancelStopsScan() throws Exception {
+        SubnetScanner scanner = new SubnetScanner(engine, hosts(100), Set.of(80), TIMEOUT, 100,
+                (address, port) -> services.add(address.getHostAddress() + ":" + port));
+        CompletableFuture<?>[] result = new CompletableFuture<?>[1];
+        Runnable tick = start(scanner, result);
+
+        tick.run();
+        assertEquals(10, probes.size());
+        scanner.cancel();
+        assertTrue(result[0].isCancelled());
+        verify(job).cancel(false);
+
+        // results of running probes are not reported anymore
+        probes.get(0).complete(new PingResult(true, Duration.ofMillis(1)));
+        tick.run();
+        assertEquals(10, probes.size());
+        assertTrue(services.isEmpty());
+    }
+
+    @Test
+    public void scanLoopback() throws Exception {
+        ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(1);
+        PresenceDetectionEngine engine = new PresenceDetectionEngine();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            int openPort = serverSocket.getLocalPort();
+            int closedPort;
+            try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                closedPort = closed.getLocalPort();
+            }
+            SubnetScanner scanner = new SubnetScanner(engine, List.of(InetAddress.getLoopbackAddress()),
+                    Set.of(openPort, closedPort), TIMEOUT, 1000,
+                    (address, port) -> services.add(address.getHostAddress() + ":" + port));
+            scanner.start(scheduler).get(10, TimeUnit.SECONDS);
+            assertEquals(List.of(InetAddress.getLoopbackAddress().getHostAddress() + ":" + openPort), services);
+        } finally {
+            scheduler.shutdownNow();
+            engine.deactivate();
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.mockito.quality.Strictness;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
 import org.openhab.binding.network.internal.PresenceDetection;
+import org.openhab.binding.network.internal.PresenceDetectionEngine;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.OnOffType;
@@ -62,6 +63,7 @@ public class NetworkHandlerTest extends JavaTest {
     private @Mock @NonNullByDefault({}) ThingHandlerCallback callback;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) Thing thing;
+    private @Mock @NonNullByDefault({}) PresenceDetectionEngine engine;
 
     @BeforeEach
     public void setUp() {
@@ -71,7 +73,7 @@ public class NetworkHandlerTest extends JavaTest {
     @Test
     public void checkAllConfigurations() {
         NetworkBindingConfiguration config = new NetworkBindingConfiguration();
-        NetworkHandler handler = spy(new NetworkHandler(thing, true, config));
+        NetworkHandler handler = spy(new NetworkHandler(thing, true, config, engine));
         handler.setCallback(callback);
         // Provide all possible configuration
         when(thing.getConfiguration()).thenAnswer(a -> {
@@ -84,7 +86,7 @@ public class NetworkHandlerTest extends JavaTest {
             return conf;
         });
         PresenceDetection presenceDetection = spy(
-                new PresenceDetection(handler, scheduledExecutorService, Duration.ofSeconds(2)));
+                new PresenceDetection(handler, engine, scheduledExecutorService, Duration.ofSeconds(2)));
         // Mock start/stop automatic refresh
         doNothing().when(presenceDetection).startAutomaticRefresh();
         doNothing().when(presenceDetection).stopAutomaticRefresh();
@@ -100,7 +102,7 @@ public class NetworkHandlerTest extends JavaTest {
     @Test
     public void tcpDeviceInitTests() {
         NetworkBindingConfiguration config = new NetworkBindingConfiguration();
-        NetworkHandler handler = spy(new NetworkHandler(thing, true, config));
+        NetworkHandler handler = spy(new NetworkHandler(thing, true, config, engine));
         assertThat(handler.isTCPServiceDevice(), is(true));
         handler.setCallback(callback);
         // Port is missing, should make the device OFFLINE
@@ -109,7 +111,7 @@ public class NetworkHandlerTest extends JavaTest {
             conf.put(NetworkBindingConstants.PARAMETER_HOSTNAME, "127.0.0.1");
             return conf;
         });
-        handler.initialize(new PresenceDetection(handler, scheduledExecutorService, Duration.ofSeconds(2)));
+        handler.initialize(new PresenceDetection(handler, engine, scheduledExecutorService, Duration.ofSeconds(2)));
         // Check that we are offline
         ArgumentCaptor<ThingStatusInfo> statusInfoCaptor = ArgumentCaptor.forClass(ThingStatusInfo.class);
         verify(callback).statusUpdated(eq(thing), statusInfoCaptor.capture());
@@ -120,7 +122,7 @@ public class NetworkHandlerTest extends JavaTest {
     @Test
     public void pingDeviceInitTests() {
         NetworkBindingConfiguration config = new NetworkBindingConfiguration();
-        NetworkHandler handler = spy(new NetworkHandler(thing, false, config));
+        NetworkHandler handler = spy(new NetworkHandler(thing, false, config, engine));
         handler.setCallback(callback);
         // Provide minimal configuration
         when(thing.getConfiguration()).thenAnswer(a -> {
@@ -129,7 +131,7 @@ public class NetworkHandlerTest extends JavaTest {
             return conf;
         });
         PresenceDetection presenceDetection = spy(
-                new PresenceDetection(handler, scheduledExecutorService, Duration.ofSeconds(2)));
+                new PresenceDetection(handler, engine, scheduledExecutorService, Duration.ofSeconds(2)));
         // Mock start/stop automatic refresh
         doNothing().when(presenceDetection).startAutomaticRefresh();
         doNothing().when(presenceDetection).stopAutomaticRefresh();
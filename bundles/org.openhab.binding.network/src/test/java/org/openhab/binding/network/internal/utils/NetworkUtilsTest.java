@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link NetworkUtils}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkUtilsTest {
+
+    @Test
+    public void parseArpCache() {
+        List<String> lines = List.of(
+                "IP address       HW type     Flags       HW address            Mask     Device",
+                "192.168.0.1      0x1         0x2         00:11:22:33:44:55     *        eth0",
+                "192.168.0.17     0x1         0x0         00:00:00:00:00:00     *        eth0",
+                "192.168.0.23     0x1         0x6         00:11:22:33:44:66     *        eth0");
+
+        assertEquals(Set.of("192.168.0.1", "192.168.0.23"), NetworkUtils.parseArpCache(lines));
+    }
+
+    @Test
+    public void parseEmptyArpCache() {
+        assertEquals(Set.of(), NetworkUtils.parseArpCache(List.of()));
+        assertEquals(Set.of(), NetworkUtils.parseArpCache(
+                List.of("IP address       HW type     Flags       HW address            Mask     Device")));
+    }
+}
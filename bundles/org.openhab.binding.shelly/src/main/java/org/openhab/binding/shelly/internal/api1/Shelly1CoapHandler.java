@@ -275,6 +275,7 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
 
             // If we received a CoAP message successful the thing must be online
             thingHandler.setThingOnline();
+            thingHandler.pushUpdateReceived();
 
             // The device changes the serial on every update, receiving a message with the same serial is a
             // duplicate, excep for battery devices! Those reset the serial every time when they wake-up
@@ -490,6 +491,7 @@ public class Shelly1CoapHandler implements Shelly1CoapListener {
             }
             if (updated > 0) {
                 logger.debug("{}: {} channels updated from CoIoT status, serial={}", thingName, updated, serial);
+                thingHandler.pushedChannelsUpdated();
                 if (profile.isSensor || profile.isRoller) {
                     // CoAP is currently lacking the lastUpdate info, so we use host timestamp
                     thingHandler.updateChannel(profile.getControlGroup(0), CHANNEL_LAST_UPDATE, getTimestamp());
@@ -105,6 +105,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     protected boolean initialized = false;
     private boolean discovery = false;
     private Shelly2RpcSocket rpcSocket = new Shelly2RpcSocket();
+    private final Shelly2RpcDecoder decoder = new Shelly2RpcDecoder(gson);
     private @Nullable Shelly2AuthChallenge authInfo;
 
     /**
@@ -573,7 +574,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
 
     @Override
     public void onNotifyStatus(Shelly2RpcNotifyStatus message) {
-        logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}: NotifyStatus update received: {}", thingName, gson.toJson(message));
+        }
         try {
             ShellyThingInterface t = thing;
             if (t == null) {
@@ -611,6 +614,10 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
                 if (getThing().getThingStatusDetail() != ThingStatusDetail.FIRMWARE_UPDATING) {
                     getThing().setThingOnline();
                 }
+                if (message.result == null) {
+                    // responses to our own requests carry a result, only notifications sent by the device are pushes
+                    getThing().pushUpdateReceived();
+                }
 
                 boolean updated = false;
                 ShellyDeviceProfile profile = getProfile();
@@ -647,7 +654,9 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
     @Override
     public void onNotifyEvent(Shelly2RpcNotifyEvent message) {
         try {
-            logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            if (logger.isDebugEnabled()) {
+                logger.debug("{}: NotifyEvent  received: {}", thingName, gson.toJson(message));
+            }
             ShellyDeviceProfile profile = getProfile();
 
             getThing().incProtMessages();
@@ -1238,20 +1247,14 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
                 throw e;
             }
         }
-        Shelly2RpcBaseMessage response = gson.fromJson(json, Shelly2RpcBaseMessage.class);
-        if (response == null) {
-            throw new ShellyApiException("Unable to convert API result to object");
-        }
-        if (response.result != null) {
-            // return sub element result as requested class type
-            json = gson.toJson(response.result);
-            boolean isString = response.result instanceof String;
-            return fromJson(gson, isString && "null".equalsIgnoreCase(((String) response.result)) ? "{}" : json,
-                    classOfT);
+        // return sub element result as requested class type
+        @Nullable
+        T result = decoder.decodeResult(json, classOfT);
+        if (result != null) {
+            return result;
         } else {
             // return direct format
-            @Nullable
-            T result = gson.fromJson(json, classOfT == String.class ? Shelly2RpcBaseMessage.class : classOfT);
+            result = gson.fromJson(json, classOfT == String.class ? Shelly2RpcBaseMessage.class : classOfT);
             if (result == null) {
                 throw new ShellyApiException("Unable to convert API result to object");
             }
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api2;
+
+import static org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.shelly.internal.api.ShellyApiException;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2NotifyEventData;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage.Shelly2RpcMessageError;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus.Shelly2NotifyStatus;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The {@link Shelly2RpcDecoder} decodes Gen2 RPC messages in a single pass. The payload of a message is deserialized
+ * straight into the DTO while reading the envelope, rather than converting it back to JSON and parsing it again.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Shelly2RpcDecoder {
+    private final Gson gson;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Shelly2NotifyStatus> statusAdapter;
+    private final TypeAdapter<Shelly2NotifyEventData> eventAdapter;
+    private final TypeAdapter<Shelly2RpcMessageError> errorAdapter;
+
+    public Shelly2RpcDecoder(Gson gson) {
+        this.gson = gson;
+        integerAdapter = gson.getAdapter(Integer.class);
+        stringAdapter = gson.getAdapter(String.class);
+        statusAdapter = gson.getAdapter(Shelly2NotifyStatus.class);
+        eventAdapter = gson.getAdapter(Shelly2NotifyEventData.class);
+        errorAdapter = gson.getAdapter(Shelly2RpcMessageError.class);
+    }
+
+    /**
+     * Decode the result of a RPC response
+     *
+     * @param json the response
+     * @param classOfT the class of the result, String returns the JSON of the result
+     * @return the result, or null if the response has no result
+     */
+    public <T> @Nullable T decodeResult(String json, Class<T> classOfT) throws ShellyApiException {
+        try (JsonReader reader = createReader(json)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!"result".equals(reader.nextName()) || reader.peek() == JsonToken.NULL) {
+                    reader.skipValue();
+                    continue;
+                }
+                if (classOfT == String.class) {
+                    JsonElement result = JsonParser.parseReader(reader);
+                    return classOfT.cast(isNullString(result) ? "{}" : result.toString());
+                } else if (reader.peek() == JsonToken.STRING) {
+                    String result = reader.nextString();
+                    return "null".equalsIgnoreCase(result) ? gson.fromJson("{}", classOfT)
+                            : gson.fromJson(gson.toJsonTree(result), classOfT);
+                }
+                T result = gson.getAdapter(classOfT).read(reader);
+                if (result == null) {
+                    throw new ShellyApiException("Unable to convert API result to object");
+                }
+                return result;
+            }
+            return null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new ShellyApiException("Unable to convert API result to object: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Decode an inbound RPC message. The payload of status and event notifications is deserialized into
+     * {@link Shelly2NotifyStatus} or {@link Shelly2NotifyEventData}, other payloads, including the result of responses,
+     * are kept as {@link JsonElement}. This requires the method to be sent before the payload, which the devices do.
+     *
+     * @param json the message
+     * @return the message
+     */
+    public Shelly2RpcBaseMessage decodeMessage(String json) throws ShellyApiException {
+        try (JsonReader reader = createReader(json)) {
+            Shelly2RpcBaseMessage message = new Shelly2RpcBaseMessage();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id":
+                        message.id = integerAdapter.read(reader);
+                        break;
+                    case "src":
+                        message.src = stringAdapter.read(reader);
+                        break;
+                    case "dst":
+                        message.dst = stringAdapter.read(reader);
+                        break;
+                    case "component":
+                        message.component = stringAdapter.read(reader);
+                        break;
+                    case "method":
+                        message.method = stringAdapter.read(reader);
+                        break;
+                    case "event":
+                        message.event = stringAdapter.read(reader);
+                        break;
+                    case "params":
+                        message.params = readPayload(reader, message.method);
+                        break;
+                    case "result":
+                        message.result = readPayload(reader, message.method);
+                        break;
+                    case "error":
+                        message.error = errorAdapter.read(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return message;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new ShellyApiException("Unable to decode Rpc message: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Get a status notification from a message decoded by {@link #decodeMessage}
+     */
+    public Shelly2RpcNotifyStatus toNotifyStatus(Shelly2RpcBaseMessage message) {
+        Shelly2RpcNotifyStatus status = new Shelly2RpcNotifyStatus();
+        status.id = message.id;
+        status.src = message.src;
+        status.dst = message.dst;
+        status.method = message.method;
+        status.result = toStatus(message.result);
+        Shelly2NotifyStatus params = toStatus(message.params);
+        status.params = params != null ? params : status.result;
+        status.error = message.error;
+        return status;
+    }
+
+    /**
+     * Get an event notification from a message decoded by {@link #decodeMessage}
+     */
+    public Shelly2RpcNotifyEvent toNotifyEvent(Shelly2RpcBaseMessage message) {
+        Shelly2RpcNotifyEvent events = new Shelly2RpcNotifyEvent();
+        events.src = message.src;
+        Object params = message.params;
+        if (params instanceof Shelly2NotifyEventData data) {
+            events.params = data;
+        } else if (params instanceof JsonElement element) {
+            events.params = gson.fromJson(element, Shelly2NotifyEventData.class);
+        }
+        return events;
+    }
+
+    private @Nullable Object readPayload(JsonReader reader, @Nullable String method) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT && method != null) {
+            switch (method) {
+                case SHELLYRPC_METHOD_NOTIFYSTATUS:
+                case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
+                    return statusAdapter.read(reader);
+                case SHELLYRPC_METHOD_NOTIFYEVENT:
+                    return eventAdapter.read(reader);
+            }
+        }
+        return JsonParser.parseReader(reader);
+    }
+
+    private @Nullable Shelly2NotifyStatus toStatus(@Nullable Object payload) {
+        if (payload instanceof Shelly2NotifyStatus status) {
+            return status;
+        } else if (payload instanceof JsonElement element && element.isJsonObject()) {
+            // a response, or the method was sent after the payload
+            return gson.fromJson(element, Shelly2NotifyStatus.class);
+        }
+        return null;
+    }
+
+    private static boolean isNullString(JsonElement element) {
+        return element.isJsonPrimitive() && element.getAsJsonPrimitive().isString()
+                && "null".equalsIgnoreCase(element.getAsString());
+    }
+
+    private static JsonReader createReader(String json) {
+        JsonReader reader = new JsonReader(new StringReader(json));
+        reader.setLenient(true);
+        return reader;
+    }
+}
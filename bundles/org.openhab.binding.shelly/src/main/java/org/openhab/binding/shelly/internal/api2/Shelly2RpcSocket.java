@@ -36,7 +36,6 @@ import org.openhab.binding.shelly.internal.api.ShellyApiException;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2NotifyEvent;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage;
 import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
-import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
 import org.openhab.binding.shelly.internal.handler.ShellyBluSensorHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyThingInterface;
 import org.openhab.binding.shelly.internal.handler.ShellyThingTable;
@@ -44,6 +43,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 
 /**
  * @author Markus Michels - Initial contribution
@@ -52,7 +52,7 @@ import com.google.gson.Gson;
 @WebSocket(maxIdleTime = Integer.MAX_VALUE)
 public class Shelly2RpcSocket {
     private final Logger logger = LoggerFactory.getLogger(Shelly2RpcSocket.class);
-    private final Gson gson = new Gson();
+    private final Shelly2RpcDecoder decoder = new Shelly2RpcDecoder(new Gson());
 
     private String thingName = "";
     private String deviceIp = "";
@@ -234,27 +234,23 @@ public class Shelly2RpcSocket {
     public void onText(Session session, String receivedMessage) {
         try {
             Shelly2RpctInterface handler = websocketHandler;
-            Shelly2RpcBaseMessage message = fromJson(gson, receivedMessage, Shelly2RpcBaseMessage.class);
+            Shelly2RpcBaseMessage message = decoder.decodeMessage(receivedMessage);
             logger.trace("{}: Inbound Rpc message: {}", thingName, receivedMessage);
             if (handler != null) {
                 if (thingName.isEmpty()) {
                     thingName = getString(message.src);
                 }
-                if (message.method == null) {
+                if (message.method == null && (message.error != null || message.result instanceof JsonObject)) {
+                    // response to the asynchronous status request
                     message.method = SHELLYRPC_METHOD_NOTIFYFULLSTATUS;
                 }
                 switch (getString(message.method)) {
                     case SHELLYRPC_METHOD_NOTIFYSTATUS:
                     case SHELLYRPC_METHOD_NOTIFYFULLSTATUS:
-                        Shelly2RpcNotifyStatus status = fromJson(gson, receivedMessage, Shelly2RpcNotifyStatus.class);
-                        if (status.params == null) {
-                            status.params = status.result;
-                        }
-                        handler.onNotifyStatus(status);
+                        handler.onNotifyStatus(decoder.toNotifyStatus(message));
                         return;
                     case SHELLYRPC_METHOD_NOTIFYEVENT:
-                        Shelly2RpcNotifyEvent events = fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class);
-                        events.src = message.src;
+                        Shelly2RpcNotifyEvent events = decoder.toNotifyEvent(message);
                         if (events.params == null || events.params.events == null) {
                             logger.debug("{}: Malformed event data: {}", thingName, receivedMessage);
                         } else {
@@ -267,8 +263,7 @@ public class Shelly2RpcSocket {
                                         ShellyThingInterface thing = thingTable.getThing(address);
                                         Shelly2ApiRpc api = (Shelly2ApiRpc) thing.getApi();
                                         handler = api.getRpcHandler();
-                                        handler.onNotifyEvent(
-                                                fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
+                                        handler.onNotifyEvent(events);
                                     } else {
                                         // new device
                                         if (SHELLY2_EVENT_BLUSCAN.equals(e.event)) {
@@ -279,7 +274,7 @@ public class Shelly2RpcSocket {
                                         }
                                     }
                                 } else {
-                                    handler.onNotifyEvent(fromJson(gson, receivedMessage, Shelly2RpcNotifyEvent.class));
+                                    handler.onNotifyEvent(events);
                                 }
                             }
                         }
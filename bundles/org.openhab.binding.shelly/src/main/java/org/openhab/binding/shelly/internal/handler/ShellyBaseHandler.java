@@ -23,6 +23,7 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -56,6 +57,7 @@ import org.openhab.binding.shelly.internal.discovery.ShellyThingCreator;
 import org.openhab.binding.shelly.internal.provider.ShellyChannelDefinitions;
 import org.openhab.binding.shelly.internal.provider.ShellyTranslationProvider;
 import org.openhab.binding.shelly.internal.util.ShellyChannelCache;
+import org.openhab.binding.shelly.internal.util.ShellyStatusDiff;
 import org.openhab.binding.shelly.internal.util.ShellyVersionDTO;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.openhab.core.library.types.DecimalType;
@@ -124,6 +126,9 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     protected int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
+    private long lastStatusPoll = now();
+    private long lastPushUpdate = 0;
+    private final ShellyStatusDiff statusDiff = new ShellyStatusDiff();
     private boolean refreshSettings = false;
     private @Nullable ScheduledFuture<?> statusJob;
     private @Nullable ScheduledFuture<?> initJob;
@@ -292,6 +297,7 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         lastWakeupReason = "";
         cache.setThingName(thingName);
         cache.clear();
+        statusDiff.reset();
         resetStats();
 
         profile.initFromThingType(thingType);
@@ -550,7 +556,10 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
 
             skipUpdate++;
             ThingStatus thingStatus = getThing().getStatus();
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            if (refreshSettings || (scheduledUpdates > 0) || isStatusPollDue()) {
+                lastStatusPoll = now();
+                // requested updates might follow a command, the result must be mapped even if it didn't change
+                boolean forceMapping = refreshSettings || (scheduledUpdates > 0) || !channelsCreated;
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (getThingStatusDetail() == ThingStatusDetail.CONFIGURATION_PENDING)) {
                     logger.debug("{}: Status update triggered thing initialization", thingName);
@@ -573,14 +582,22 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
                     setThingOnline();
                 }
 
-                // map status to channels
+                // map status to channels, components are only mapped when their status changed
+                Set<String> changed = statusDiff.update(status.json);
+                boolean mapComponents = changed == null || !changed.isEmpty() || forceMapping || restarted;
                 updateChannel(CHANNEL_GROUP_DEV_STATUS, CHANNEL_DEVST_NAME, getStringType(profile.settings.name));
-                updated |= this.updateDeviceStatus(status);
+                if (mapComponents) {
+                    updated |= this.updateDeviceStatus(status);
+                }
                 updated |= ShellyComponents.updateDeviceStatus(this, status);
                 fillDeviceStatus(status, updated);
-                updated |= updateInputs(status);
-                updated |= updateMeters(this, status);
-                updated |= updateSensors(this, status);
+                if (mapComponents) {
+                    updated |= updateInputs(status);
+                    updated |= updateMeters(this, status);
+                    updated |= updateSensors(this, status);
+                } else {
+                    logger.trace("{}: Status of the components is unchanged", thingName);
+                }
 
                 // All channels must be created after the first cycle
                 channelsCreated = true;
@@ -603,6 +620,34 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
         }
     }
 
+    /**
+     * Check if the status needs to be polled. While the device pushes its status (CoIoT or WebSocket) the poll is only
+     * a rare consistency check.
+     */
+    private boolean isStatusPollDue() {
+        long interval = skipCount * UPDATE_STATUS_INTERVAL_SECONDS;
+        if (isPushActive()) {
+            interval *= UPDATE_PUSH_POLL_FACTOR;
+        }
+        return now() - lastStatusPoll >= interval;
+    }
+
+    private boolean isPushActive() {
+        // the device sends its status at least once per update period, fall back to polling if it stops
+        return lastPushUpdate > 0 && now() - lastPushUpdate <= profile.updatePeriod;
+    }
+
+    @Override
+    public void pushUpdateReceived() {
+        lastPushUpdate = now();
+    }
+
+    @Override
+    public void pushedChannelsUpdated() {
+        // the channels now show pushed values rather than the last poll, so the next poll has to map all of them
+        statusDiff.reset();
+    }
+
     private void checkRangeExtender(ShellyDeviceProfile prf) {
         if (getBool(prf.settings.rangeExtender) && config.enableRangeExtender && prf.status.rangeExtender != null
                 && prf.status.rangeExtender.apClients != null) {
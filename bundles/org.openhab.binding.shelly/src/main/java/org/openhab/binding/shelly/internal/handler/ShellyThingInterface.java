@@ -70,6 +70,10 @@ public interface ShellyThingInterface {
 
     void triggerUpdateFromCoap();
 
+    void pushUpdateReceived();
+
+    void pushedChannelsUpdated();
+
     void reinitializeThing();
 
     void restartWatchdog();
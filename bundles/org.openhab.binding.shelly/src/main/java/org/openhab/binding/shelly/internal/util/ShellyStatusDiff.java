@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.util;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link ShellyStatusDiff} compares the status documents of a device with the previous one to find the components
+ * that changed, so the channels of unchanged components don't need to be mapped again.
+ *
+ * The result only decides whether the whole status of a device is mapped, not which fields are. It is based on the
+ * JSON document returned by the Gen1 API, which is parsed again for the comparison. Gen2 devices don't provide this
+ * document, so their status is always mapped.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyStatusDiff {
+    // Elements which change with every status, but are not part of a component
+    private static final Set<String> VOLATILE_ELEMENTS = Set.of("time", "unixtime", "serial", "uptime", "ram_free",
+            "fs_free", "wifi_sta");
+
+    private @Nullable JsonObject lastStatus;
+
+    /**
+     * Compare a status with the previous status and remember it for the next comparison.
+     *
+     * @param json the status document, may be null or empty if the API doesn't provide it
+     * @return the names of the changed elements, null if it is unknown what changed
+     */
+    public synchronized @Nullable Set<String> update(@Nullable String json) {
+        JsonObject status;
+        try {
+            JsonElement element = json == null || json.isEmpty() ? null : JsonParser.parseString(json);
+            status = element != null && element.isJsonObject() ? element.getAsJsonObject() : null;
+        } catch (JsonParseException e) {
+            status = null;
+        }
+        JsonObject last = lastStatus;
+        lastStatus = status;
+        if (status == null || last == null) {
+            return null;
+        }
+
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, JsonElement> entry : status.entrySet()) {
+            String key = entry.getKey();
+            if (!VOLATILE_ELEMENTS.contains(key) && !entry.getValue().equals(last.get(key))) {
+                changed.add(key);
+            }
+        }
+        for (String key : last.keySet()) {
+            if (!VOLATILE_ELEMENTS.contains(key) && !status.has(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    public synchronized void reset() {
+        lastStatus = null;
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.api2;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.shelly.internal.api.ShellyApiException;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2DeviceStatus.Shelly2DeviceStatusResult;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcBaseMessage;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyEvent;
+import org.openhab.binding.shelly.internal.api2.Shelly2ApiJsonDTO.Shelly2RpcNotifyStatus;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Tests for {@link Shelly2RpcDecoder}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class Shelly2RpcDecoderTest {
+    private final Shelly2RpcDecoder decoder = new Shelly2RpcDecoder(new Gson());
+
+    @Test
+    void decodeResult() throws ShellyApiException {
+        Shelly2DeviceStatusResult result = Objects.requireNonNull(decoder.decodeResult(
+                "{\"id\":1,\"src\":\"shellyplus1pm\",\"result\":{\"switch:0\":{\"id\":0,\"output\":true,"
+                        + "\"apower\":12.5}}}",
+                Shelly2DeviceStatusResult.class));
+        assertThat(result.switch0.output, is(true));
+        assertThat(result.switch0.apower, is(12.5));
+    }
+
+    @Test
+    void decodeResultAsString() throws ShellyApiException {
+        assertThat(decoder.decodeResult("{\"id\":1,\"result\":{\"was_on\":false}}", String.class),
+                is("{\"was_on\":false}"));
+        assertThat(decoder.decodeResult("{\"id\":1,\"result\":\"null\"}", String.class), is("{}"));
+    }
+
+    @Test
+    void decodeResultWithoutResult() throws ShellyApiException {
+        assertThat(decoder.decodeResult("{\"id\":1,\"error\":{\"code\":-103,\"message\":\"invalid\"}}",
+                Shelly2DeviceStatusResult.class), is(nullValue()));
+    }
+
+    @Test
+    void decodeNotifyStatus() throws ShellyApiException {
+        Shelly2RpcBaseMessage message = decoder.decodeMessage(
+                "{\"src\":\"shellyplus1pm\",\"dst\":\"openhab\",\"method\":\"NotifyStatus\",\"params\":{\"ts\":1.5,"
+                        + "\"switch:0\":{\"id\":0,\"apower\":7.25}}}");
+        assertThat(message.method, is(SHELLYRPC_METHOD_NOTIFYSTATUS));
+
+        Shelly2RpcNotifyStatus status = decoder.toNotifyStatus(message);
+        assertThat(status.src, is("shellyplus1pm"));
+        assertThat(status.params.ts, is(1.5));
+        assertThat(status.params.switch0.apower, is(7.25));
+        // only the changed components are set
+        assertThat(status.params.switch0.output, is(nullValue()));
+        assertThat(status.params.sys, is(nullValue()));
+    }
+
+    @Test
+    void decodeStatusResponse() throws ShellyApiException {
+        Shelly2RpcBaseMessage message = decoder
+                .decodeMessage("{\"id\":3,\"src\":\"shellyplus1pm\",\"result\":{\"switch:0\":{\"output\":true}}}");
+        assertThat(message.method, is(nullValue()));
+        // the result of a response is only decoded as status when it is handled as such
+        assertThat(message.result, is(instanceOf(JsonObject.class)));
+
+        Shelly2RpcNotifyStatus status = decoder.toNotifyStatus(message);
+        assertThat(status.params.switch0.output, is(true));
+    }
+
+    @Test
+    void decodeNotifyEvent() throws ShellyApiException {
+        Shelly2RpcBaseMessage message = decoder.decodeMessage("{\"src\":\"shellyplus1pm\",\"method\":\"NotifyEvent\","
+                + "\"params\":{\"ts\":2.0,\"events\":[{\"component\":\"input:0\",\"id\":0,"
+                + "\"event\":\"single_push\"}]}}");
+
+        Shelly2RpcNotifyEvent events = decoder.toNotifyEvent(message);
+        assertThat(events.src, is("shellyplus1pm"));
+        assertThat(events.params.events.size(), is(1));
+        assertThat(events.params.events.get(0).event, is(SHELLY2_EVENT_1PUSH));
+    }
+
+    @Test
+    void decodeMessageWithMethodAfterPayload() throws ShellyApiException {
+        Shelly2RpcBaseMessage message = decoder.decodeMessage(
+                "{\"params\":{\"switch:0\":{\"id\":0,\"apower\":3.0}},\"method\":\"NotifyStatus\",\"src\":\"shelly\"}");
+
+        Shelly2RpcNotifyStatus status = decoder.toNotifyStatus(message);
+        assertThat(status.params.switch0.apower, is(3.0));
+    }
+}
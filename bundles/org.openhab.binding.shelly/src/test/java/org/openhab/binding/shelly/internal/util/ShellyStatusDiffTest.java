@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.util;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ShellyStatusDiff}.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyStatusDiffTest {
+    private final ShellyStatusDiff diff = new ShellyStatusDiff();
+
+    @Test
+    void unknownWithoutPreviousStatus() {
+        assertThat(diff.update("{\"relays\":[{\"ison\":true}]}"), is(nullValue()));
+        assertThat(diff.update(""), is(nullValue()));
+        assertThat(diff.update("{\"relays\":[{\"ison\":true}]}"), is(nullValue()));
+    }
+
+    @Test
+    void volatileElementsAreIgnored() {
+        diff.update("{\"uptime\":100,\"time\":\"10:00\",\"wifi_sta\":{\"rssi\":-60},\"relays\":[{\"ison\":true}]}");
+        assertThat(diff.update(
+                "{\"uptime\":103,\"time\":\"10:01\",\"wifi_sta\":{\"rssi\":-62},\"relays\":[{\"ison\":true}]}"),
+                is(Set.of()));
+    }
+
+    @Test
+    void changedComponentsAreReported() {
+        diff.update("{\"relays\":[{\"ison\":true}],\"meters\":[{\"power\":10.0}],\"tmp\":{\"tC\":20.0}}");
+        assertThat(diff.update("{\"relays\":[{\"ison\":true}],\"meters\":[{\"power\":12.5}]}"),
+                is(Set.of("meters", "tmp")));
+    }
+
+    @Test
+    void resetForgetsPreviousStatus() {
+        diff.update("{\"relays\":[{\"ison\":true}]}");
+        diff.reset();
+        assertThat(diff.update("{\"relays\":[{\"ison\":true}]}"), is(nullValue()));
+    }
+}
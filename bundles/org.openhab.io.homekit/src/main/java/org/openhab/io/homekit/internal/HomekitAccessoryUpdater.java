@@ -12,11 +12,21 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -25,6 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
 
 /**
  * Subscribes and unsubscribes from Item changes to enable notification to HomeKit
@@ -32,11 +43,44 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * If a minimum event interval is set, change events of a characteristic are not sent more often than that. Changes
+ * within the interval are coalesced into a single event sent at its end, carrying the latest state of the item.
+ * Coalesced events due at the same time are sent as one batch to each connection.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, StateChangeListener> subscriptionsByName = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = ThreadPoolManager
+            .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
+
+    /**
+     * Subscriptions with a coalesced event waiting to be sent, along with the time the event is due
+     */
+    private final Map<CoalescingSubscription, Long> pendingEvents = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private volatile long minimumEventIntervalNanos;
+    private volatile @Nullable HomekitRoot bridge;
+
+    /**
+     * Set the minimum interval between two change events of the same characteristic
+     *
+     * @param millis minimum interval in milliseconds, 0 to send every change immediately
+     */
+    public void setMinimumEventInterval(long millis) {
+        minimumEventIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        if (millis <= 0) {
+            flushEvents(true);
+        }
+    }
+
+    /**
+     * Set the bridge used to batch coalesced events
+     */
+    public void setBridge(@Nullable HomekitRoot bridge) {
+        this.bridge = bridge;
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -58,7 +102,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new CoalescingSubscription(callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -97,10 +141,95 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            if (v instanceof CoalescingSubscription) {
+                synchronized (pendingEvents) {
+                    pendingEvents.remove(v);
+                }
+            }
             return null;
         });
     }
 
+    private void characteristicChanged(CoalescingSubscription subscription) {
+        final long interval = minimumEventIntervalNanos;
+        if (interval <= 0) {
+            subscription.callback.changed();
+            return;
+        }
+        synchronized (pendingEvents) {
+            if (pendingEvents.containsKey(subscription)) {
+                // the pending event reads the state when it is sent, so it will carry this change too
+                return;
+            }
+            final long now = System.nanoTime();
+            if (subscription.hasSentEvent && now - subscription.lastEventNanos < interval) {
+                final long due = subscription.lastEventNanos + interval;
+                pendingEvents.put(subscription, due);
+                scheduleFlush(due - now);
+                return;
+            }
+            subscription.hasSentEvent = true;
+            subscription.lastEventNanos = now;
+        }
+        subscription.callback.changed();
+    }
+
+    private void scheduleFlush(long delayNanos) {
+        final ScheduledFuture<?> job = flushJob;
+        if (job != null && !job.isDone()) {
+            if (job.getDelay(TimeUnit.NANOSECONDS) <= delayNanos) {
+                return;
+            }
+            job.cancel(false);
+        }
+        flushJob = scheduler.schedule(() -> flushEvents(false), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Send the pending events that are due in one batch
+     *
+     * @param all send all pending events, regardless of when they are due
+     */
+    private void flushEvents(boolean all) {
+        final List<CoalescingSubscription> dueSubscriptions = new ArrayList<>();
+        synchronized (pendingEvents) {
+            flushJob = null;
+            final long now = System.nanoTime();
+            long nextDue = Long.MAX_VALUE;
+            for (Iterator<Map.Entry<CoalescingSubscription, Long>> iterator = pendingEvents.entrySet()
+                    .iterator(); iterator.hasNext();) {
+                final Map.Entry<CoalescingSubscription, Long> entry = iterator.next();
+                final long delay = entry.getValue() - now;
+                if (all || delay <= 0) {
+                    final CoalescingSubscription subscription = entry.getKey();
+                    subscription.lastEventNanos = now;
+                    dueSubscriptions.add(subscription);
+                    iterator.remove();
+                } else {
+                    nextDue = Math.min(nextDue, delay);
+                }
+            }
+            if (!pendingEvents.isEmpty()) {
+                scheduleFlush(nextDue);
+            }
+        }
+        if (dueSubscriptions.isEmpty()) {
+            return;
+        }
+        logger.trace("Sending {} coalesced characteristic events", dueSubscriptions.size());
+        final HomekitRoot bridge = this.bridge;
+        if (bridge != null) {
+            bridge.batchUpdate();
+        }
+        try {
+            dueSubscriptions.forEach(subscription -> subscription.callback.changed());
+        } finally {
+            if (bridge != null) {
+                bridge.completeUpdateBatch();
+            }
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface Subscription extends StateChangeListener {
@@ -114,6 +243,26 @@ public class HomekitAccessoryUpdater {
         }
     }
 
+    /**
+     * Subscription notifying HomeKit of state changes, subject to the minimum event interval
+     */
+    @NonNullByDefault
+    private class CoalescingSubscription implements Subscription {
+        private final HomekitCharacteristicChangeCallback callback;
+        // guarded by pendingEvents
+        private boolean hasSentEvent;
+        private long lastEventNanos;
+
+        CoalescingSubscription(HomekitCharacteristicChangeCallback callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void stateChanged(Item item, State oldState, State newState) {
+            characteristicChanged(this);
+        }
+    }
+
     @FunctionalInterface
     @NonNullByDefault
     private interface UpdateSubscription extends StateChangeListener {
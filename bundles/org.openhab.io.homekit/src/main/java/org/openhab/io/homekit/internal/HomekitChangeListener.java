@@ -75,6 +75,18 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     private final Set<String> pendingUpdates = new HashSet<>();
 
+    /**
+     * Names of the root accessories each item is part of, so that a change of an item only rebuilds the accessories
+     * depending on it, even after it has been removed from an accessory group.
+     */
+    private final Map<String, Set<String>> accessoriesByItem = new HashMap<>();
+    private final Map<String, Set<String>> itemsByAccessory = new HashMap<>();
+
+    /**
+     * Serializes {@link #applyUpdates()}, which builds accessories without holding the monitor of this listener
+     */
+    private final Object applyUpdatesLock = new Object();
+
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
@@ -95,6 +107,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry = metadataRegistry;
         this.storage = storage;
         this.instance = instance;
+        updater.setMinimumEventInterval(settings.minimumEventInterval);
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
         metadataChangeListener = new RegistryChangeListener<>() {
@@ -143,7 +156,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         boolean changed = false;
         for (var i : itemRegistry.getItems()) {
             String oldValue = knownAccessories.get(i.getName());
-            createRootAccessories(i);
+            createRootAccessory(i).ifPresent(this::addRootAccessory);
             if (accessoryChanged(i.getName(), oldValue)) {
                 logger.debug("Accessory {} changed:\n{}\n{}", i.getName(), oldValue, knownAccessories.get(i.getName()));
                 changed = true;
@@ -231,6 +244,14 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         if (item instanceof GroupItem itemAsGroupItem) {
             itemAsGroupItem.getMembers().forEach(groupMember -> pendingUpdates.add(groupMember.getName()));
         }
+
+        /*
+         * accessories the item has been part of so far, even if it is no longer member of their group.
+         */
+        Set<String> accessories = accessoriesByItem.get(item.getName());
+        if (accessories != null) {
+            pendingUpdates.addAll(accessories);
+        }
         applyUpdatesDebouncer.call();
     }
 
@@ -279,9 +300,28 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
-    private synchronized void applyUpdates() {
-        logger.trace("Apply updates");
+    private void applyUpdates() {
+        synchronized (applyUpdatesLock) {
+            final Set<String> names;
+            synchronized (this) {
+                names = new HashSet<>(pendingUpdates);
+                pendingUpdates.clear();
+            }
+            logger.trace("Apply updates for {}", names);
+
+            /*
+             * Accessories are built without holding the monitor, so registry events are not blocked meanwhile. Items
+             * changed in the meantime are marked dirty again and rebuilt by the next run.
+             */
+            final Map<String, Optional<RootAccessory>> rootAccessories = new HashMap<>();
+            for (final String name : names) {
+                rootAccessories.put(name, getItemOptional(name).flatMap(this::createRootAccessory));
+            }
+            applyRootAccessories(rootAccessories);
+        }
+    }
 
+    private synchronized void applyRootAccessories(Map<String, Optional<RootAccessory>> rootAccessories) {
         HomekitRoot bridge = accessoryRegistry.getBridge();
         if (bridge != null) {
             bridge.batchUpdate();
@@ -289,16 +329,17 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
         try {
             boolean changed = false;
-            for (final String name : pendingUpdates) {
+            for (final Entry<String, Optional<RootAccessory>> entry : rootAccessories.entrySet()) {
+                final String name = entry.getKey();
                 String oldValue = knownAccessories.get(name);
                 accessoryRegistry.remove(name);
+                removeDependencies(name);
                 logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
+                entry.getValue().ifPresent(this::addRootAccessory);
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
             }
-            pendingUpdates.clear();
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
             }
@@ -310,6 +351,35 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
+    private void addRootAccessory(RootAccessory rootAccessory) {
+        final String name = rootAccessory.name();
+        knownAccessories.put(name, rootAccessory.json());
+        accessoryRegistry.addRootAccessory(name, rootAccessory.accessory());
+        itemsByAccessory.put(name, rootAccessory.itemNames());
+        rootAccessory.itemNames()
+                .forEach(itemName -> accessoriesByItem.computeIfAbsent(itemName, k -> new HashSet<>()).add(name));
+    }
+
+    private void removeDependencies(String name) {
+        final Set<String> itemNames = itemsByAccessory.remove(name);
+        if (itemNames == null) {
+            return;
+        }
+        for (String itemName : itemNames) {
+            final Set<String> accessories = accessoriesByItem.get(itemName);
+            if (accessories != null) {
+                accessories.remove(name);
+                if (accessories.isEmpty()) {
+                    accessoriesByItem.remove(itemName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compare the configuration of an accessory with the one known before, by its full JSON rather than a precomputed
+     * hash, as the JSON is persisted anyway to create dummy accessories
+     */
     private boolean accessoryChanged(String name, @Nullable String oldValue) {
         String newValue = knownAccessories.get(name);
         if (oldValue == null && newValue == null) {
@@ -331,19 +401,24 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
     public synchronized void clearAccessories() {
         accessoryRegistry.clear();
+        accessoriesByItem.clear();
+        itemsByAccessory.clear();
     }
 
     public synchronized void setBridge(HomekitRoot bridge) {
         accessoryRegistry.setBridge(bridge);
+        updater.setBridge(bridge);
     }
 
     public void setUpdater(HomekitAccessoryUpdater updater) {
         this.updater = updater;
+        updater.setMinimumEventInterval(settings.minimumEventInterval);
     }
 
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setMinimumEventInterval(settings.minimumEventInterval);
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -355,6 +430,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
         accessoryRegistry.unsetBridge();
+        updater.setBridge(null);
     }
 
     public Map<String, HomekitAccessory> getAccessories() {
@@ -431,25 +507,28 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * Group:Switch:OR(ON,OFF) gLight "Light Group " {homekit="Lighting"}
      * Switch light "Light" (gLight) {homekit="Lighting.OnState"}
      *
+     * The accessory is only built here, it is added to the bridge by {@link #addRootAccessory(RootAccessory)}.
+     *
      * @param item openHAB item
+     * @return the root accessory for the item, or empty if the item is not a root accessory of this bridge
      */
-    private void createRootAccessories(Item item) {
+    private Optional<RootAccessory> createRootAccessory(Item item) {
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         if (accessoryTypes.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
         // Don't create accessories that are sub-accessories of other accessories
         if (groups.stream().anyMatch(g -> !HomekitAccessoryFactory.getAccessoryTypes(g, metadataRegistry).isEmpty())) {
-            return;
+            return Optional.empty();
         }
 
         final @Nullable Map<String, Object> itemConfiguration = HomekitAccessoryFactory.getItemConfiguration(item,
                 metadataRegistry);
         if (!itemIsForThisBridge(item, itemConfiguration)) {
-            return;
+            return Optional.empty();
         }
 
         final HomekitAccessoryType primaryAccessoryType = getPrimaryAccessoryType(item, accessoryTypes,
@@ -464,7 +543,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             if (accessory.isLinkedServiceOnly()) {
                 logger.warn("Item '{}' is a '{}' which must be nested another another accessory.", taggedItem.getName(),
                         primaryAccessoryType);
-                return;
+                return Optional.empty();
             }
 
             accessoryTypes.stream().filter(aType -> !primaryAccessoryType.equals(aType.getKey()))
@@ -480,10 +559,26 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                             logger.warn("Cannot create additional accessory {}", additionalTaggedItem);
                         }
                     });
-            knownAccessories.put(taggedItem.getName(), accessory.toJson());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            return Optional
+                    .of(new RootAccessory(taggedItem.getName(), accessory, accessory.toJson(), getItemNames(item)));
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Collect the names of the item and, for groups, of all (nested) members
+     */
+    private static Set<String> getItemNames(Item item) {
+        final Set<String> itemNames = new HashSet<>();
+        collectItemNames(item, itemNames);
+        return itemNames;
+    }
+
+    private static void collectItemNames(Item item, Set<String> itemNames) {
+        if (itemNames.add(item.getName()) && item instanceof GroupItem groupItem) {
+            groupItem.getMembers().forEach(member -> collectItemNames(member, itemNames));
         }
     }
 
@@ -574,4 +669,12 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         priorDummies.clear();
         priorDummies.addAll(currentDummies);
     }
+
+    /**
+     * A root accessory built for an item, along with its configuration as JSON and the names of the items it is
+     * built from
+     */
+    private record RootAccessory(String name, AbstractHomekitAccessoryImpl accessory, String json,
+            Set<String> itemNames) {
+    }
 }
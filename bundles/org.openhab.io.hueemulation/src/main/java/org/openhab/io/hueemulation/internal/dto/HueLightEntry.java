@@ -13,16 +13,19 @@
 package org.openhab.io.hueemulation.internal.dto;
 
 import java.lang.reflect.Type;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
 import org.openhab.io.hueemulation.internal.DeviceType;
 import org.openhab.io.hueemulation.internal.StateUtils;
 import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
@@ -57,6 +60,14 @@ public class HueLightEntry {
     public transient @Nullable Command lastCommand = null;
     public transient @Nullable HueStateChange lastHueChange = null;
 
+    // The serialized form of this light, along with the inputs it was computed from
+    private transient @Nullable String cachedJson;
+    private transient @Nullable GenericItem cachedItem;
+    private transient @Nullable State cachedItemState;
+    private transient @Nullable String cachedLabel;
+    private transient @Nullable Command cachedLastCommand;
+    private transient @Nullable HueStateChange cachedLastHueChange;
+
     public static class Config {
         public final String archetype = "classicbulb";
         public final String function = "functional";
@@ -180,6 +191,30 @@ public class HueLightEntry {
         }
     }
 
+    /**
+     * Serializes this light with the given gson instance. The result is cached and only computed again if the item,
+     * its state or label, or the last command changed in the meantime.
+     *
+     * @param gson The gson instance with the {@link Serializer} registered
+     * @return The light as JSON
+     */
+    public synchronized String toJson(Gson gson) {
+        final State itemState = item.getState();
+        final String label = item.getLabel();
+        String json = cachedJson;
+        if (json == null || cachedItem != item || cachedItemState != itemState || !Objects.equals(cachedLabel, label)
+                || cachedLastCommand != lastCommand || cachedLastHueChange != lastHueChange) {
+            json = gson.toJson(this);
+            cachedJson = json;
+            cachedItem = item;
+            cachedItemState = itemState;
+            cachedLabel = label;
+            cachedLastCommand = lastCommand;
+            cachedLastHueChange = lastHueChange;
+        }
+        return json;
+    }
+
     /**
      * Replaces the associated openHAB item of this hue device with the given once
      * and also synchronizes/updates the color information of this hue device with the item.
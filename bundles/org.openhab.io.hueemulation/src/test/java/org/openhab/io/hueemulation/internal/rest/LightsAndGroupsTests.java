@@ -22,6 +22,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -327,6 +328,25 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String entityTag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(entityTag, is(notNullValue()));
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+        assertEquals(304, response.getStatus());
+
+        // A state change of a light invalidates its cached JSON and the entity tag
+        cs.ds.lights.get("1").item.setState(OnOffType.ON);
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(entityTag)));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
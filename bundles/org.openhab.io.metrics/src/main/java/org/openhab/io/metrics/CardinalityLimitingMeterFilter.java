@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+
+/**
+ * The {@link CardinalityLimitingMeterFilter} denies meters by name prefix, and limits the number of meters with the
+ * same name but different tags, e.g. per-item meters on installations with many items.
+ *
+ * The filter is reconfigurable. Meters that are denied by new settings are removed from the registry, the new limit
+ * applies to meters registered afterwards. Meters that are removed from the registry no longer count against the
+ * limit.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class CardinalityLimitingMeterFilter implements MeterFilter {
+
+    private final Logger logger = LoggerFactory.getLogger(CardinalityLimitingMeterFilter.class);
+
+    private final Map<String, Set<Meter.Id>> acceptedIds = new ConcurrentHashMap<>();
+    private volatile List<String> deniedPrefixes = List.of();
+    private volatile int maxMetersPerName;
+
+    /**
+     * Update the filter settings
+     *
+     * @param deniedPrefixes meters with a name starting with any of these prefixes are denied
+     * @param maxMetersPerName maximum number of meters per name, zero or negative for no limit
+     * @param registry the registry the filter is applied to, its meters which are now denied are removed and the
+     *            remaining ones count against the limit
+     */
+    public synchronized void configure(List<String> deniedPrefixes, int maxMetersPerName, MeterRegistry registry) {
+        this.deniedPrefixes = List.copyOf(deniedPrefixes);
+        this.maxMetersPerName = maxMetersPerName;
+        for (Meter meter : registry.getMeters()) {
+            if (isDenied(meter.getId().getName())) {
+                logger.debug("Removing meter {}, its name is denied", meter.getId());
+                registry.remove(meter);
+            }
+        }
+        acceptedIds.clear();
+        for (Meter meter : registry.getMeters()) {
+            Meter.Id id = meter.getId();
+            acceptedIds.computeIfAbsent(id.getName(), n -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Release the slot of a meter that has been removed from the registry
+     *
+     * @param meter the removed meter
+     */
+    public void meterRemoved(Meter meter) {
+        Meter.Id id = meter.getId();
+        Set<Meter.Id> ids = acceptedIds.get(id.getName());
+        if (ids != null) {
+            synchronized (ids) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        String name = id.getName();
+        if (isDenied(name)) {
+            return MeterFilterReply.DENY;
+        }
+        int limit = maxMetersPerName;
+        if (limit <= 0) {
+            return MeterFilterReply.NEUTRAL;
+        }
+        Set<Meter.Id> ids = acceptedIds.computeIfAbsent(name, n -> ConcurrentHashMap.newKeySet());
+        if (ids.contains(id)) {
+            return MeterFilterReply.NEUTRAL;
+        }
+        synchronized (ids) {
+            if (ids.size() >= limit) {
+                logger.debug("Denying meter {}, the limit of {} meters with that name has been reached", id, limit);
+                return MeterFilterReply.DENY;
+            }
+            ids.add(id);
+        }
+        return MeterFilterReply.NEUTRAL;
+    }
+
+    private boolean isDenied(String name) {
+        for (String prefix : deniedPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
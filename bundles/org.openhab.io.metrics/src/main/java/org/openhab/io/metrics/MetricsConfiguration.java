@@ -31,11 +31,17 @@ public class MetricsConfiguration {
 
     public boolean jmxMetricsEnabled = false;
 
+    public int prometheusScrapeCacheSeconds = 0;
+    public String meterDenyList = "";
+    public int maxMetersPerName = 0;
+
     @Override
     public String toString() {
         return "MetricsConfiguration{" + "influxMetricsEnabled=" + influxMetricsEnabled + ", influxURL='" + influxURL
                 + '\'' + ", influxDB='" + influxDB + '\'' + ", influxPassword='" + influxPassword + '\''
                 + ", influxUsername='" + influxUsername + '\'' + ", influxUpdateIntervalInSeconds="
-                + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled + '}';
+                + influxUpdateIntervalInSeconds + ", jmxMetricsEnabled=" + jmxMetricsEnabled
+                + ", prometheusScrapeCacheSeconds=" + prometheusScrapeCacheSeconds + ", meterDenyList='"
+                + meterDenyList + '\'' + ", maxMetersPerName=" + maxMetersPerName + '}';
     }
 }
@@ -12,15 +12,26 @@
  */
 package org.openhab.io.metrics;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.security.RolesAllowed;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -71,16 +82,66 @@ public class MetricsRestController {
     private @Nullable CompositeMeterRegistry meterRegistry;
     private final PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(
             PrometheusConfig.DEFAULT);
+    private final CardinalityLimitingMeterFilter meterFilter = new CardinalityLimitingMeterFilter();
     private final Set<MetricsExporter> metricsExporters = new HashSet<>();
     private @Nullable MetricsConfiguration config;
 
+    private final Object scrapeLock = new Object();
+    private volatile long scrapeCacheNanos;
+    private byte @Nullable [] cachedScrape;
+    private long cachedScrapeTime;
+
+    public MetricsRestController() {
+        // the filter has to be in place before any meter is registered
+        prometheusMeterRegistry.config().meterFilter(meterFilter).onMeterRemoved(meterFilter::meterRemoved);
+    }
+
     @GET
     @Path("/prometheus")
     @Produces(MediaType.TEXT_PLAIN)
     @Operation(operationId = "getPrometheusMetrics", summary = "Gets openHAB system and core metrics in a Prometheus compatible format.", responses = {
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = String.class))) })
-    public String getPrometheusMetrics() {
-        return prometheusMeterRegistry.scrape();
+    public StreamingOutput getPrometheusMetrics() {
+        long cacheNanos = scrapeCacheNanos;
+        if (cacheNanos <= 0) {
+            return this::scrape;
+        }
+        byte[] scrape = getCachedScrape(cacheNanos);
+        return output -> output.write(scrape);
+    }
+
+    /**
+     * Write the exposition of all meters to the given stream, without building it in memory first
+     */
+    private void scrape(OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        prometheusMeterRegistry.scrape(writer);
+        writer.flush();
+    }
+
+    /**
+     * Returns the exposition of all meters, scraping the registry at most once within the cache duration.
+     * Concurrent requests wait for a single scrape.
+     */
+    private byte[] getCachedScrape(long cacheNanos) {
+        synchronized (scrapeLock) {
+            byte[] scrape = cachedScrape;
+            long now = System.nanoTime();
+            if (scrape != null && now - cachedScrapeTime < cacheNanos) {
+                return scrape;
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream(scrape != null ? scrape.length : 8192);
+            try {
+                scrape(output);
+            } catch (IOException e) {
+                // not thrown by ByteArrayOutputStream
+                throw new IllegalStateException(e);
+            }
+            scrape = output.toByteArray();
+            cachedScrape = scrape;
+            cachedScrapeTime = now;
+            return scrape;
+        }
     }
 
     @Reference
@@ -111,8 +172,16 @@ public class MetricsRestController {
     }
 
     private void updateConfig(@Nullable Map<@Nullable String, @Nullable Object> configuration) {
-        this.config = new Configuration(configuration).as(MetricsConfiguration.class);
+        MetricsConfiguration config = new Configuration(configuration).as(MetricsConfiguration.class);
+        this.config = config;
         logger.debug("Configuration: {}", this.config);
+        List<String> deniedPrefixes = Arrays.stream(config.meterDenyList.split(",")).map(String::trim)
+                .filter(prefix -> !prefix.isEmpty()).collect(Collectors.toList());
+        meterFilter.configure(deniedPrefixes, config.maxMetersPerName, prometheusMeterRegistry);
+        synchronized (scrapeLock) {
+            scrapeCacheNanos = TimeUnit.SECONDS.toNanos(Math.max(0, config.prometheusScrapeCacheSeconds));
+            cachedScrape = null;
+        }
         this.metricsExporters.forEach(e -> e.updateExporterState(config));
     }
 
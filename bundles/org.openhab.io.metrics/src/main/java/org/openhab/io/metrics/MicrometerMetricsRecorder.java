@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.io.metrics.spi.MetricsRecorder;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link MicrometerMetricsRecorder} records the measurements reported by add-ons in the core Micrometer registry.
+ *
+ * Meters are cached by name and tags, so reporting a measurement does not look up the meter in the registry.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = MetricsRecorder.class)
+@NonNullByDefault
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<List<String>, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @Activate
+    public MicrometerMetricsRecorder(final @Reference MeterRegistryProvider meterRegistryProvider) {
+        this(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    MicrometerMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+        timers.computeIfAbsent(key(name, tags), k -> Timer.builder(name).tags(tags).register(meterRegistry))
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void increment(String name, String... tags) {
+        counters.computeIfAbsent(key(name, tags), k -> Counter.builder(name).tags(tags).register(meterRegistry))
+                .increment();
+    }
+
+    @Override
+    public void recordValue(String name, double value, String... tags) {
+        summaries.computeIfAbsent(key(name, tags),
+                k -> DistributionSummary.builder(name).tags(tags).register(meterRegistry)).record(value);
+    }
+
+    @Override
+    public void removeMeters(String tagKey, String tagValue) {
+        removeMeters(timers, tagKey, tagValue);
+        removeMeters(counters, tagKey, tagValue);
+        removeMeters(summaries, tagKey, tagValue);
+    }
+
+    private void removeMeters(Map<List<String>, ? extends Meter> meters, String tagKey, String tagValue) {
+        meters.entrySet().removeIf(entry -> {
+            if (hasTag(entry.getKey(), tagKey, tagValue)) {
+                meterRegistry.remove(entry.getValue());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static boolean hasTag(List<String> key, String tagKey, String tagValue) {
+        // the last element of the key is the name, the elements before are the tags
+        for (int i = 0; i + 1 < key.size() - 1; i += 2) {
+            if (tagKey.equals(key.get(i)) && tagValue.equals(key.get(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove all meters created by this recorder from the registry
+     */
+    @Deactivate
+    public void dispose() {
+        timers.values().forEach(meterRegistry::remove);
+        counters.values().forEach(meterRegistry::remove);
+        summaries.values().forEach(meterRegistry::remove);
+        timers.clear();
+        counters.clear();
+        summaries.clear();
+    }
+
+    private static List<String> key(String name, String[] tags) {
+        String[] key = Arrays.copyOf(tags, tags.length + 1);
+        key[tags.length] = name;
+        return Arrays.asList(key);
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.spi;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MetricsRecorder} records measurements reported by add-ons in a monitoring system. It is registered as a
+ * service while the metrics service is installed, so add-ons can inject it as an optional, dynamic reference and report
+ * their metrics without depending on a particular metrics library.
+ *
+ * Tags are given as alternating key and value pairs.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public interface MetricsRecorder {
+
+    /**
+     * Record the duration of an operation
+     *
+     * @param name name of the timer
+     * @param durationNanos duration in nanoseconds
+     * @param tags alternating tag keys and values
+     */
+    void recordTime(String name, long durationNanos, String... tags);
+
+    /**
+     * Count an event
+     *
+     * @param name name of the counter
+     * @param tags alternating tag keys and values
+     */
+    void increment(String name, String... tags);
+
+    /**
+     * Record a sampled value, e.g. a batch size or queue depth
+     *
+     * @param name name of the distribution
+     * @param value the sampled value
+     * @param tags alternating tag keys and values
+     */
+    void recordValue(String name, double value, String... tags);
+
+    /**
+     * Remove all meters with the given tag, e.g. when the thing or connection they measure goes away
+     *
+     * @param tagKey the tag key
+     * @param tagValue the tag value
+     */
+    void removeMeters(String tagKey, String tagValue);
+}
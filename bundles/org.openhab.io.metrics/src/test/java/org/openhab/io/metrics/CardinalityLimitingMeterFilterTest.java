@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link CardinalityLimitingMeterFilter}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class CardinalityLimitingMeterFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CardinalityLimitingMeterFilter filter = new CardinalityLimitingMeterFilter();
+
+    @BeforeEach
+    public void setUp() {
+        registry.config().meterFilter(filter).onMeterRemoved(filter::meterRemoved);
+    }
+
+    @Test
+    public void testMetersAboveTheLimitAreDenied() {
+        filter.configure(List.of(), 2, registry);
+
+        registry.counter("test.counter", "item", "a");
+        registry.counter("test.counter", "item", "b");
+        registry.counter("test.counter", "item", "c");
+        registry.counter("test.other", "item", "c");
+
+        assertEquals(2, registry.find("test.counter").counters().size());
+        assertNull(registry.find("test.counter").tag("item", "c").counter());
+        // the limit applies per name
+        assertNotNull(registry.find("test.other").tag("item", "c").counter());
+        // a meter which was accepted before is still accepted
+        registry.counter("test.counter", "item", "a").increment();
+        assertEquals(1, registry.get("test.counter").tag("item", "a").counter().count(), 0.001);
+    }
+
+    @Test
+    public void testRemovedMetersNoLongerCountAgainstTheLimit() {
+        filter.configure(List.of(), 1, registry);
+        Counter counter = registry.counter("test.counter", "item", "a");
+
+        registry.remove(counter);
+        registry.counter("test.counter", "item", "b");
+
+        assertNotNull(registry.find("test.counter").tag("item", "b").counter());
+    }
+
+    @Test
+    public void testReconfiguringCountsTheRegisteredMeters() {
+        filter.configure(List.of(), 0, registry);
+        registry.counter("test.counter", "item", "a");
+        registry.counter("test.counter", "item", "b");
+
+        filter.configure(List.of(), 2, registry);
+        registry.counter("test.counter", "item", "c");
+
+        assertEquals(2, registry.find("test.counter").counters().size());
+        assertNull(registry.find("test.counter").tag("item", "c").counter());
+    }
+
+    @Test
+    public void testDeniedMetersAreNotRegistered() {
+        filter.configure(List.of("jvm.", "test.denied"), 0, registry);
+
+        registry.counter("test.denied.counter");
+        registry.counter("jvm.counter");
+        registry.counter("test.counter");
+
+        assertNull(registry.find("test.denied.counter").counter());
+        assertNull(registry.find("jvm.counter").counter());
+        assertNotNull(registry.find("test.counter").counter());
+    }
+
+    @Test
+    public void testReconfiguringRemovesNewlyDeniedMeters() {
+        filter.configure(List.of(), 1, registry);
+        registry.counter("test.denied.counter", "item", "a");
+        registry.counter("test.counter");
+
+        filter.configure(List.of("test.denied"), 1, registry);
+
+        assertNull(registry.find("test.denied.counter").counter());
+        assertNotNull(registry.find("test.counter").counter());
+
+        // once allowed again, the meter is registered by its next use
+        filter.configure(List.of(), 1, registry);
+        registry.counter("test.denied.counter", "item", "b");
+        assertNotNull(registry.find("test.denied.counter").tag("item", "b").counter());
+    }
+}
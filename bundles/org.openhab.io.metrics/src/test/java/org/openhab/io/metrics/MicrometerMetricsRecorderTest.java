@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for {@link MicrometerMetricsRecorder}
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+public class MicrometerMetricsRecorderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+
+    @Test
+    public void testMeasurementsAreRecordedPerNameAndTags() {
+        recorder.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(5), "thing", "a");
+        recorder.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(15), "thing", "a");
+        recorder.recordTime("test.timer", TimeUnit.MILLISECONDS.toNanos(1), "thing", "b");
+        recorder.increment("test.counter", "thing", "a");
+        recorder.increment("test.counter", "thing", "a");
+        recorder.recordValue("test.summary", 3, "service", "s");
+
+        Timer timerA = registry.get("test.timer").tag("thing", "a").timer();
+        assertEquals(2, timerA.count());
+        assertEquals(20, timerA.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, registry.get("test.timer").tag("thing", "b").timer().count());
+        Counter counter = registry.get("test.counter").tag("thing", "a").counter();
+        assertEquals(2, counter.count(), 0.001);
+        DistributionSummary summary = registry.get("test.summary").tag("service", "s").summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount(), 0.001);
+    }
+
+    @Test
+    public void testRemoveMetersRemovesOnlyMatchingTag() {
+        recorder.recordTime("test.timer", 1, "thing", "a");
+        recorder.increment("test.counter", "thing", "a", "method", "GET");
+        recorder.increment("test.counter", "thing", "b", "method", "GET");
+        recorder.recordValue("test.summary", 1, "service", "a");
+
+        recorder.removeMeters("thing", "a");
+
+        assertNull(registry.find("test.timer").tag("thing", "a").timer());
+        assertNull(registry.find("test.counter").tag("thing", "a").counter());
+        assertNotNull(registry.find("test.counter").tag("thing", "b").counter());
+        // the tag value alone does not match
+        assertNotNull(registry.find("test.summary").tag("service", "a").summary());
+
+        // a later measurement registers the meter again
+        recorder.increment("test.counter", "thing", "a", "method", "GET");
+        Counter counter = registry.find("test.counter").tag("thing", "a").counter();
+        assertNotNull(counter);
+        assertEquals(1, counter.count(), 0.001);
+    }
+
+    @Test
+    public void testDisposeRemovesAllMeters() {
+        recorder.recordTime("test.timer", 1, "thing", "a");
+        recorder.increment("test.counter");
+        recorder.recordValue("test.summary", 1);
+
+        recorder.dispose();
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
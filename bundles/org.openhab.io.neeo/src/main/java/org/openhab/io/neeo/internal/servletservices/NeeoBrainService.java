@@ -99,6 +99,9 @@ public class NeeoBrainService extends DefaultServletService {
     /** The {@link NeeoItemValueConverter} used to convert values with */
     private final NeeoItemValueConverter itemConverter;
 
+    /** The queue of notifications to the brain */
+    private final NeeoNotificationQueue notificationQueue;
+
     private final PropertyChangeListener listener = new PropertyChangeListener() {
         @Override
         public void propertyChange(@Nullable PropertyChangeEvent evt) {
@@ -121,6 +124,7 @@ public class NeeoBrainService extends DefaultServletService {
         this.context = context;
         this.itemConverter = new NeeoItemValueConverter(context);
         this.api = api;
+        this.notificationQueue = new NeeoNotificationQueue(api, scheduler);
         this.api.addPropertyChangeListener(NeeoApi.CONNECTED, listener);
         scheduler.execute(() -> {
             resendState();
@@ -553,39 +557,31 @@ public class NeeoBrainService extends DefaultServletService {
         NeeoUtil.requireNotEmpty(deviceKey, "deviceKey cannot be empty");
         Objects.requireNonNull(state, "state cannot be null");
 
-        scheduler.execute(() -> {
-            final String uin = channel.getUniqueItemName();
+        final String uin = channel.getUniqueItemName();
 
+        // Pending notifications for the same device and capability are replaced by newer ones
+        notificationQueue.enqueue(deviceKey + ":" + uin, () -> {
             final NeeoItemValue niv = itemConverter.convert(channel, state);
 
             // Use sensor notification if we have a >= 0.50 firmware AND it's not a power sensor
             if (api.getSystemInfo().isFirmwareGreaterOrEqual(NeeoConstants.NEEO_FIRMWARE_0_51_1)
                     && channel.getType() != NeeoCapabilityType.SENSOR_POWER) {
-                final NeeoSensorNotification notify = new NeeoSensorNotification(deviceKey, uin, niv.getValue());
-                try {
-                    api.notify(gson.toJson(notify));
-                } catch (IOException e) {
-                    logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
-                }
+                return gson.toJson(new NeeoSensorNotification(deviceKey, uin, niv.getValue()));
             } else {
-                final NeeoNotification notify = new NeeoNotification(deviceKey, uin, niv.getValue());
-                try {
-                    api.notify(gson.toJson(notify));
-                } catch (IOException e) {
-                    logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
-                }
+                return gson.toJson(new NeeoNotification(deviceKey, uin, niv.getValue()));
             }
         });
     }
 
     /**
-     * Simply closes the {@link #request}
+     * Drops pending notifications and closes the {@link #request}
      *
      * @see DefaultServletService#close()
      */
     @Override
     public void close() {
         this.api.removePropertyChangeListener(listener);
+        notificationQueue.clear();
         request.close();
     }
 }
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.neeo.internal.servletservices;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.neeo.internal.NeeoApi;
+import org.openhab.io.neeo.internal.NeeoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbound queue of notifications to a NEEO brain.
+ *
+ * Notifications are keyed by device key and capability. A notification queued while a previous one for the same key
+ * is still waiting replaces it (keeping its position in the queue), so bursts of state changes only send the latest
+ * value. At most {@link #MAX_IN_FLIGHT} notifications are sent to the brain at the same time, and never two with the
+ * same key, so notifications for a key arrive in order.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class NeeoNotificationQueue {
+
+    /** The maximum number of notifications sent to the brain at the same time */
+    static final int MAX_IN_FLIGHT = 2;
+
+    /** The logger */
+    private final Logger logger = LoggerFactory.getLogger(NeeoNotificationQueue.class);
+
+    /** The NEEO API to send the notifications with */
+    private final NeeoApi api;
+
+    /** The executor to send the notifications on */
+    private final ExecutorService executor;
+
+    /** The pending notifications, creating the message lazily when it is sent */
+    private final Map<String, Supplier<String>> pending = new LinkedHashMap<>();
+
+    /** The keys of the notifications currently being sent */
+    private final Set<String> inFlight = new HashSet<>();
+
+    /** The number of workers currently sending notifications */
+    private int workers;
+
+    /**
+     * Constructs the queue
+     *
+     * @param api the non-null api
+     * @param executor the non-null executor to send notifications on
+     */
+    NeeoNotificationQueue(NeeoApi api, ExecutorService executor) {
+        Objects.requireNonNull(api, "api cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+
+        this.api = api;
+        this.executor = executor;
+    }
+
+    /**
+     * Queue a notification, replacing any pending notification with the same key
+     *
+     * @param key a non-null, non-empty key identifying the device and capability
+     * @param message a non-null supplier of the notification message
+     */
+    void enqueue(String key, Supplier<String> message) {
+        NeeoUtil.requireNotEmpty(key, "key cannot be empty");
+        Objects.requireNonNull(message, "message cannot be null");
+
+        synchronized (this) {
+            if (pending.containsKey(key)) {
+                logger.trace("Replacing pending notification for {}", key);
+            }
+            pending.put(key, message);
+            if (workers >= MAX_IN_FLIGHT) {
+                return;
+            }
+            workers++;
+        }
+        try {
+            executor.execute(this::sendPending);
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                workers--;
+            }
+            logger.debug("Could not send notification for {}: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops all pending notifications
+     */
+    synchronized void clear() {
+        pending.clear();
+    }
+
+    /**
+     * Sends pending notifications until the queue is empty, or only holds keys being sent by another worker
+     */
+    private void sendPending() {
+        while (true) {
+            String key = null;
+            Supplier<String> message = null;
+            synchronized (this) {
+                final Iterator<Map.Entry<String, Supplier<String>>> iterator = pending.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    final Map.Entry<String, Supplier<String>> entry = iterator.next();
+                    if (!inFlight.contains(entry.getKey())) {
+                        key = entry.getKey();
+                        message = entry.getValue();
+                        iterator.remove();
+                        inFlight.add(key);
+                        break;
+                    }
+                }
+                if (key == null || message == null) {
+                    workers--;
+                    return;
+                }
+            }
+            try {
+                api.notify(message.get());
+            } catch (IOException e) {
+                logger.debug("Exception occurred while handling event: {}", e.getMessage(), e);
+            } catch (RuntimeException e) {
+                logger.debug("Exception occurred while creating notification: {}", e.getMessage(), e);
+            } finally {
+                synchronized (this) {
+                    inFlight.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -18,12 +18,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -38,7 +38,6 @@ import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -118,11 +117,21 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * This map holds the response streams of the running requests
+     */
+    private final Map<Integer, ProxyResponseStream> runningStreams = new ConcurrentHashMap<>();
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
     private boolean isConnected;
 
+    /*
+     * This variable holds the current Engine.IO transport of the connection to the openHAB Cloud
+     */
+    private volatile @Nullable Transport transport;
+
     /*
      * This variable holds instance of Socket.IO client class which provides communication
      * with the openHAB Cloud
@@ -223,6 +232,7 @@ public class CloudClient {
                 .on(Manager.EVENT_TRANSPORT, args -> {
                     logger.trace("Manager.EVENT_TRANSPORT");
                     Transport transport = (Transport) args[0];
+                    this.transport = transport;
                     transport.on(Transport.EVENT_REQUEST_HEADERS, new Emitter.Listener() {
                         @Override
                         public void call(Object... args) {
@@ -236,6 +246,10 @@ public class CloudClient {
                             headers.put("remoteaccess", List.of(((Boolean) remoteAccessEnabled).toString()));
                         }
                     });
+                    // The transport has written all packets it was given. This listener runs before the one of the
+                    // Engine.IO socket, which then hands the packets it buffered meanwhile to the transport.
+                    transport.on(Transport.EVENT_DRAIN,
+                            drainArgs -> runningStreams.values().forEach(ProxyResponseStream::onDrain));
                 })//
                 .on(Manager.EVENT_CONNECT_ERROR, args -> {
                     if (args.length > 0) {
@@ -379,7 +393,11 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         isConnected = false;
-        // And clean up the list of running requests
+        // And stop the running requests, their responses can't be delivered anymore
+        runningStreams.values().forEach(ProxyResponseStream::cancel);
+        runningStreams.clear();
+        IOException disconnected = new IOException("Disconnected from the openHAB Cloud service");
+        runningRequests.values().forEach(request -> request.abort(disconnected));
         runningRequests.clear();
     }
 
@@ -461,6 +479,8 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            ProxyResponseStream stream = new ProxyResponseStream(requestId, socket, this::isTransportWritable);
+            runningStreams.put(requestId, stream);
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
@@ -475,20 +495,8 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
+            }).onResponseContentAsync((theResponse, content, callback) -> {
+                stream.onContent(content, callback);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
@@ -503,6 +511,7 @@ public class CloudClient {
                 logger.debug("onComplete: {}", requestId);
                 // Remove this request from list of running requests
                 runningRequests.remove(requestId);
+                runningStreams.remove(requestId);
                 if ((result != null && result.isFailed())
                         && (result.getResponse() != null && result.getResponse().getStatus() != HttpStatus.OK_200)) {
                     if (result.getFailure() != null) {
@@ -515,14 +524,7 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    socket.emit("responseFinished", responseJson);
-                    logger.debug("Finished responding to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
-                }
+                stream.finish();
             });
 
             // If successfully submitted request to http client, add it to the list of currently
@@ -551,14 +553,28 @@ public class CloudClient {
         }
     }
 
+    /**
+     * Returns whether packets emitted now are handed to the Engine.IO transport right away, instead of being buffered
+     * by the Engine.IO socket until the transport has drained
+     */
+    private boolean isTransportWritable() {
+        Transport transport = this.transport;
+        return transport != null && transport.writable;
+    }
+
     private void handleCancelEvent(JSONObject data) {
         try {
             int requestId = data.getInt("id");
             logger.debug("Received cancel for request {}", requestId);
+            // Stop streaming first, so no content of the aborted request is sent anymore
+            ProxyResponseStream stream = runningStreams.remove(requestId);
+            if (stream != null) {
+                stream.cancel();
+            }
             // Find and abort running request
             Request request = runningRequests.get(requestId);
             if (request != null) {
-                request.abort(new InterruptedException());
+                request.abort(new CancellationException("The request was cancelled by the openHAB Cloud"));
                 runningRequests.remove(requestId);
             }
         } catch (JSONException e) {
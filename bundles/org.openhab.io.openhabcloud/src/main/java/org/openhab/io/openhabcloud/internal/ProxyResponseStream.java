@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.socket.client.Socket;
+import io.socket.thread.EventThread;
+
+/**
+ * Streams the content of a proxied response to the openHAB Cloud.
+ *
+ * Content chunks are sent as soon as they are received, as long as no more than {@link #MAX_IN_FLIGHT_CHUNKS}
+ * chunks are waiting to be written by the Engine.IO transport. Beyond that, received content is coalesced into a single
+ * chunk of up to {@link #MAX_COALESCED_SIZE} bytes. Once that is full, reading of the local response is paused until
+ * the transport has drained, so slow cloud connections do not cause unbounded buffering.
+ *
+ * The Engine.IO socket hands packets to the transport only while it is writable, and buffers them otherwise until the
+ * transport drains. A chunk emitted while the transport is writable is therefore written at the next drain, while a
+ * chunk buffered by the Engine.IO socket is only written at the drain after that.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@NonNullByDefault
+class ProxyResponseStream {
+
+    /**
+     * Maximum number of content chunks handed to the Socket.IO client and not yet written by the transport
+     */
+    static final int MAX_IN_FLIGHT_CHUNKS = 4;
+
+    /**
+     * Maximum size of content coalesced while waiting for the in-flight chunks to be sent
+     */
+    static final int MAX_COALESCED_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(ProxyResponseStream.class);
+
+    private final int requestId;
+    private final Socket socket;
+    private final BooleanSupplier transportWritable;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private int inFlightChunks;
+    private int flushedChunks;
+    private int bufferedChunks;
+    private int drainedChunks;
+    private @Nullable Callback pausedCallback;
+    private boolean cancelled;
+
+    /**
+     * @param requestId id of the proxied request
+     * @param socket Socket.IO socket to send the response on
+     * @param transportWritable whether the Engine.IO transport is writable, only called on the Socket.IO event thread
+     */
+    ProxyResponseStream(int requestId, Socket socket, BooleanSupplier transportWritable) {
+        this.requestId = requestId;
+        this.socket = socket;
+        this.transportWritable = transportWritable;
+    }
+
+    /**
+     * Handle content received for the local response
+     *
+     * @param content the received content, only valid until the callback is completed
+     * @param callback callback to complete once the content has been consumed
+     */
+    void onContent(ByteBuffer content, Callback callback) {
+        logger.trace("Received content for request {}, size {}", requestId, content.remaining());
+        boolean pause = false;
+        boolean drop = false;
+        synchronized (this) {
+            if (cancelled) {
+                drop = true;
+            } else if (inFlightChunks < MAX_IN_FLIGHT_CHUNKS && pending.size() == 0) {
+                emitContent(BufferUtil.toArray(content));
+            } else {
+                byte[] bytes = BufferUtil.toArray(content);
+                pending.write(bytes, 0, bytes.length);
+                if (pending.size() >= MAX_COALESCED_SIZE) {
+                    pausedCallback = callback;
+                    pause = true;
+                }
+            }
+        }
+        if (drop) {
+            callback.failed(new CancellationException());
+        } else if (!pause) {
+            callback.succeeded();
+        }
+    }
+
+    /**
+     * Send the remaining content, and the end of response
+     */
+    void finish() {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            if (pending.size() > 0) {
+                emitContent(pending.toByteArray());
+                pending.reset();
+            }
+        }
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            socket.emit("responseFinished", responseJson);
+            logger.debug("Finished responding to request {}", requestId);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop any pending content and stop reading the local response
+     */
+    void cancel() {
+        @Nullable
+        Callback callback;
+        synchronized (this) {
+            cancelled = true;
+            pending.reset();
+            callback = pausedCallback;
+            pausedCallback = null;
+        }
+        if (callback != null) {
+            callback.failed(new CancellationException());
+        }
+    }
+
+    private void emitContent(byte[] bytes) {
+        JSONObject responseJson = new JSONObject();
+        try {
+            responseJson.put("id", requestId);
+            responseJson.put("body", bytes);
+            inFlightChunks++;
+            // Emitting on the event thread writes the chunk right away if the transport is writable, and buffers it in
+            // the Engine.IO socket until the next drain otherwise
+            EventThread.exec(() -> {
+                boolean flushed = transportWritable.getAsBoolean();
+                socket.emit("responseContentBinary", responseJson);
+                synchronized (this) {
+                    if (flushed) {
+                        flushedChunks++;
+                    } else {
+                        bufferedChunks++;
+                    }
+                }
+            });
+            logger.trace("Sent content to request {}, size {}", requestId, bytes.length);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * Handle a drain of the Engine.IO transport, i.e. the chunks handed to the transport have been written.
+     *
+     * Called on the Socket.IO event thread, before the Engine.IO socket handles the drain itself by handing its
+     * buffered packets to the transport. Further content is therefore only sent on the next tick.
+     */
+    void onDrain() {
+        synchronized (this) {
+            drainedChunks += flushedChunks;
+            flushedChunks = bufferedChunks;
+            bufferedChunks = 0;
+            if (drainedChunks == 0) {
+                return;
+            }
+        }
+        EventThread.nextTick(this::chunksDrained);
+    }
+
+    private void chunksDrained() {
+        @Nullable
+        Callback callback;
+        synchronized (this) {
+            inFlightChunks -= drainedChunks;
+            drainedChunks = 0;
+            if (cancelled) {
+                return;
+            }
+            if (pending.size() > 0 && inFlightChunks < MAX_IN_FLIGHT_CHUNKS) {
+                emitContent(pending.toByteArray());
+                pending.reset();
+            }
+            callback = pausedCallback;
+            if (callback == null || pending.size() >= MAX_COALESCED_SIZE) {
+                return;
+            }
+            pausedCallback = null;
+        }
+        callback.succeeded();
+    }
+}
@@ -53,6 +53,7 @@ import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.openhab.persistence.influxdb.internal.InfluxDBMetrics;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
@@ -117,6 +118,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Set<ItemFactory> itemFactories = new HashSet<>();
     private Map<String, Class<? extends State>> desiredClasses = new HashMap<>();
 
+    // metrics, only available while the metrics service is installed
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    private volatile @Nullable InfluxDBMetrics metrics;
+
     @Activate
     public InfluxDBPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference InfluxDBMetadataService influxDBMetadataService, Map<String, Object> config) {
@@ -160,6 +165,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         }
 
         influxDBRepository.disconnect();
+        InfluxDBMetrics localMetrics = metrics;
+        if (localMetrics != null) {
+            localMetrics.serviceStopped();
+        }
         logger.info("InfluxDB persistence service stopped.");
     }
 
@@ -281,9 +290,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     private void commit() {
         if (!pointsQueue.isEmpty() && checkConnection()) {
+            int queueDepth = pointsQueue.size();
             List<InfluxPoint> points = new ArrayList<>();
             pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
+            long start = System.nanoTime();
+            boolean success = influxDBRepository.write(points);
+            InfluxDBMetrics localMetrics = metrics;
+            if (localMetrics != null) {
+                localMetrics.batchWritten(queueDepth, points.size(), System.nanoTime() - start, success);
+            }
+            if (!success) {
                 logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
                 pointsQueue.addAll(points);
                 influxDBRepository.disconnect();
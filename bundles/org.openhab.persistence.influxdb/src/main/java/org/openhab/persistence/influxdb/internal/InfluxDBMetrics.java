@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.io.metrics.spi.MetricsRecorder;
+import org.openhab.persistence.influxdb.InfluxDBPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Reports metrics of the write path to the metrics service.
+ *
+ * The component is only activated while the metrics service provides a {@link MetricsRecorder}, and the persistence
+ * service references it optionally, so the add-on does not load the metrics SPI when the metrics service is not
+ * installed.
+ *
+ * @author Contributors to the openHAB project - Initial contribution
+ */
+@Component(service = InfluxDBMetrics.class)
+@NonNullByDefault
+public class InfluxDBMetrics {
+
+    private static final String TAG_KEY = "service";
+    private static final String TAG_VALUE = InfluxDBPersistenceService.SERVICE_NAME;
+
+    private final MetricsRecorder recorder;
+
+    @Activate
+    public InfluxDBMetrics(final @Reference MetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Record a batch written to the database
+     *
+     * @param queueDepth number of points queued before the write
+     * @param batchSize number of points written
+     * @param durationNanos time taken by the write
+     * @param success whether the write succeeded
+     */
+    public void batchWritten(int queueDepth, int batchSize, long durationNanos, boolean success) {
+        recorder.recordValue("openhab.persistence.queue.depth", queueDepth, TAG_KEY, TAG_VALUE);
+        recorder.recordValue("openhab.persistence.batch.size", batchSize, TAG_KEY, TAG_VALUE);
+        recorder.recordTime("openhab.persistence.store", durationNanos, TAG_KEY, TAG_VALUE);
+        if (!success) {
+            recorder.increment("openhab.persistence.store.errors", TAG_KEY, TAG_VALUE);
+        }
+    }
+
+    /**
+     * Remove the meters of the persistence service when it is stopped
+     */
+    public void serviceStopped() {
+        recorder.removeMeters(TAG_KEY, TAG_VALUE);
+    }
+}
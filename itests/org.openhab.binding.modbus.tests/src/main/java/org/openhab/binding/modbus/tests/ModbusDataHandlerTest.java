@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -103,6 +104,16 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         }
     }
 
+    private static final class CountingTransformation implements TransformationService {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String transform(String function, String source) throws TransformationException {
+            calls.incrementAndGet();
+            return source;
+        }
+    }
+
     private static final String HOST = "thisishost";
     private static final int PORT = 44;
 
@@ -659,6 +670,111 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         assertSingleStateUpdate(dataHandler, CHANNEL_STRING, is(equalTo(new StringType("ON"))));
     }
 
+    private ModbusDataThingHandler createInt16ReadHandler(ModbusReadRequestBlueprint request,
+            long updateUnchangedValuesEveryMillis) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "1");
+        dataConfig.put("readTransform", "COUNT(x)");
+        dataConfig.put("readValueType", ModbusConstants.ValueType.INT16.getConfigValue());
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    private static ModbusRegisterArray registers(int first, int second, int third) {
+        return new ModbusRegisterArray(first, second, third);
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsSkipped() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request, 60_000L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        int transformationsOfFirstPoll = transformation.calls.get();
+        assertTrue(transformationsOfFirstPoll > 0);
+
+        // only the registers not read by the thing change
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(2, 5, 4)));
+
+        // the value is not extracted and transformed again
+        assertThat(transformation.calls.get(), is(equalTo(transformationsOfFirstPoll)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        assertEquals(ThingStatus.ONLINE, dataHandler.getThing().getStatus());
+    }
+
+    @Test
+    public void testOnRegistersChangedValueIsUpdated() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request, 60_000L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        int transformationsOfFirstPoll = transformation.calls.get();
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 6, 3)));
+
+        assertTrue(transformation.calls.get() > transformationsOfFirstPoll);
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(6)),
+                getStateUpdates(getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER)))));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsProcessedWhenSkippingIsDisabled() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        // updateUnchangedValuesEveryMillis=0 updates the channels on every poll
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request, 0L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+        int transformationsOfFirstPoll = transformation.calls.get();
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+
+        assertThat(transformation.calls.get(), is(equalTo(2 * transformationsOfFirstPoll)));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(5)),
+                getStateUpdates(getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER)))));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedValueIsProcessedAfterUpdateInterval() throws InterruptedException {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createInt16ReadHandler(request, 100L);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+        int transformationsOfFirstPoll = transformation.calls.get();
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+        assertThat(transformation.calls.get(), is(equalTo(transformationsOfFirstPoll)));
+
+        // once the interval has passed, the unchanged value is processed and the channels are updated again
+        Thread.sleep(200);
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers(1, 5, 3)));
+
+        assertThat(transformation.calls.get(), is(equalTo(2 * transformationsOfFirstPoll)));
+        waitForAssert(() -> assertEquals(List.of(new DecimalType(5), new DecimalType(5)),
+                getStateUpdates(getItemName(new ChannelUID(dataHandler.getThing().getUID(), CHANNEL_NUMBER)))));
+    }
+
     @Test
     public void testWriteWithDataAsChildOfEndpoint() throws InvalidSyntaxException {
         captureModbusWrites();